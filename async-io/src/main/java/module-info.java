@@ -12,5 +12,6 @@ module org.reactivetoolbox.io.async {
     exports org.reactivetoolbox.io.async.net.context;
     exports org.reactivetoolbox.io.async.net.lifecycle;
     exports org.reactivetoolbox.io.async.util;
+    exports org.reactivetoolbox.io.metrics;
     exports org.reactivetoolbox.io.scheduler;
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io;
+
+/**
+ * Counters related to the limit of in-flight operations of the {@link Proactor}.
+ * <p>
+ * Counters are updated only by the thread which owns {@link Proactor} instance, but can be read from any thread.
+ */
+public final class OverflowCounters {
+    private volatile long rejected;
+    private volatile long deferred;
+    private volatile long spilled;
+    private volatile int inFlight;
+    private volatile int peakInFlight;
+
+    OverflowCounters() {
+    }
+
+    /**
+     * Number of operations rejected because of the limit.
+     */
+    public long rejected() {
+        return rejected;
+    }
+
+    /**
+     * Number of operations which were postponed because of the limit.
+     */
+    public long deferred() {
+        return deferred;
+    }
+
+    /**
+     * Number of operations handed over to other workers because of the limit.
+     */
+    public long spilled() {
+        return spilled;
+    }
+
+    /**
+     * Number of operations queued for submission or submitted but not yet completed. Internal and multishot requests are not counted. Value
+     * is refreshed on every I/O processing cycle.
+     */
+    public int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Maximal observed number of in-flight operations.
+     */
+    public int peakInFlight() {
+        return peakInFlight;
+    }
+
+    void onReject() {
+        rejected++;
+    }
+
+    void onDefer() {
+        deferred++;
+    }
+
+    void onSpill() {
+        spilled++;
+    }
+
+    void inFlight(final int value) {
+        inFlight = value;
+
+        if (value > peakInFlight) {
+            peakInFlight = value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OverflowCounters(rejected: " + rejected + ", deferred: " + deferred + ", spilled: " + spilled
+               + ", in-flight: " + inFlight + ", peak: " + peakInFlight + ")";
+    }
+}
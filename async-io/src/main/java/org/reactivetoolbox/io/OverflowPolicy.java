@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io;
+
+/**
+ * Policy applied by {@link Proactor} to new operations once number of in-flight operations reaches configured limit.
+ *
+ * @see ProactorConfiguration.Properties#inFlightLimit
+ */
+public enum OverflowPolicy {
+    /**
+     * Operation is immediately completed with {@link NativeFailureType#EAGAIN}.
+     */
+    REJECT,
+    /**
+     * Operation is postponed and submitted in order of arrival once number of in-flight operations drops below limit. If number of
+     * postponed operations reaches {@link ProactorConfiguration.Properties#deferredLimit}, operation is rejected as with {@link #REJECT}.
+     */
+    DEFER,
+    /**
+     * Operation is handed over to another worker of the {@link org.reactivetoolbox.io.scheduler.TaskScheduler}. If there is no other
+     * worker or operation was already received from another worker, operation is deferred.
+     */
+    SPILL
+}
@@ -19,29 +19,54 @@ package org.reactivetoolbox.io;
 import org.reactivetoolbox.core.lang.functional.Option;
 import org.reactivetoolbox.core.lang.functional.Result;
 import org.reactivetoolbox.core.lang.functional.Unit;
+import org.reactivetoolbox.core.log.CoreLogger;
+import org.reactivetoolbox.core.meta.AppMetaRepository;
+import org.reactivetoolbox.io.Bitmask;
+import org.reactivetoolbox.io.async.ChainResult;
+import org.reactivetoolbox.io.async.OperationChain;
+import org.reactivetoolbox.io.async.Promise;
+import org.reactivetoolbox.io.async.impl.PromiseImpl;
 import org.reactivetoolbox.io.async.Submitter;
 import org.reactivetoolbox.io.async.common.OffsetT;
 import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.file.FallocateMode;
+import org.reactivetoolbox.io.async.file.FileAdvice;
 import org.reactivetoolbox.io.async.file.FileDescriptor;
 import org.reactivetoolbox.io.async.file.FilePermission;
 import org.reactivetoolbox.io.async.file.OpenFlags;
 import org.reactivetoolbox.io.async.file.SpliceDescriptor;
+import org.reactivetoolbox.io.async.file.SyncRangeFlags;
 import org.reactivetoolbox.io.async.file.stat.FileStat;
 import org.reactivetoolbox.io.async.file.stat.StatFlag;
 import org.reactivetoolbox.io.async.file.stat.StatMask;
 import org.reactivetoolbox.io.async.net.AddressFamily;
 import org.reactivetoolbox.io.async.net.ClientConnection;
+import org.reactivetoolbox.io.async.net.MessageFlags;
 import org.reactivetoolbox.io.async.net.SocketAddress;
 import org.reactivetoolbox.io.async.net.SocketFlag;
 import org.reactivetoolbox.io.async.net.SocketOption;
 import org.reactivetoolbox.io.async.net.SocketType;
 import org.reactivetoolbox.io.async.net.context.ServerContext;
+import org.reactivetoolbox.io.async.util.DatagramBatch;
+import org.reactivetoolbox.io.async.util.FixedBuffer;
+import org.reactivetoolbox.io.async.util.MemoryAdvice;
 import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
+import org.reactivetoolbox.io.metrics.MetricsSnapshot;
+import org.reactivetoolbox.io.metrics.ProactorMetrics;
+import org.reactivetoolbox.io.raw.RawMemory;
 import org.reactivetoolbox.io.scheduler.Timeout;
+import org.reactivetoolbox.io.scheduler.TimerWheel;
+import org.reactivetoolbox.io.uring.BufferGroup;
 import org.reactivetoolbox.io.uring.UringHolder;
 import org.reactivetoolbox.io.uring.UringSetupFlags;
+import org.reactivetoolbox.io.uring.UringSetupParams;
+import org.reactivetoolbox.io.uring.exchange.AbstractExchangeEntry;
+import org.reactivetoolbox.io.uring.exchange.BatchCompletion;
+import org.reactivetoolbox.io.uring.exchange.ChainCompletion;
 import org.reactivetoolbox.io.uring.exchange.ExchangeEntry;
 import org.reactivetoolbox.io.uring.exchange.ExchangeEntryFactory;
+import org.reactivetoolbox.io.uring.exchange.SegmentedCompletion;
 import org.reactivetoolbox.io.uring.struct.offheap.OffHeapCString;
 import org.reactivetoolbox.io.uring.struct.offheap.OffHeapIoVector;
 import org.reactivetoolbox.io.uring.struct.offheap.OffHeapSocketAddress;
@@ -53,8 +78,11 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
-import static org.reactivetoolbox.io.uring.UringHolder.DEFAULT_QUEUE_SIZE;
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_IO_HARDLINK;
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_IO_LINK;
 
 /**
  * Input/Output Proactor.
@@ -73,63 +101,464 @@ public class Proactor implements Submitter {
 
     private final UringHolder uringHolder;
     private final ObjectHeap<CompletionHandler> pendingCompletions;
-    private final Deque<ExchangeEntry> queue = new ArrayDeque<>();
-    private final ExchangeEntryFactory factory = new ExchangeEntryFactory();
+    private final Deque<ExchangeEntry<?>> queue = new ArrayDeque<>();
+    private final ExchangeEntryFactory factory;
+    private final Deque<DeferredOperation> deferred = new ArrayDeque<>();
+    private final OverflowCounters overflowCounters = new OverflowCounters();
+    private final OffHeapBuffer wakeupBuffer = OffHeapBuffer.fixedSize(Long.BYTES);
+    private BufferGroup bufferGroup;
+    private int inFlightLimit = 0;
+    private int deferredLimit = Integer.MAX_VALUE;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+    private Consumer<Consumer<Submitter>> spillHandler;
+    private Consumer<FileDescriptor> foreignFileHandler;
+    private boolean admitting = false;
+    private long internalSubmissions = 0;
+    private int worker = -1;
+    private boolean cancelByDescriptor = true;
+    private final TimerWheel timerWheel;
+    private boolean tickArmed = false;
+    private boolean wakeupArmed = false;
+    private boolean wakeupReadArmed = false;
+    private volatile boolean parked = false;
+    private BooleanSupplier pendingWorkProbe = () -> false;
+    private int lastCompletions = 0;
+    private ProactorMetrics metrics;
 
-    private Proactor(final UringHolder uringHolder) {
+    private Proactor(final UringHolder uringHolder, final Timeout timerTick) {
         this.uringHolder = uringHolder;
         pendingCompletions = ObjectHeap.objectHeap(uringHolder.numEntries());
+        factory = new ExchangeEntryFactory(uringHolder.id());
+        timerWheel = TimerWheel.timerWheel(timerTick);
     }
 
     public static Proactor proactor() {
-        return proactor(DEFAULT_QUEUE_SIZE, UringSetupFlags.defaultFlags());
+        return proactor(ProactorConfiguration.configuration());
     }
 
     public static Proactor proactor(final int queueSize) {
-        return proactor(queueSize, UringSetupFlags.defaultFlags());
+        return proactor(ProactorConfiguration.configuration()
+                                             .and(props -> props.queueSize = queueSize));
+    }
+
+    public static Proactor proactor(final ProactorConfiguration configuration) {
+        return configure(proactor(configuration.queueSize(), configuration.setupParams(), configuration.timerTick()), configuration);
+    }
+
+    /**
+     * Create proactor whose ring is attached to the ring of the specified proactor (IORING_SETUP_ATTACH_WQ). Kernels 5.6 to 5.11
+     * keep async worker pool per ring, so there attached rings share the pool of the owner. Starting from 5.12 worker pool belongs
+     * to the submitting thread, so rings used by different threads get separate pools regardless of this setting and attaching
+     * only lets the rings share submission queue poller thread, if it is enabled. If kernel refuses to attach the ring, proactor
+     * with its own ring setup is created.
+     *
+     * @param configuration
+     *         Proactor configuration
+     * @param workerPoolOwner
+     *         Proactor whose worker pool should be used
+     */
+    public static Proactor proactor(final ProactorConfiguration configuration, final Proactor workerPoolOwner) {
+        final var params = configuration.setupParams();
+        final var holder = UringHolder.create(configuration.queueSize(), params.withAttachWq(workerPoolOwner.ringFd()))
+                                      .or(() -> UringHolder.create(configuration.queueSize(), params))
+                                      .fold(f -> {
+                                                throw new IllegalStateException("Unable to initialize IO_URING interface: " + f.message());
+                                            },
+                                            h -> h);
+
+        return configure(new Proactor(holder, configuration.timerTick()), configuration);
+    }
+
+    private static Proactor configure(final Proactor proactor, final ProactorConfiguration configuration) {
+        if (configuration.collectMetrics()) {
+            proactor.enableMetrics();
+        }
+
+        proactor.inFlightLimit = Math.max(configuration.inFlightLimit(), 0);
+        proactor.overflowPolicy = configuration.overflowPolicy();
+        proactor.deferredLimit = Math.max(configuration.deferredLimit(), 0);
+
+        //Table of fixed files is an optimization, so proactor remains fully functional if table can't be registered
+        if (configuration.fixedFileCount() > 0) {
+            proactor.uringHolder.registerFiles(configuration.fixedFileCount());
+        }
+
+        if (configuration.fixedBufferCount() > 0) {
+            proactor.uringHolder.registerBuffers(configuration.fixedBufferCount(), configuration.fixedBufferSize())
+                                .onFailure(f -> {
+                                    proactor.close();
+                                    throw new IllegalStateException("Unable to register fixed buffers: " + f.message());
+                                });
+        }
+
+        if (configuration.providedBufferCount() > 0) {
+            proactor.uringHolder.createBufferGroup(configuration.providedBufferCount(), configuration.providedBufferSize())
+                                .onSuccess(proactor::provideBuffers)
+                                .onFailure(f -> {
+                                    proactor.close();
+                                    throw new IllegalStateException("Unable to create buffer group: " + f.message());
+                                });
+        }
+
+        return proactor;
     }
 
     static Proactor proactor(final int queueSize, final Set<UringSetupFlags> openFlags) {
-        return new Proactor(UringHolder.create(queueSize, openFlags)
+        return proactor(queueSize, UringSetupParams.setupParams(openFlags));
+    }
+
+    static Proactor proactor(final int queueSize, final UringSetupParams params) {
+        return proactor(queueSize, params, TimerWheel.DEFAULT_TICK);
+    }
+
+    private static Proactor proactor(final int queueSize, final UringSetupParams params, final Timeout timerTick) {
+        return new Proactor(UringHolder.create(queueSize, params)
                                        .fold(f -> {
-                                                 throw new IllegalStateException("Unable to initialize IO_URING interface");
+                                                 throw new IllegalStateException("Unable to initialize IO_URING interface: " + f.message());
                                              },
-                                             h -> h));
+                                             h -> h),
+                            timerTick);
+    }
+
+    /**
+     * File descriptor of the underlying ring.
+     */
+    public int ringFd() {
+        return uringHolder.ringFd();
+    }
+
+    /**
+     * Limit number of kernel async workers which serve requests submitted by the calling thread. Zero value leaves corresponding
+     * limit unchanged. Must be invoked from the thread which calls {@link #processIO()}.
+     *
+     * @param bounded
+     *         Limit for workers which handle requests with bounded execution time (for example, regular file I/O)
+     * @param unbounded
+     *         Limit for workers which handle requests which may block indefinitely (for example, socket I/O)
+     */
+    public Result<Unit> limitKernelWorkers(final int bounded, final int unbounded) {
+        return uringHolder.ioWqMaxWorkers(bounded, unbounded);
     }
 
     @Override
     public void close() {
         uringHolder.close();
         factory.clear();
+        wakeupBuffer.close();
     }
 
     /**
      * This method should be periodically called to perform submissions and handle completions to/from IO_URING.
      */
     public Proactor processIO() {
+        if (bufferGroup != null) {
+            returnProvidedBuffers();
+        }
+
+        if (!deferred.isEmpty()) {
+            admitDeferred();
+        }
+
         if (!queue.isEmpty()) {
             uringHolder.processSubmissions(queue);
         }
 
-        if (pendingCompletions.count() > 0) {
-            uringHolder.processCompletions(pendingCompletions, this);
+        lastCompletions = pendingCompletions.count() > 0
+                          ? uringHolder.processCompletions(pendingCompletions, this)
+                          : 0;
+
+        overflowCounters.inFlight(userInFlight());
+
+        if (metrics != null) {
+            metrics.occupancy(pendingCompletions.count(), queue.size());
+        }
+        return this;
+    }
+
+    /**
+     * Snapshot of collected metrics. Metrics are available only if collection is enabled in {@link ProactorConfiguration}. This method
+     * can be called from any thread.
+     */
+    public Option<MetricsSnapshot> metrics() {
+        final var current = metrics;
+
+        return current == null ? Option.empty() : Option.option(current.snapshot());
+    }
+
+    private void enableMetrics() {
+        metrics = ProactorMetrics.proactorMetrics();
+        uringHolder.metrics(metrics);
+    }
+
+    /**
+     * Number of completions handled during last call to {@link #processIO()}.
+     */
+    public int lastCompletions() {
+        return lastCompletions;
+    }
+
+    /**
+     * Block in kernel until at least one completion is available or specified time elapses, then handle available completions.
+     * <p>
+     * While this instance is blocked, other threads can wake it up with {@link #wakeup()}. Before blocking, probe set with
+     * {@link #pendingWorkProbe(BooleanSupplier)} is checked, so work submitted concurrently with the call is not missed.
+     */
+    public Proactor waitForCompletions(final Timeout maxWait) {
+        if (!wakeupArmed) {
+            wakeupArmed = true;
+            enqueue(internal(factory.forDelay(this::onWakeup, maxWait))
+                           .register(pendingCompletions));
+        }
+
+        if (!wakeupReadArmed) {
+            armWakeupRead();
+        }
+
+        parked = true;
+
+        //Either submitting thread sees parked flag and wakes up this instance, or this instance sees submitted work
+        if (pendingWorkProbe.getAsBoolean()) {
+            parked = false;
+            return processIO();
+        }
+
+        uringHolder.processSubmissions(queue, 1);
+        parked = false;
+
+        return processIO();
+    }
+
+    /**
+     * Wake up this instance if it is blocked in {@link #waitForCompletions(Timeout)}. This method can be called from any thread and
+     * has no effect if instance is not blocked.
+     */
+    public void wakeup() {
+        if (parked) {
+            uringHolder.wakeup();
         }
+    }
+
+    /**
+     * Set probe which is checked before blocking in {@link #waitForCompletions(Timeout)} and returns {@code true} if there is work submitted
+     * by other threads.
+     */
+    public Proactor pendingWorkProbe(final BooleanSupplier pendingWorkProbe) {
+        this.pendingWorkProbe = pendingWorkProbe;
         return this;
     }
 
+    //Read from event descriptor remains pending until other thread performs wakeup
+    private void armWakeupRead() {
+        uringHolder.wakeupDescriptor()
+                   .onSuccess(fd -> {
+                       wakeupReadArmed = true;
+                       enqueue(internal(factory.forRead(this::onWakeupRead, fd, wakeupBuffer.clear(), OffsetT.ZERO, Option.empty()))
+                                      .register(pendingCompletions));
+                   });
+    }
+
+    private void onWakeupRead(final Result<SizeT> result, final Submitter submitter) {
+        wakeupReadArmed = false;
+    }
+
+    private void onWakeup(final Result<Duration> result, final Submitter submitter) {
+        wakeupArmed = false;
+    }
+
+    /**
+     * Number of completions which were dropped because they did not correspond to any pending operation (for example, late completion
+     * of the operation which was already completed). Should be called only by the thread which calls {@link #processIO()}.
+     */
+    public long staleCompletions() {
+        return uringHolder.staleCompletions();
+    }
+
+    /**
+     * Counters related to the limit of in-flight operations.
+     */
+    public OverflowCounters overflowCounters() {
+        return overflowCounters;
+    }
+
+    /**
+     * Set handler which receives operations spilled by {@link OverflowPolicy#SPILL} policy. Handler is responsible for passing operation
+     * to another worker, which then should execute it via {@link #acceptSpilled(Consumer)}.
+     */
+    public Proactor spillHandler(final Consumer<Consumer<Submitter>> spillHandler) {
+        this.spillHandler = spillHandler;
+        return this;
+    }
+
+    /**
+     * Set handler which receives fixed file descriptors registered in the ring of other instance, once they are closed or unregistered via
+     * this instance. Handler is responsible for passing descriptor to the instance which owns the ring, which then should unregister it
+     * via {@link #unregisterFile(FileDescriptor)}. Without handler such descriptors are rejected with
+     * {@link NativeFailureType#EXDEV}.
+     */
+    public Proactor foreignFileHandler(final Consumer<FileDescriptor> foreignFileHandler) {
+        this.foreignFileHandler = foreignFileHandler;
+        return this;
+    }
+
+    /**
+     * Set index of the scheduler worker which owns this instance. Promises resolved by operations submitted via this instance then route
+     * cancellation requests to this worker.
+     */
+    public Proactor worker(final int worker) {
+        this.worker = worker;
+        return this;
+    }
+
+    /**
+     * Identifier of the ring used by this instance. Fixed file descriptors carry identifier of the ring where they are registered.
+     */
+    public int ringId() {
+        return uringHolder.id();
+    }
+
+    /**
+     * Execute operation spilled by another instance. If this instance is also overloaded, operation is deferred rather than spilled again.
+     */
+    public void acceptSpilled(final Consumer<Submitter> action) {
+        final var savedHandler = spillHandler;
+
+        spillHandler = null;
+        try {
+            action.accept(this);
+        } finally {
+            spillHandler = savedHandler;
+        }
+    }
+
+    //Checked before action for overflow policy is created, so operations are not slowed down when limit is not configured
+    private boolean limited() {
+        return inFlightLimit != 0 && !admitting;
+    }
+
+    private <T> boolean overflow(final BiConsumer<Result<T>, Submitter> completion, final Consumer<Submitter> action) {
+        return overflow(completion, 1, action);
+    }
+
+    /**
+     * Check if new operation can be accepted and apply overflow policy if it can't. Should be invoked only if {@link #limited()}
+     * returns {@code true}.
+     *
+     * @param operations
+     *         Number of requests submitted by the operation, each of them is counted as in-flight operation
+     * @return {@code true} if operation was handled by overflow policy and must not be submitted.
+     */
+    private <T> boolean overflow(final BiConsumer<Result<T>, Submitter> completion, final int operations, final Consumer<Submitter> action) {
+        //Once some operations are deferred, new ones are queued after them to preserve order
+        if (fits(operations) && deferred.isEmpty()) {
+            return false;
+        }
+
+        switch (overflowPolicy) {
+            case REJECT -> reject(completion);
+            case SPILL -> {
+                if (spillHandler != null) {
+                    overflowCounters.onSpill();
+                    spillHandler.accept(action);
+                } else {
+                    defer(completion, operations, action);
+                }
+            }
+            case DEFER -> defer(completion, operations, action);
+        }
+        return true;
+    }
+
+    //Operation which submits more requests than limit allows is accepted once there are no other operations in flight
+    private boolean fits(final int operations) {
+        return userInFlight() + Math.min(operations, inFlightLimit) <= inFlightLimit;
+    }
+
+    //Internal requests occupy slots in pending completions, but are not counted as in-flight operations
+    private int userInFlight() {
+        return pendingCompletions.count() - (int) (internalSubmissions - uringHolder.internalCompletions());
+    }
+
+    private <T extends AbstractExchangeEntry<T, ?>> T internal(final T entry) {
+        internalSubmissions++;
+        return entry.internal(true);
+    }
+
+    private <T> void reject(final BiConsumer<Result<T>, Submitter> completion) {
+        overflowCounters.onReject();
+        completion.accept(NativeFailureType.EAGAIN.asResult(), this);
+    }
+
+    //Queue of deferred operations is bounded, once it is full operations are rejected as with REJECT policy
+    private <T> void defer(final BiConsumer<Result<T>, Submitter> completion, final int operations, final Consumer<Submitter> action) {
+        if (deferred.size() >= deferredLimit) {
+            reject(completion);
+            return;
+        }
+
+        overflowCounters.onDefer();
+        deferred.add(new DeferredOperation(operations, action));
+    }
+
+    private void admitDeferred() {
+        admitting = true;
+        try {
+            while (!deferred.isEmpty() && fits(deferred.peekFirst().operations())) {
+                deferred.removeFirst().action().accept(this);
+            }
+        } finally {
+            admitting = false;
+        }
+    }
+
     @Override
     public void nop(final BiConsumer<Result<Unit>, Submitter> completion) {
 
-        queue.add(factory.forNop(completion)
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.nop(completion))) {
+            return;
+        }
+
+        enqueue(factory.forNop(completion)
+                       .register(pendingCompletions));
     }
 
     @Override
     public void delay(final BiConsumer<Result<Duration>, Submitter> completion,
                       final Timeout timeout) {
 
-        queue.add(factory.forDelay(completion, timeout)
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.delay(completion, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forDelay(completion, timeout)
+                       .register(pendingCompletions));
+    }
+
+    @Override
+    public TimerWheel.Timer schedule(final Timeout timeout, final Consumer<Submitter> action) {
+        final var timer = timerWheel.schedule(timeout, action);
+
+        armTick();
+        return timer;
+    }
+
+    //Single kernel timeout drives all timers of the wheel, it is re-armed while there are active timers
+    private void armTick() {
+        if (tickArmed) {
+            return;
+        }
+
+        tickArmed = true;
+        enqueue(internal(factory.forDelay(this::onTick, timerWheel.tick()))
+                       .register(pendingCompletions));
+    }
+
+    private void onTick(final Result<Duration> result, final Submitter submitter) {
+        tickArmed = false;
+        timerWheel.advance(this);
+
+        if (timerWheel.size() > 0) {
+            armTick();
+        }
     }
 
     @Override
@@ -137,12 +566,56 @@ public class Proactor implements Submitter {
                                     final FileDescriptor fd,
                                     final Option<Timeout> timeout) {
 
-        queue.add(factory.forClose(completion, fd, timeout)
-                         .register(pendingCompletions));
+        //File opened directly into the table of fixed files is closed by the slot index, slot is released once file is closed
+        if (fd.isDirect()) {
+            enqueue(factory.forClose(releaseAfterClose(completion, fd), fd, timeout)
+                           .register(pendingCompletions));
+
+            timeout.whenPresent(this::appendTimeout);
+            return;
+        }
+
+        //Descriptor must be removed from table of fixed files, otherwise ring keeps reference to the file and it remains open
+        if (fd.isFixed()) {
+            releaseFixed(fd);
+        }
+
+        //Pending requests are cancelled first, hard link ensures that descriptor is closed even if cancellation fails
+        if (cancelByDescriptor && pendingOn(fd.descriptor())) {
+            enqueue(internal(factory.forCancelAll(this::onCancelAll, fd, IOSQE_IO_HARDLINK))
+                           .register(pendingCompletions));
+        }
+
+        enqueue(factory.forClose(completion, fd, timeout)
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
 
+    @Override
+    public void cancel(final BiConsumer<Result<Unit>, Submitter> completion,
+                       final Promise<?> target) {
+
+        //Key is recorded by the promise when operation is registered, slot may be already reused by other operation
+        final long key = target instanceof PromiseImpl<?> promise ? promise.operationKey() : -1L;
+
+        if (!(pendingCompletions.get(key) instanceof AbstractExchangeEntry<?, ?> entry && entry.resolves(target))) {
+            completion.accept(NativeFailureType.ENOENT.asResult(), this);
+            return;
+        }
+
+        enqueue(factory.forCancel(completion, key)
+                       .register(pendingCompletions));
+    }
+
+    @Override
+    public void cancelAll(final BiConsumer<Result<SizeT>, Submitter> completion,
+                          final FileDescriptor fd) {
+
+        enqueue(factory.forCancelAll(completion, fd, (byte) 0)
+                       .register(pendingCompletions));
+    }
+
     @Override
     public void read(final BiConsumer<Result<SizeT>, Submitter> completion,
                      final FileDescriptor fd,
@@ -150,8 +623,12 @@ public class Proactor implements Submitter {
                      final OffsetT offset,
                      final Option<Timeout> timeout) {
 
-        queue.add(factory.forRead(completion, fd, buffer, offset, timeout)
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.read(completion, fd, buffer, offset, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forRead(completion, fd, buffer, offset, timeout)
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
@@ -163,24 +640,253 @@ public class Proactor implements Submitter {
                       final OffsetT offset,
                       final Option<Timeout> timeout) {
 
+        if (limited() && overflow(completion, submitter -> submitter.write(completion, fd, buffer, offset, timeout))) {
+            return;
+        }
+
         if (buffer.used() == 0) {
             completion.accept(NativeFailureType.ENODATA.asResult(), this);
             return;
         }
 
-        queue.add(factory.forWrite(completion, fd, buffer, offset, timeout)
-                         .register(pendingCompletions));
+        enqueue(factory.forWrite(completion, fd, buffer, offset, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void fsync(final BiConsumer<Result<Unit>, Submitter> completion,
+                      final FileDescriptor fd,
+                      final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.fsync(completion, fd, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forFsync(completion, fd, false, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void fdatasync(final BiConsumer<Result<Unit>, Submitter> completion,
+                          final FileDescriptor fd,
+                          final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.fdatasync(completion, fd, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forFsync(completion, fd, true, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void syncFileRange(final BiConsumer<Result<Unit>, Submitter> completion,
+                              final FileDescriptor fd,
+                              final OffsetT offset,
+                              final SizeT length,
+                              final Set<SyncRangeFlags> syncFlags,
+                              final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.syncFileRange(completion, fd, offset, length, syncFlags, timeout))) {
+            return;
+        }
+
+        //Length of the range is passed to kernel as 32-bit value
+        if (length.value() > Integer.MAX_VALUE) {
+            completion.accept(NativeFailureType.EINVAL.asResult(), this);
+            return;
+        }
+
+        enqueue(factory.forSyncFileRange(completion, fd, offset, length, syncFlags, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void fallocate(final BiConsumer<Result<Unit>, Submitter> completion,
+                          final FileDescriptor fd,
+                          final Set<FallocateMode> mode,
+                          final OffsetT offset,
+                          final SizeT length,
+                          final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.fallocate(completion, fd, mode, offset, length, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forFallocate(completion, fd, mode, offset, length, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void fadvise(final BiConsumer<Result<Unit>, Submitter> completion,
+                        final FileDescriptor fd,
+                        final OffsetT offset,
+                        final SizeT length,
+                        final FileAdvice advice,
+                        final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.fadvise(completion, fd, offset, length, advice, timeout))) {
+            return;
+        }
+
+        //Length of the range is passed to kernel as 32-bit value
+        if (length.value() > Integer.MAX_VALUE) {
+            completion.accept(NativeFailureType.EINVAL.asResult(), this);
+            return;
+        }
+
+        enqueue(factory.forFadvise(completion, fd, offset, length, advice, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void madvise(final BiConsumer<Result<Unit>, Submitter> completion,
+                        final OffHeapBuffer buffer,
+                        final MemoryAdvice advice,
+                        final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.madvise(completion, buffer, advice, timeout))) {
+            return;
+        }
+
+        //Kernel requires page-aligned range, so advice is applied to the whole pages within the buffer. Since advice is just a hint,
+        //buffer which contains no whole page is not reported as an error.
+        final long pageMask = RawMemory.pageSize() - 1L;
+        final long start = (buffer.address() + pageMask) & ~pageMask;
+        final long end = (buffer.address() + buffer.size()) & ~pageMask;
+
+        if (end <= start) {
+            completion.accept(AbstractExchangeEntry.UNIT_RESULT, this);
+            return;
+        }
+
+        enqueue(factory.forMadvise(completion, start, (int) (end - start), advice, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void send(final BiConsumer<Result<SizeT>, Submitter> completion,
+                     final FileDescriptor socket,
+                     final OffHeapBuffer buffer,
+                     final Set<MessageFlags> msgFlags,
+                     final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.send(completion, socket, buffer, msgFlags, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forSend(completion, socket, buffer, msgFlags, timeout)
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
 
+    @Override
+    public void recv(final BiConsumer<Result<SizeT>, Submitter> completion,
+                     final FileDescriptor socket,
+                     final OffHeapBuffer buffer,
+                     final Set<MessageFlags> msgFlags,
+                     final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.recv(completion, socket, buffer, msgFlags, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forRecv(completion, socket, buffer, msgFlags, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void sendBatch(final BiConsumer<Result<SizeT>, Submitter> completion,
+                          final FileDescriptor socket,
+                          final DatagramBatch batch,
+                          final Set<MessageFlags> msgFlags) {
+
+        if (limited() && overflow(completion, batch.used(), submitter -> submitter.sendBatch(completion, socket, batch, msgFlags))) {
+            return;
+        }
+
+        if (batch.used() == 0) {
+            completion.accept(Result.ok(SizeT.ZERO), this);
+            return;
+        }
+
+        final var batchCompletion = BatchCompletion.batchCompletion(completion, batch.used());
+        final var flags = Bitmask.combine(msgFlags);
+
+        for (int i = 0; i < batch.used(); i++) {
+            enqueue(factory.forSendMsg(batchCompletion, socket, batch, i, flags)
+                           .register(pendingCompletions));
+        }
+    }
+
+    @Override
+    public void receiveBatch(final BiConsumer<Result<SizeT>, Submitter> completion,
+                             final FileDescriptor socket,
+                             final DatagramBatch batch,
+                             final Set<MessageFlags> msgFlags,
+                             final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, batch.count(), submitter -> submitter.receiveBatch(completion, socket, batch, msgFlags, timeout))) {
+            return;
+        }
+
+        final var hasTimeout = !timeout.equals(Option.empty());
+
+        //Linked requests (including linked timeout) must fit into submission queue, otherwise links will be broken
+        if (batch.count() + (hasTimeout ? 1 : 0) > uringHolder.numEntries()) {
+            completion.accept(NativeFailureType.EINVAL.asResult(), this);
+            return;
+        }
+
+        batch.prepareForReceive();
+
+        //First request waits for incoming datagram, remaining ones pick up already queued datagrams without blocking.
+        //First EAGAIN breaks the chain, so received datagrams always occupy the beginning of the batch.
+        final var batchCompletion = BatchCompletion.batchCompletion(completion, batch.count());
+        final var flags = Bitmask.combine(msgFlags);
+        final var nonBlockingFlags = flags | MessageFlags.DONTWAIT.mask();
+        final var last = batch.count() - 1;
+
+        for (int i = 0; i <= last; i++) {
+            final byte linkFlags = (i < last || (i == 0 && hasTimeout)) ? IOSQE_IO_LINK : 0;
+
+            enqueue(factory.forRecvMsg(batchCompletion, socket, batch, i, i == 0 ? flags : nonBlockingFlags, linkFlags)
+                           .register(pendingCompletions));
+
+            if (i == 0) {
+                timeout.whenPresent(t -> appendTimeout(t, last > 0));
+            }
+        }
+    }
+
     @Override
     public void splice(final BiConsumer<Result<SizeT>, Submitter> completion,
                        final SpliceDescriptor descriptor,
                        final Option<Timeout> timeout) {
 
-        queue.add(factory.forSplice(completion, descriptor, timeout)
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.splice(completion, descriptor, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forSplice(completion, descriptor, timeout)
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
@@ -192,8 +898,12 @@ public class Proactor implements Submitter {
                      final Set<FilePermission> mode,
                      final Option<Timeout> timeout) {
 
-        queue.add(factory.forOpen(completion, path, flags, mode, timeout)
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.open(completion, path, flags, mode, timeout))) {
+            return;
+        }
+
+        enqueue(factory.forOpen(completion, path, flags, mode, timeout)
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
@@ -204,8 +914,13 @@ public class Proactor implements Submitter {
                        final SocketType socketType,
                        final Set<SocketFlag> openFlags,
                        final Set<SocketOption> options) {
-        queue.add(factory.forSocket(completion, addressFamily, socketType, openFlags, options)
-                         .register(pendingCompletions));
+
+        if (limited() && overflow(completion, submitter -> submitter.socket(completion, addressFamily, socketType, openFlags, options))) {
+            return;
+        }
+
+        enqueue(factory.forSocket(completion, addressFamily, socketType, openFlags, options)
+                       .register(pendingCompletions));
     }
 
     @Override
@@ -216,8 +931,12 @@ public class Proactor implements Submitter {
                        final SizeT queueDepth,
                        final Set<SocketOption> options) {
 
-        queue.add(factory.forServer(completion, socketAddress, socketType, openFlags, queueDepth, options)
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.server(completion, socketAddress, socketType, openFlags, queueDepth, options))) {
+            return;
+        }
+
+        enqueue(factory.forServer(completion, socketAddress, socketType, openFlags, queueDepth, options)
+                       .register(pendingCompletions));
     }
 
     @Override
@@ -225,8 +944,23 @@ public class Proactor implements Submitter {
                        final FileDescriptor socket,
                        final Set<SocketFlag> flags) {
 
-        queue.add(factory.forAccept(completion, socket, flags)
-                         .register(pendingCompletions));
+        enqueue(factory.forAccept(completion, socket, flags)
+                       .register(pendingCompletions));
+    }
+
+    @Override
+    public void acceptMultishot(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
+                                final Promise<Unit> stop,
+                                final FileDescriptor socket,
+                                final Set<SocketFlag> flags) {
+
+        if (stop.isResolved()) {
+            completion.accept(NativeFailureType.ECANCELED.asResult(), this);
+            return;
+        }
+
+        enqueue(internal(factory.forMultishotAccept(completion, stop, socket, flags))
+                       .register(pendingCompletions));
     }
 
     @Override
@@ -234,6 +968,11 @@ public class Proactor implements Submitter {
                         final FileDescriptor socket,
                         final SocketAddress<?> address,
                         final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.connect(completion, socket, address, timeout))) {
+            return;
+        }
+
         final var clientAddress = OffHeapSocketAddress.unsafeSocketAddress(address);
 
         if (clientAddress == null) {
@@ -241,8 +980,8 @@ public class Proactor implements Submitter {
             return;
         }
 
-        queue.add(factory.forConnect(completion, socket, clientAddress, timeout)
-                         .register(pendingCompletions));
+        enqueue(factory.forConnect(completion, socket, clientAddress, timeout)
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
@@ -254,13 +993,17 @@ public class Proactor implements Submitter {
                      final Set<StatMask> mask,
                      final Option<Timeout> timeout) {
 
+        if (limited() && overflow(completion, submitter -> submitter.stat(completion, path, flags, mask, timeout))) {
+            return;
+        }
+
         //Reset EMPTY_PATH and force use the path.
-        queue.add(factory.forStat(completion,
-                                  AT_FDCWD,
-                                  Bitmask.combine(flags) & ~StatFlag.EMPTY_PATH.mask(),
-                                  Bitmask.combine(mask),
-                                  OffHeapCString.cstring(path.toString()))
-                         .register(pendingCompletions));
+        enqueue(factory.forStat(completion,
+                                AT_FDCWD,
+                                Bitmask.combine(flags) & ~StatFlag.EMPTY_PATH.mask(),
+                                Bitmask.combine(mask),
+                                OffHeapCString.cstring(path.toString()))
+                       .register(pendingCompletions));
         timeout.whenPresent(this::appendTimeout);
     }
 
@@ -271,13 +1014,17 @@ public class Proactor implements Submitter {
                      final Set<StatMask> mask,
                      final Option<Timeout> timeout) {
 
+        if (limited() && overflow(completion, submitter -> submitter.stat(completion, fd, flags, mask, timeout))) {
+            return;
+        }
+
         //Set EMPTY_PATH and force use of file descriptor.
-        queue.add(factory.forStat(completion,
-                                  fd.descriptor(),
-                                  Bitmask.combine(flags) | StatFlag.EMPTY_PATH.mask(),
-                                  Bitmask.combine(mask),
-                                  OffHeapCString.cstring(""))
-                         .register(pendingCompletions));
+        enqueue(factory.forStat(completion,
+                                fd.descriptor(),
+                                Bitmask.combine(flags) | StatFlag.EMPTY_PATH.mask(),
+                                Bitmask.combine(mask),
+                                OffHeapCString.cstring(""))
+                       .register(pendingCompletions));
         timeout.whenPresent(this::appendTimeout);
     }
 
@@ -288,8 +1035,12 @@ public class Proactor implements Submitter {
                            final Option<Timeout> timeout,
                            final OffHeapBuffer... buffers) {
 
-        queue.add(factory.forReadVector(completion, fileDescriptor, offset, timeout, OffHeapIoVector.withBuffers(buffers))
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.readVector(completion, fileDescriptor, offset, timeout, buffers))) {
+            return;
+        }
+
+        enqueue(factory.forReadVector(completion, fileDescriptor, offset, timeout, OffHeapIoVector.withBuffers(buffers))
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
@@ -301,14 +1052,375 @@ public class Proactor implements Submitter {
                             final Option<Timeout> timeout,
                             final OffHeapBuffer... buffers) {
 
-        queue.add(factory.forWriteVector(completion, fileDescriptor, offset, timeout, OffHeapIoVector.withBuffers(buffers))
-                         .register(pendingCompletions));
+        if (limited() && overflow(completion, submitter -> submitter.writeVector(completion, fileDescriptor, offset, timeout, buffers))) {
+            return;
+        }
+
+        enqueue(factory.forWriteVector(completion, fileDescriptor, offset, timeout, OffHeapIoVector.withBuffers(buffers))
+                       .register(pendingCompletions));
 
         timeout.whenPresent(this::appendTimeout);
     }
 
+    @Override
+    public void readProvided(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                             final FileDescriptor fd,
+                             final OffsetT offset,
+                             final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.readProvided(completion, fd, offset, timeout))) {
+            return;
+        }
+
+        if (bufferGroup == null) {
+            completion.accept(NativeFailureType.ENOBUFS.asResult(), this);
+            return;
+        }
+
+        enqueue(factory.forReadProvided(completion, fd, bufferGroup, offset, timeout)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void receiveMultishot(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                                 final Promise<Unit> stop,
+                                 final FileDescriptor socket) {
+
+        //Multishot request is not counted as in-flight operation, so neither initial request nor re-arms are subject to overflow policy
+        if (bufferGroup == null) {
+            completion.accept(NativeFailureType.ENOBUFS.asResult(), this);
+            stop.syncResolve(NativeFailureType.ENOBUFS.asResult(), this);
+            return;
+        }
+
+        if (stop.isResolved()) {
+            completion.accept(NativeFailureType.ECANCELED.asResult(), this);
+            return;
+        }
+
+        enqueue(internal(factory.forRecvMultishot(completion, stop, socket, bufferGroup))
+                       .register(pendingCompletions));
+    }
+
+    @Override
+    public Result<FileDescriptor> registerFile(final FileDescriptor fd) {
+        return uringHolder.registerFile(fd);
+    }
+
+    @Override
+    public Result<FileDescriptor> unregisterFile(final FileDescriptor fd) {
+        return releaseFixed(fd);
+    }
+
+    //Slot of the descriptor registered in the ring of other instance is released by the thread which owns that ring
+    private Result<FileDescriptor> releaseFixed(final FileDescriptor fd) {
+        if (!fd.isFixed() || fd.isFixedIn(uringHolder.id()) || foreignFileHandler == null) {
+            return uringHolder.unregisterFile(fd);
+        }
+
+        foreignFileHandler.accept(fd);
+        return Result.ok(fd.plain());
+    }
+
+    @Override
+    public Option<FixedBuffer> fixedBuffer() {
+        return uringHolder.fixedBuffer();
+    }
+
+    @Override
+    public void readFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                          final FileDescriptor fd,
+                          final FixedBuffer buffer,
+                          final OffsetT offset,
+                          final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.readFixed(completion, fd, buffer, offset, timeout))) {
+            return;
+        }
+
+        //Buffer registered with another ring can't be used as fixed buffer here
+        if (!uringHolder.isFixedBuffer(buffer)) {
+            read(completion, fd, buffer, offset, timeout);
+            return;
+        }
+
+        enqueue(factory.forReadFixed(completion, fd, buffer, buffer.size(), offset.value(), timeout, false)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void writeFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                           final FileDescriptor fd,
+                           final FixedBuffer buffer,
+                           final OffsetT offset,
+                           final Option<Timeout> timeout) {
+
+        if (limited() && overflow(completion, submitter -> submitter.writeFixed(completion, fd, buffer, offset, timeout))) {
+            return;
+        }
+
+        if (!uringHolder.isFixedBuffer(buffer)) {
+            write(completion, fd, buffer, offset, timeout);
+            return;
+        }
+
+        if (buffer.used() == 0) {
+            completion.accept(NativeFailureType.ENODATA.asResult(), this);
+            return;
+        }
+
+        enqueue(factory.forWriteFixed(completion, fd, buffer, offset.value(), timeout, false)
+                       .register(pendingCompletions));
+
+        timeout.whenPresent(this::appendTimeout);
+    }
+
+    @Override
+    public void readVectorFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                final FileDescriptor fileDescriptor,
+                                final OffsetT offset,
+                                final Option<Timeout> timeout,
+                                final FixedBuffer... buffers) {
+
+        if (limited() && overflow(completion, submitter -> submitter.readVectorFixed(completion, fileDescriptor, offset, timeout, buffers))) {
+            return;
+        }
+
+        //Chain which does not fit into submission queue is replaced with single vectored request
+        if (!allFixed(buffers) || !chainFits(buffers, timeout)) {
+            readVector(completion, fileDescriptor, offset, timeout, buffers);
+            return;
+        }
+
+        //There is no vectored fixed read, so buffers are read by the chain of linked READ_FIXED operations
+        final var segmented = SegmentedCompletion.segmented(completion, buffers.length);
+        long position = offset.value();
+
+        for (int i = 0; i < buffers.length; i++) {
+            final var linked = i < buffers.length - 1;
+
+            enqueue(factory.forReadFixed(segmented, fileDescriptor, buffers[i], buffers[i].used(), position, timeout, linked)
+                           .register(pendingCompletions));
+
+            timeout.whenPresent(t -> appendTimeout(t, linked));
+            position = nextPosition(position, buffers[i]);
+        }
+    }
+
+    @Override
+    public void writeVectorFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                 final FileDescriptor fileDescriptor,
+                                 final OffsetT offset,
+                                 final Option<Timeout> timeout,
+                                 final FixedBuffer... buffers) {
+
+        if (limited() && overflow(completion, submitter -> submitter.writeVectorFixed(completion, fileDescriptor, offset, timeout, buffers))) {
+            return;
+        }
+
+        if (!allFixed(buffers) || !chainFits(buffers, timeout)) {
+            writeVector(completion, fileDescriptor, offset, timeout, buffers);
+            return;
+        }
+
+        final var segmented = SegmentedCompletion.segmented(completion, buffers.length);
+        long position = offset.value();
+
+        for (int i = 0; i < buffers.length; i++) {
+            final var linked = i < buffers.length - 1;
+
+            enqueue(factory.forWriteFixed(segmented, fileDescriptor, buffers[i], position, timeout, linked)
+                           .register(pendingCompletions));
+
+            timeout.whenPresent(t -> appendTimeout(t, linked));
+            position = nextPosition(position, buffers[i]);
+        }
+    }
+
+    @Override
+    public void submitChain(final BiConsumer<Result<ChainResult>, Submitter> completion,
+                            final OperationChain chain) {
+
+        if (limited() && overflow(completion, submitter -> submitter.submitChain(completion, chain))) {
+            return;
+        }
+
+        //Chain must fit into submission queue, otherwise it will be split between submissions and links will be broken
+        if (chain.size() == 0 || chain.size() > uringHolder.numEntries() || !chain.isValid()) {
+            completion.accept(NativeFailureType.EINVAL.asResult(), this);
+            return;
+        }
+
+        if (!chain.opensFile()) {
+            enqueueChain(completion, chain, null);
+            return;
+        }
+
+        //File is opened directly into the table of fixed files, so following steps can refer it before it is actually opened
+        uringHolder.reserveFile()
+                   .onSuccess(opened -> enqueueChain(releaseUnopened(completion, chain, opened), chain, opened))
+                   .onFailure(failure -> completion.accept(Result.fail(failure), this));
+    }
+
+    private void enqueueChain(final BiConsumer<Result<ChainResult>, Submitter> completion,
+                              final OperationChain chain,
+                              final FileDescriptor opened) {
+        final var chainCompletion = ChainCompletion.chainCompletion(completion, chain.size());
+        final var linkFlags = chain.isHardLinked() ? IOSQE_IO_HARDLINK : IOSQE_IO_LINK;
+        final var steps = chain.steps();
+
+        for (int i = 0; i < steps.size(); i++) {
+            final var step = steps.get(i);
+            final var fd = step.fd() == OperationChain.OPENED ? opened : step.fd();
+
+            //Failure of the step preceding close does not cancel close
+            final byte flags = i == steps.size() - 1 ? 0
+                               : steps.get(i + 1).type() == OperationChain.StepType.CLOSE ? IOSQE_IO_HARDLINK
+                               : linkFlags;
+
+            enqueue(chainEntry(step, fd, chainCompletion, i, flags).register(pendingCompletions));
+        }
+    }
+
+    private ExchangeEntry<?> chainEntry(final OperationChain.Step step,
+                                        final FileDescriptor fd,
+                                        final ChainCompletion chainCompletion,
+                                        final int index,
+                                        final byte flags) {
+        return switch (step.type()) {
+            case NOP -> factory.forNop(chainCompletion.step(index), flags);
+            case OPEN -> factory.forOpen(chainCompletion.step(index), step.open().path(), step.open().flags(), step.open().mode(), fd, flags);
+            case READ -> factory.forRead(chainCompletion.step(index), fd, step.buffer(), step.offset(), flags);
+            case WRITE -> factory.forWrite(chainCompletion.step(index), fd, step.buffer(), step.offset(), flags);
+            case SEND -> factory.forSend(chainCompletion.step(index), fd, step.buffer(), step.msgFlags(), flags);
+            case RECV -> factory.forRecv(chainCompletion.step(index), fd, step.buffer(), step.msgFlags(), flags);
+            case FSYNC -> factory.forFsync(chainCompletion.step(index), fd, false, flags);
+            case FDATASYNC -> factory.forFsync(chainCompletion.step(index), fd, true, flags);
+            case CLOSE -> factory.forClose(closeStep(chainCompletion.step(index), fd), fd, flags);
+        };
+    }
+
+    //Close step still may be cancelled by the failure of earlier soft-linked step, then descriptor is closed by separate request
+    private BiConsumer<Result<Unit>, Submitter> closeStep(final BiConsumer<Result<Unit>, Submitter> completion,
+                                                          final FileDescriptor fd) {
+        final var afterClose = releaseAfterClose(completion, fd);
+
+        return (result, submitter) -> {
+            if (result.equals(NativeFailureType.ECANCELED.asResult())) {
+                submitter.closeFileDescriptor(completion, fd, Option.empty());
+                return;
+            }
+            afterClose.accept(result, submitter);
+        };
+    }
+
+    //Fixed slot can be released only after descriptor is closed, since previous operations still may use it
+    private BiConsumer<Result<Unit>, Submitter> releaseAfterClose(final BiConsumer<Result<Unit>, Submitter> completion,
+                                                                  final FileDescriptor fd) {
+        if (!fd.isFixed()) {
+            return completion;
+        }
+
+        return (result, submitter) -> {
+            releaseFixed(fd);
+            completion.accept(result, submitter);
+        };
+    }
+
+    //Slot reserved for the file which chain failed to open is released once whole chain is finished, unless chain closes file itself
+    private BiConsumer<Result<ChainResult>, Submitter> releaseUnopened(final BiConsumer<Result<ChainResult>, Submitter> completion,
+                                                                       final OperationChain chain,
+                                                                       final FileDescriptor opened) {
+        if (chain.closesOpened()) {
+            return completion;
+        }
+
+        final int openIndex = chain.openIndex();
+
+        return (result, submitter) -> {
+            result.onSuccess(chainResult -> chainResult.step(openIndex).onFailure($ -> releaseFixed(opened)));
+            completion.accept(result, submitter);
+        };
+    }
+
+    private void provideBuffers(final BufferGroup group) {
+        bufferGroup = group;
+        enqueue(internal(factory.forProvideBuffers(this::onBuffersProvided, group))
+                       .register(pendingCompletions));
+    }
+
+    //Entries which are not placed into submission queue yet have no descriptor, so they are treated as possibly using it
+    private boolean pendingOn(final int descriptor) {
+        return pendingCompletions.anyMatch(handler -> handler instanceof ExchangeEntry<?> entry
+                                                      && (entry.descriptor() == descriptor || entry.descriptor() == -1));
+    }
+
+    //Cancellation by descriptor is available since Linux 5.19, older kernels reject it with EINVAL, so it is not attempted anymore
+    private void onCancelAll(final Result<SizeT> result, final Submitter submitter) {
+        result.onFailure(failure -> {
+            if (failure.equals(NativeFailureType.EINVAL.asFailure())) {
+                cancelByDescriptor = false;
+            }
+        });
+    }
+
+    //Buffers which kernel refused to accept are not available for buffer selection, so later reads fail with ENOBUFS
+    private void onBuffersProvided(final Result<Unit> result, final Submitter submitter) {
+        result.onFailure(failure -> AppMetaRepository.instance()
+                                                     .get(CoreLogger.class)
+                                                     .warn("Unable to provide buffers to the kernel: {0}", failure.message()));
+    }
+
+    // Buffers released by application (possibly from other threads) are given back to kernel
+    private void returnProvidedBuffers() {
+        for (var buffer = bufferGroup.nextReleased(); buffer != null; buffer = bufferGroup.nextReleased()) {
+            enqueue(internal(factory.forProvideBuffer(this::onBuffersProvided, bufferGroup, buffer))
+                           .register(pendingCompletions));
+        }
+    }
+
+    private boolean chainFits(final FixedBuffer[] buffers, final Option<Timeout> timeout) {
+        return buffers.length * (timeout.equals(Option.empty()) ? 1 : 2) <= uringHolder.numEntries();
+    }
+
+    private boolean allFixed(final FixedBuffer[] buffers) {
+        for (final var buffer : buffers) {
+            if (!uringHolder.isFixedBuffer(buffer)) {
+                return false;
+            }
+        }
+        return buffers.length > 0;
+    }
+
+    // Negative offset means "use current file position", it should be passed to every segment as is
+    private static long nextPosition(final long position, final OffHeapBuffer buffer) {
+        return position < 0 ? position : position + buffer.used();
+    }
+
     private void appendTimeout(final Timeout timeout) {
-        queue.add(factory.forTimeout(timeout)
-                         .register(pendingCompletions));
+        enqueue(internal(factory.forTimeout(timeout))
+                       .register(pendingCompletions));
+    }
+
+    private void appendTimeout(final Timeout timeout, final boolean linked) {
+        enqueue(internal(factory.forTimeout(timeout, linked))
+                       .register(pendingCompletions));
+    }
+
+    //Entries are stamped with the time of queueing, so time spent in the queue can be measured upon submission
+    private void enqueue(final ExchangeEntry<?> entry) {
+        entry.track(worker);
+
+        if (metrics != null) {
+            entry.timestamp(System.nanoTime());
+        }
+        queue.add(entry);
+    }
+
+    private record DeferredOperation(int operations, Consumer<Submitter> action) {
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io;
+
+import org.reactivetoolbox.io.scheduler.Timeout;
+import org.reactivetoolbox.io.scheduler.TimerWheel;
+import org.reactivetoolbox.io.uring.UringSetupParams;
+
+import java.util.function.Consumer;
+
+import static org.reactivetoolbox.io.uring.UringHolder.DEFAULT_QUEUE_SIZE;
+
+/**
+ * Configuration of the {@link Proactor} instance.
+ */
+public class ProactorConfiguration {
+    private final Properties properties;
+
+    private ProactorConfiguration(final Properties properties) {
+        this.properties = properties;
+    }
+
+    public static ProactorConfiguration configuration() {
+        return new ProactorConfiguration(Properties.defaultProperties(props -> {}));
+    }
+
+    public ProactorConfiguration and(final Consumer<Properties> transformer) {
+        return new ProactorConfiguration(properties.copy(transformer));
+    }
+
+    public int queueSize() {
+        return properties.queueSize;
+    }
+
+    public int fixedFileCount() {
+        return properties.fixedFileCount;
+    }
+
+    public int fixedBufferCount() {
+        return properties.fixedBufferCount;
+    }
+
+    public int fixedBufferSize() {
+        return properties.fixedBufferSize;
+    }
+
+    public int providedBufferCount() {
+        return properties.providedBufferCount;
+    }
+
+    public int providedBufferSize() {
+        return properties.providedBufferSize;
+    }
+
+    public boolean sqPoll() {
+        return properties.sqPoll;
+    }
+
+    public int sqPollIdle() {
+        return properties.sqPollIdle;
+    }
+
+    public int sqPollCpu() {
+        return properties.sqPollCpu;
+    }
+
+    public int inFlightLimit() {
+        return properties.inFlightLimit;
+    }
+
+    public OverflowPolicy overflowPolicy() {
+        return properties.overflowPolicy;
+    }
+
+    public int deferredLimit() {
+        return properties.deferredLimit;
+    }
+
+    public Timeout timerTick() {
+        return properties.timerTick;
+    }
+
+    public boolean shareKernelWorkers() {
+        return properties.shareKernelWorkers;
+    }
+
+    public int boundedKernelWorkers() {
+        return properties.boundedKernelWorkers;
+    }
+
+    public int unboundedKernelWorkers() {
+        return properties.unboundedKernelWorkers;
+    }
+
+    public boolean collectMetrics() {
+        return properties.collectMetrics;
+    }
+
+    public int localQueueLimit() {
+        return properties.localQueueLimit;
+    }
+
+    /**
+     * CPU to which specified scheduler worker should be pinned.
+     *
+     * @return CPU index or {@link UringSetupParams#NO_CPU} if worker placement is left to the OS
+     */
+    public int workerCpu(final int worker) {
+        return cpuFor(properties.workerCpus, worker, UringSetupParams.NO_CPU);
+    }
+
+    /**
+     * Configuration for the proactor of specified scheduler worker. Differs from this configuration only by the CPU of the submission
+     * queue poller thread, if {@link Properties#sqPollCpus} is set.
+     */
+    public ProactorConfiguration forWorker(final int worker) {
+        if (properties.sqPollCpus.length == 0) {
+            return this;
+        }
+
+        final int cpu = cpuFor(properties.sqPollCpus, worker, properties.sqPollCpu);
+
+        return and(props -> props.sqPollCpu = cpu);
+    }
+
+    private static int cpuFor(final int[] cpus, final int worker, final int defaultCpu) {
+        return cpus.length == 0 ? defaultCpu : cpus[worker % cpus.length];
+    }
+
+    /**
+     * Build ring setup parameters from this configuration.
+     */
+    public UringSetupParams setupParams() {
+        final var params = UringSetupParams.setupParams();
+
+        return properties.sqPoll
+               ? params.withSqPoll(properties.sqPollIdle).withSqPollCpu(properties.sqPollCpu)
+               : params;
+    }
+
+    public static final class Properties {
+        public int queueSize = DEFAULT_QUEUE_SIZE;
+        // Number of slots in the table of fixed files. Zero disables registration of the table.
+        public int fixedFileCount = 1024;
+        // Number of buffers registered with the ring. Zero disables registration of fixed buffers.
+        public int fixedBufferCount = 0;
+        public int fixedBufferSize = 16384;
+        // Number of buffers provided to the kernel for buffer selection. Zero disables buffer selection.
+        public int providedBufferCount = 0;
+        public int providedBufferSize = 16384;
+        // Enable kernel-side submission queue polling. Submissions then do not require io_uring_enter while poller thread is awake.
+        public boolean sqPoll = false;
+        // Time in milliseconds after which idle poller thread goes to sleep.
+        public int sqPollIdle = UringSetupParams.DEFAULT_SQ_THREAD_IDLE;
+        // CPU to which poller thread is pinned. Negative value leaves placement to the scheduler.
+        public int sqPollCpu = UringSetupParams.NO_CPU;
+        // Maximal number of queued and in-flight operations. Zero disables the limit. Internal requests (wakeup, timer tick, linked timeouts)
+        // and multishot requests are not counted.
+        public int inFlightLimit = 0;
+        // What to do with new operations once limit is reached.
+        public OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+        // Maximal number of operations deferred once in-flight limit is reached. Further operations are rejected.
+        public int deferredLimit = 65536;
+        // Resolution of the timer wheel which drives Promise timeouts.
+        public Timeout timerTick = TimerWheel.DEFAULT_TICK;
+        // Attach rings created by the scheduler to the first ring. Kernel worker pool is shared only by kernels 5.6 to 5.11,
+        // since 5.12 pool is kept per submitting thread.
+        public boolean shareKernelWorkers = true;
+        // Maximal number of kernel workers for requests with bounded execution time (e.g. file I/O). Zero keeps kernel default.
+        public int boundedKernelWorkers = 0;
+        // Maximal number of kernel workers for requests which may block indefinitely (e.g. socket I/O). Zero keeps kernel default.
+        public int unboundedKernelWorkers = 0;
+        // Collect latency histograms and ring health metrics. Adds timestamping of each operation.
+        public boolean collectMetrics = false;
+        // Maximal number of tasks queued locally by the worker which submits them. Once limit is reached, tasks are distributed between
+        // workers. Zero disables local fast path: all submissions go through shared pipelines.
+        public int localQueueLimit = 1024;
+        // CPUs to which scheduler workers are pinned, worker N uses element N modulo length. Empty array leaves placement to the OS.
+        public int[] workerCpus = {};
+        // CPUs to which poller threads of scheduler workers are pinned, selected same way as workerCpus. Empty array uses sqPollCpu.
+        public int[] sqPollCpus = {};
+
+        private Properties() {
+        }
+
+        private static Properties defaultProperties(final Consumer<Properties> propertiesConsumer) {
+            return new Properties().copy(propertiesConsumer);
+        }
+
+        private Properties copy(final Consumer<Properties> propertiesConsumer) {
+            final var copy = new Properties();
+            copy.queueSize = queueSize;
+            copy.fixedFileCount = fixedFileCount;
+            copy.fixedBufferCount = fixedBufferCount;
+            copy.fixedBufferSize = fixedBufferSize;
+            copy.providedBufferCount = providedBufferCount;
+            copy.providedBufferSize = providedBufferSize;
+            copy.sqPoll = sqPoll;
+            copy.sqPollIdle = sqPollIdle;
+            copy.sqPollCpu = sqPollCpu;
+            copy.inFlightLimit = inFlightLimit;
+            copy.overflowPolicy = overflowPolicy;
+            copy.deferredLimit = deferredLimit;
+            copy.timerTick = timerTick;
+            copy.shareKernelWorkers = shareKernelWorkers;
+            copy.boundedKernelWorkers = boundedKernelWorkers;
+            copy.unboundedKernelWorkers = unboundedKernelWorkers;
+            copy.collectMetrics = collectMetrics;
+            copy.localQueueLimit = localQueueLimit;
+            copy.workerCpus = workerCpus.clone();
+            copy.sqPollCpus = sqPollCpus.clone();
+            propertiesConsumer.accept(copy);
+            return copy;
+        }
+    }
+}
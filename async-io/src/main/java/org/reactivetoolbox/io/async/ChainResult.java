@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async;
+
+import org.reactivetoolbox.core.lang.functional.Option;
+import org.reactivetoolbox.core.lang.functional.Result;
+
+import java.util.List;
+
+/**
+ * Results of all steps of the {@link OperationChain}, in the order of steps in the chain.
+ */
+public final class ChainResult {
+    private final List<Result<?>> results;
+
+    private ChainResult(final List<Result<?>> results) {
+        this.results = results;
+    }
+
+    public static ChainResult chainResult(final List<Result<?>> results) {
+        return new ChainResult(results);
+    }
+
+    public List<Result<?>> results() {
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> step(final int index) {
+        return (Result<T>) results.get(index);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public boolean isSuccess() {
+        return firstFailure().equals(Option.empty());
+    }
+
+    /**
+     * Result of first failed step, if any. Steps cancelled because of the failure of previous step are not considered.
+     */
+    public Option<Result<?>> firstFailure() {
+        for (final var result : results) {
+            if (result.fold($ -> true, $ -> false)) {
+                return Option.option(result);
+            }
+        }
+        return Option.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "ChainResult(" + results + ")";
+    }
+}
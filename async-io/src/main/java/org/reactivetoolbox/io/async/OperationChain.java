@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async;
+
+import org.reactivetoolbox.io.async.common.OffsetT;
+import org.reactivetoolbox.io.async.file.FileDescriptor;
+import org.reactivetoolbox.io.async.file.FilePermission;
+import org.reactivetoolbox.io.async.file.OpenFlags;
+import org.reactivetoolbox.io.async.net.MessageFlags;
+import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Description of the chain of linked operations. Operations in the chain are submitted as a sequence of linked submission queue entries,
+ * so kernel executes them one after another without returning control to application between steps.
+ * <p>
+ * By default links are soft: failure (or short transfer) of one step cancels all remaining steps, which are then reported as
+ * {@link org.reactivetoolbox.io.NativeFailureType#ECANCELED}. With {@link #hardLinked()} remaining steps are executed regardless of the
+ * result of previous steps. {@code close} step is always executed: link which precedes it is always hard, and if step is nevertheless
+ * cancelled, descriptor is closed by separate request once chain is finished.
+ * <p>
+ * Chain may open one file with {@code open} step. File is opened directly into the table of fixed files of the ring, so following steps
+ * refer to it via {@link #OPENED} placeholder. Table of fixed files must be configured, otherwise chain is rejected.
+ * <p>
+ * All parameters of every step (including length of data to write) are captured at the moment of submission. Data produced by one step
+ * are not visible to parameters of the following steps, in particular, amount of data received by one step can't be used as length of the
+ * data sent by the following step.
+ */
+public final class OperationChain {
+    /**
+     * Placeholder for the descriptor of the file opened by the {@code open} step of the same chain.
+     */
+    public static final FileDescriptor OPENED = FileDescriptor.file(-1);
+
+    public enum StepType {
+        NOP,
+        OPEN,
+        READ,
+        WRITE,
+        SEND,
+        RECV,
+        FSYNC,
+        FDATASYNC,
+        CLOSE
+    }
+
+    public record Step(StepType type, FileDescriptor fd, OffHeapBuffer buffer, OffsetT offset, Set<MessageFlags> msgFlags, OpenParameters open) {
+    }
+
+    public record OpenParameters(Path path, Set<OpenFlags> flags, Set<FilePermission> mode) {
+    }
+
+    private final List<Step> steps = new ArrayList<>();
+    private boolean hardLinked = false;
+
+    private OperationChain() {
+    }
+
+    public static OperationChain chain() {
+        return new OperationChain();
+    }
+
+    public OperationChain nop() {
+        return add(new Step(StepType.NOP, null, null, OffsetT.ZERO, MessageFlags.none(), null));
+    }
+
+    /**
+     * Open file. Following steps refer to the opened file via {@link #OPENED} placeholder. Step result is the descriptor of the opened
+     * file, which remains registered in the table of fixed files, unless chain closes the file.
+     */
+    public OperationChain open(final Path path, final Set<OpenFlags> flags, final Set<FilePermission> mode) {
+        return add(new Step(StepType.OPEN, OPENED, null, OffsetT.ZERO, MessageFlags.none(), new OpenParameters(path, flags, mode)));
+    }
+
+    public OperationChain read(final FileDescriptor fd, final OffHeapBuffer buffer) {
+        return read(fd, buffer, OffsetT.ZERO);
+    }
+
+    public OperationChain read(final FileDescriptor fd, final OffHeapBuffer buffer, final OffsetT offset) {
+        return add(new Step(StepType.READ, fd, buffer, offset, MessageFlags.none(), null));
+    }
+
+    public OperationChain write(final FileDescriptor fd, final OffHeapBuffer buffer) {
+        return write(fd, buffer, OffsetT.ZERO);
+    }
+
+    public OperationChain write(final FileDescriptor fd, final OffHeapBuffer buffer, final OffsetT offset) {
+        return add(new Step(StepType.WRITE, fd, buffer, offset, MessageFlags.none(), null));
+    }
+
+    /**
+     * Send data to socket. Use {@link MessageFlags#MORE} for all but last send in the chain to let kernel coalesce data into fewer packets.
+     */
+    public OperationChain send(final FileDescriptor socket, final OffHeapBuffer buffer, final Set<MessageFlags> msgFlags) {
+        return add(new Step(StepType.SEND, socket, buffer, OffsetT.ZERO, msgFlags, null));
+    }
+
+    public OperationChain recv(final FileDescriptor socket, final OffHeapBuffer buffer, final Set<MessageFlags> msgFlags) {
+        return add(new Step(StepType.RECV, socket, buffer, OffsetT.ZERO, msgFlags, null));
+    }
+
+    /**
+     * Flush file data and metadata to storage. Placed after {@code write} steps it makes whole chain durable once chain completes.
+     */
+    public OperationChain fsync(final FileDescriptor fd) {
+        return add(new Step(StepType.FSYNC, fd, null, OffsetT.ZERO, MessageFlags.none(), null));
+    }
+
+    /**
+     * Same as {@link #fsync(FileDescriptor)} except metadata not required to read data back (for example, modification time) is not flushed.
+     */
+    public OperationChain fdatasync(final FileDescriptor fd) {
+        return add(new Step(StepType.FDATASYNC, fd, null, OffsetT.ZERO, MessageFlags.none(), null));
+    }
+
+    public OperationChain close(final FileDescriptor fd) {
+        return add(new Step(StepType.CLOSE, fd, null, OffsetT.ZERO, MessageFlags.none(), null));
+    }
+
+    /**
+     * Link steps with hard links, so failure of one step does not cancel remaining steps.
+     */
+    public OperationChain hardLinked() {
+        hardLinked = true;
+        return this;
+    }
+
+    public boolean isHardLinked() {
+        return hardLinked;
+    }
+
+    public List<Step> steps() {
+        return steps;
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    /**
+     * Check if chain opens file.
+     */
+    public boolean opensFile() {
+        return openIndex() >= 0;
+    }
+
+    /**
+     * Index of the step which opens file or -1 if chain does not open file.
+     */
+    public int openIndex() {
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).type() == StepType.OPEN) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if chain is well-formed: it opens at most one file and refers opened file only after it is opened.
+     */
+    public boolean isValid() {
+        boolean opened = false;
+
+        for (final var step : steps) {
+            if (step.type() == StepType.OPEN) {
+                if (opened) {
+                    return false;
+                }
+                opened = true;
+            } else if (step.fd() == OPENED && !opened) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if chain closes file opened by the chain.
+     */
+    public boolean closesOpened() {
+        for (final var step : steps) {
+            if (step.type() == StepType.CLOSE && step.fd() == OPENED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private OperationChain add(final Step step) {
+        steps.add(step);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationChain(" + steps + (hardLinked ? ", hard" : "") + ")";
+    }
+}
@@ -68,6 +68,8 @@ public interface Promise<T> {
 
     /**
      * Run specified task asynchronously when specified timeout expires. Current instance of {@link Promise} is passed to the task as a parameter.
+     * <p>
+     * Timeout is tracked by the timer wheel of the worker (see {@link Submitter#schedule(Timeout, Consumer)}).
      *
      * @param task
      *         Task to execute with this promise
@@ -88,6 +90,7 @@ public interface Promise<T> {
 
     /**
      * Resolve the promise with specified result. All actions already waiting for resolution will be executed in context of current thread.
+     * Pinned promise (see {@link #pinnedPromise()}) resolved outside of its worker passes actions to that worker instead.
      * <p>
      * Note that resolution may happen only once. All subsequent resolutions will be ignored.
      *
@@ -164,6 +167,8 @@ public interface Promise<T> {
 
     /**
      * Set timeout for instance resolution. When timeout expires, instance will be resolved with value returned by provided supplier.
+     * <p>
+     * Implementations may cancel timeout once instance is resolved, so supplier is not invoked for already resolved instance.
      *
      * @param timeout
      *         Timeout amount
@@ -426,6 +431,13 @@ public interface Promise<T> {
      */
     void syncWait(final Timeout timeout, final Consumer<Result<T>> handler);
 
+    /**
+     * Check if instance is already resolved.
+     *
+     * @return {@code true} if instance is resolved
+     */
+    boolean isResolved();
+
     /**
      * Get access to internal logger instance.
      *
@@ -462,6 +474,20 @@ public interface Promise<T> {
         return PromiseImpl.promise();
     }
 
+    /**
+     * Create new unresolved Promise instance which executes all its actions at the same worker. Worker is the one which resolves the
+     * instance (or, if instance is resolved by the thread which does not belong to scheduler, the worker chosen by identity of the instance).
+     * Actions attached after resolution are also executed at that worker.
+     * <p>
+     * Together with {@link org.reactivetoolbox.io.scheduler.TaskScheduler#submit(Object, Runnable)} this enables processing of the
+     * per-shard state by single worker without synchronization.
+     *
+     * @return Created instance
+     */
+    static <T> Promise<T> pinnedPromise() {
+        return PromiseImpl.pinnedPromise();
+    }
+
     /**
      * Create instance and synchronously invoke provided function with created instance. Usually this function is used to configure actions on created instance.
      *
@@ -21,27 +21,39 @@ import org.reactivetoolbox.core.lang.functional.Result;
 import org.reactivetoolbox.core.lang.functional.Unit;
 import org.reactivetoolbox.io.async.common.OffsetT;
 import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.file.FallocateMode;
+import org.reactivetoolbox.io.async.file.FileAdvice;
 import org.reactivetoolbox.io.async.file.FileDescriptor;
 import org.reactivetoolbox.io.async.file.FilePermission;
 import org.reactivetoolbox.io.async.file.OpenFlags;
 import org.reactivetoolbox.io.async.file.SpliceDescriptor;
+import org.reactivetoolbox.io.async.file.SyncRangeFlags;
 import org.reactivetoolbox.io.async.file.stat.FileStat;
 import org.reactivetoolbox.io.async.file.stat.StatFlag;
 import org.reactivetoolbox.io.async.file.stat.StatMask;
 import org.reactivetoolbox.io.async.net.AddressFamily;
 import org.reactivetoolbox.io.async.net.ClientConnection;
+import org.reactivetoolbox.io.async.net.MessageFlags;
 import org.reactivetoolbox.io.async.net.SocketAddress;
 import org.reactivetoolbox.io.async.net.SocketFlag;
 import org.reactivetoolbox.io.async.net.SocketOption;
 import org.reactivetoolbox.io.async.net.SocketType;
 import org.reactivetoolbox.io.async.net.context.ServerContext;
+import org.reactivetoolbox.io.async.util.DatagramBatch;
+import org.reactivetoolbox.io.async.util.FixedBuffer;
+import org.reactivetoolbox.io.async.util.MemoryAdvice;
 import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
 import org.reactivetoolbox.io.scheduler.Timeout;
+import org.reactivetoolbox.io.scheduler.TimerWheel;
 
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.reactivetoolbox.io.async.impl.PromiseCompletion.promiseCompletion;
 
 /**
  * Low level externally accessible API for submission of I/O operations.
@@ -71,7 +83,7 @@ public interface Submitter {
      * @return input {@link Promise} instance.
      */
     default Promise<Unit> nop(final Promise<Unit> promise) {
-        nop(promise::syncResolve);
+        nop(promiseCompletion(promise));
         return promise;
     }
 
@@ -84,6 +96,21 @@ public interface Submitter {
         return nop(Promise.promise());
     }
 
+    /**
+     * Schedule action on the timer wheel of this submitter.
+     * <p>
+     * Unlike {@link #delay(BiConsumer, Timeout)} this call does not submit separate operation for each invocation. All scheduled actions are
+     * driven by single kernel timeout per tick of the wheel, so large number of timers does not consume space in submission queue.
+     * Resolution of the timer is one tick (see {@link org.reactivetoolbox.io.ProactorConfiguration#timerTick()}).
+     *
+     * @param timeout
+     *         Timeout after which action is invoked.
+     * @param action
+     *         Action to invoke.
+     * @return timer instance which can be used to cancel the action.
+     */
+    TimerWheel.Timer schedule(final Timeout timeout, final Consumer<Submitter> action);
+
     /**
      * Submit DELAY (TIMEOUT) operation.
      * <p>
@@ -106,7 +133,7 @@ public interface Submitter {
      * @return input {@link Promise} instance.
      */
     default Promise<Duration> delay(final Promise<Duration> promise, final Timeout timeout) {
-        delay(promise::syncResolve, timeout);
+        delay(promiseCompletion(promise), timeout);
         return promise;
     }
 
@@ -152,7 +179,7 @@ public interface Submitter {
     default Promise<SizeT> splice(final Promise<SizeT> promise,
                                   final SpliceDescriptor descriptor,
                                   final Option<Timeout> timeout) {
-        splice(promise::syncResolve, descriptor, timeout);
+        splice(promiseCompletion(promise), descriptor, timeout);
         return promise;
     }
 
@@ -215,7 +242,7 @@ public interface Submitter {
                                 final OffHeapBuffer buffer,
                                 final OffsetT offset,
                                 final Option<Timeout> timeout) {
-        read(promise::syncResolve, fdIn, buffer, offset, timeout);
+        read(promiseCompletion(promise), fdIn, buffer, offset, timeout);
         return promise;
     }
 
@@ -282,7 +309,7 @@ public interface Submitter {
                                  final OffHeapBuffer buffer,
                                  final OffsetT offset,
                                  final Option<Timeout> timeout) {
-        write(promise::syncResolve, fdOut, buffer, offset, timeout);
+        write(promiseCompletion(promise), fdOut, buffer, offset, timeout);
         return promise;
     }
 
@@ -307,530 +334,1471 @@ public interface Submitter {
     }
 
     /**
-     * Submit CLOSE operation.
+     * Submit FSYNC operation.
      * <p>
-     * Closes specified file descriptor (either file or socket). Upon completion callback is invoked with {@link Unit} instance as a parameter.
+     * Flushes all modified data and metadata of the file to the storage device, see fsync(2). Upon completion callback is invoked with {@link Unit} instance as a parameter.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
      * @param fd
-     *         File descriptor to close.
+     *         File descriptor to synchronize.
      * @param timeout
      *         Optional operation timeout.
      */
-    void closeFileDescriptor(final BiConsumer<Result<Unit>, Submitter> completion,
-                             final FileDescriptor fd,
-                             final Option<Timeout> timeout);
+    void fsync(final BiConsumer<Result<Unit>, Submitter> completion,
+               final FileDescriptor fd,
+               final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #closeFileDescriptor(BiConsumer, FileDescriptor, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #fsync(BiConsumer, FileDescriptor, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
      * @param fd
-     *         File descriptor to close.
+     *         File descriptor to synchronize.
      * @param timeout
      *         Optional operation timeout.
      * @return input {@link Promise} instance.
      */
-    default Promise<Unit> closeFileDescriptor(final Promise<Unit> promise,
-                                              final FileDescriptor fd,
-                                              final Option<Timeout> timeout) {
-        closeFileDescriptor(promise::syncResolve, fd, timeout);
+    default Promise<Unit> fsync(final Promise<Unit> promise,
+                                final FileDescriptor fd,
+                                final Option<Timeout> timeout) {
+        fsync(promiseCompletion(promise), fd, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #closeFileDescriptor(Promise, FileDescriptor, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #fsync(Promise, FileDescriptor, Option)} except new {@link Promise} instance is created rather than received as a parameter.
      *
      * @param fd
-     *         File descriptor to close.
+     *         File descriptor to synchronize.
      * @param timeout
      *         Optional operation timeout.
      * @return created {@link Promise} instance.
      */
-    default Promise<Unit> closeFileDescriptor(final FileDescriptor fd,
-                                              final Option<Timeout> timeout) {
-        return closeFileDescriptor(Promise.promise(), fd, timeout);
+    default Promise<Unit> fsync(final FileDescriptor fd,
+                                final Option<Timeout> timeout) {
+        return fsync(Promise.promise(), fd, timeout);
     }
 
     /**
-     * Submit OPEN operation.
-     * <p>
-     * Open file at specified location. Upon completion callback is invoked with file descriptor of opened file as a parameter.
+     * Submit FSYNC operation with {@code IORING_FSYNC_DATASYNC} flag.
      * <p>
-     * Note that this method only partially covers functionality of the underlying {@code openat(2)} call.
-     * Instead simpler {@code open(2)} semantics is implemented.
+     * Same as {@link #fsync(BiConsumer, FileDescriptor, Option)}, but flushes only data and metadata necessary to read data back, see fdatasync(2). Upon completion callback is invoked with {@link Unit} instance as a parameter.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
-     * @param path
-     *         File path.
-     * @param flags
-     *         File open flags.
-     * @param mode
-     *         File open mode. Must be present only if {@code flags} contains {@link OpenFlags#CREATE} or {@link OpenFlags#TMPFILE}.
+     * @param fd
+     *         File descriptor to synchronize.
      * @param timeout
      *         Optional operation timeout.
      */
-    void open(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
-              final Path path,
-              final Set<OpenFlags> flags,
-              final Set<FilePermission> mode,
-              final Option<Timeout> timeout);
+    void fdatasync(final BiConsumer<Result<Unit>, Submitter> completion,
+                   final FileDescriptor fd,
+                   final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #open(BiConsumer, Path, Set, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #fdatasync(BiConsumer, FileDescriptor, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
-     * @param path
-     *         File path.
-     * @param flags
-     *         File open flags.
-     * @param mode
-     *         File open mode. Must be present only if {@code flags} contains {@link OpenFlags#CREATE} or {@link OpenFlags#TMPFILE}.
+     * @param fd
+     *         File descriptor to synchronize.
      * @param timeout
      *         Optional operation timeout.
      * @return input {@link Promise} instance.
      */
-    default Promise<FileDescriptor> open(final Promise<FileDescriptor> promise,
-                                         final Path path,
-                                         final Set<OpenFlags> flags,
-                                         final Set<FilePermission> mode,
-                                         final Option<Timeout> timeout) {
-        open(promise::syncResolve, path, flags, mode, timeout);
+    default Promise<Unit> fdatasync(final Promise<Unit> promise,
+                                    final FileDescriptor fd,
+                                    final Option<Timeout> timeout) {
+        fdatasync(promiseCompletion(promise), fd, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #open(Promise, Path, Set, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #fdatasync(Promise, FileDescriptor, Option)} except new {@link Promise} instance is created rather than received as a parameter.
      *
-     * @param path
-     *         File path.
-     * @param flags
-     *         File open flags.
-     * @param mode
-     *         File open mode. Must be present only if {@code flags} contains {@link OpenFlags#CREATE} or {@link OpenFlags#TMPFILE}.
+     * @param fd
+     *         File descriptor to synchronize.
      * @param timeout
      *         Optional operation timeout.
      * @return created {@link Promise} instance.
      */
-    default Promise<FileDescriptor> open(final Path path,
-                                         final Set<OpenFlags> flags,
-                                         final Set<FilePermission> mode,
-                                         final Option<Timeout> timeout) {
-        return open(Promise.promise(), path, flags, mode, timeout);
+    default Promise<Unit> fdatasync(final FileDescriptor fd,
+                                    final Option<Timeout> timeout) {
+        return fdatasync(Promise.promise(), fd, timeout);
     }
 
     /**
-     * Create socket for making client-side connections/requests. Upon completion callback is invoked with opened socket file descriptor
-     * as a parameter.
+     * Submit SYNC_FILE_RANGE operation.
+     * <p>
+     * Initiates and/or waits for write-out of the dirty pages in specified range of the file, see sync_file_range(2). Note that unlike
+     * {@link #fsync(BiConsumer, FileDescriptor, Option)} this operation does not flush file metadata nor disk write caches and provides no
+     * durability guarantees on its own. Upon completion callback is invoked with {@link Unit} instance as a parameter.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
-     * @param addressFamily
-     *         Socket address family (see {@link AddressFamily})
-     * @param socketType
-     *         Socket type. Usually it's {@link SocketType#STREAM} for TCP and {@link SocketType#DGRAM} for UDP.
-     * @param openFlags
-     *         Socket open flags. See {@link SocketFlag} for more details.
-     * @param options
-     *         Additional socket options. See {@link SocketOption} for more details.
+     * @param fd
+     *         File descriptor to synchronize.
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range. Zero means range up to the end of file. Length must not exceed {@link Integer#MAX_VALUE}.
+     * @param syncFlags
+     *         Operation flags (see {@link SyncRangeFlags}).
+     * @param timeout
+     *         Optional operation timeout.
      */
-    void socket(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
-                final AddressFamily addressFamily,
-                final SocketType socketType,
-                final Set<SocketFlag> openFlags,
-                final Set<SocketOption> options);
+    void syncFileRange(final BiConsumer<Result<Unit>, Submitter> completion,
+                       final FileDescriptor fd,
+                       final OffsetT offset,
+                       final SizeT length,
+                       final Set<SyncRangeFlags> syncFlags,
+                       final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #socket(BiConsumer, AddressFamily, SocketType, Set, Set)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #syncFileRange(BiConsumer, FileDescriptor, OffsetT, SizeT, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
-     * @param addressFamily
-     *         Socket address family (see {@link AddressFamily})
-     * @param socketType
-     *         Socket type. Usually it's {@link SocketType#STREAM} for TCP and {@link SocketType#DGRAM} for UDP.
-     * @param openFlags
-     *         Socket open flags. See {@link SocketFlag} for more details.
-     * @param options
-     *         Additional socket options. See {@link SocketOption} for more details.
+     * @param fd
+     *         File descriptor to synchronize.
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range. Zero means range up to the end of file.
+     * @param syncFlags
+     *         Operation flags (see {@link SyncRangeFlags}).
+     * @param timeout
+     *         Optional operation timeout.
      * @return input {@link Promise} instance.
      */
-    default Promise<FileDescriptor> socket(final Promise<FileDescriptor> promise,
-                                           final AddressFamily addressFamily,
-                                           final SocketType socketType,
-                                           final Set<SocketFlag> openFlags,
-                                           final Set<SocketOption> options) {
-        socket(promise::syncResolve, addressFamily, socketType, openFlags, options);
+    default Promise<Unit> syncFileRange(final Promise<Unit> promise,
+                                        final FileDescriptor fd,
+                                        final OffsetT offset,
+                                        final SizeT length,
+                                        final Set<SyncRangeFlags> syncFlags,
+                                        final Option<Timeout> timeout) {
+        syncFileRange(promiseCompletion(promise), fd, offset, length, syncFlags, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #socket(Promise, AddressFamily, SocketType, Set, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #syncFileRange(Promise, FileDescriptor, OffsetT, SizeT, Set, Option)} except new {@link Promise} instance is created
+     * rather than received as a parameter.
      *
-     * @param addressFamily
-     *         Socket address family (see {@link AddressFamily})
-     * @param socketType
-     *         Socket type. Usually it's {@link SocketType#STREAM} for TCP and {@link SocketType#DGRAM} for UDP.
-     * @param openFlags
-     *         Socket open flags. See {@link SocketFlag} for more details.
-     * @param options
-     *         Additional socket options. See {@link SocketOption} for more details.
+     * @param fd
+     *         File descriptor to synchronize.
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range. Zero means range up to the end of file.
+     * @param syncFlags
+     *         Operation flags (see {@link SyncRangeFlags}).
+     * @param timeout
+     *         Optional operation timeout.
      * @return created {@link Promise} instance.
      */
-    default Promise<FileDescriptor> socket(final AddressFamily addressFamily,
-                                           final SocketType socketType,
-                                           final Set<SocketFlag> openFlags,
-                                           final Set<SocketOption> options) {
-        return socket(Promise.promise(), addressFamily, socketType, openFlags, options);
+    default Promise<Unit> syncFileRange(final FileDescriptor fd,
+                                        final OffsetT offset,
+                                        final SizeT length,
+                                        final Set<SyncRangeFlags> syncFlags,
+                                        final Option<Timeout> timeout) {
+        return syncFileRange(Promise.promise(), fd, offset, length, syncFlags, timeout);
     }
 
     /**
-     * Create server connector bound to specified address/port and is ready to accept incoming connection.
-     * Upon completion provided callback is invoked with the filled server context instance.
+     * Submit FALLOCATE operation.
+     * <p>
+     * Manipulates disk space allocated for the specified range of the file, see fallocate(2). Most common use is preallocation of the
+     * space for the file which is going to be written sequentially, which reduces fragmentation and avoids allocation of the extents during
+     * writes. Upon completion callback is invoked with {@link Unit} instance as a parameter.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
-     * @param socketAddress
-     *         Socket address
-     * @param socketType
-     *         Socket type
-     * @param openFlags
-     *         Socket open flags
-     * @param queueDepth
-     *         Depth of the listening queue
-     * @param options
-     *         Socket options. See {@link SocketOption} for more details
-     * @see ServerContext
+     * @param fd
+     *         File descriptor.
+     * @param mode
+     *         Allocation mode (see {@link FallocateMode}).
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range.
+     * @param timeout
+     *         Optional operation timeout.
      */
-    void server(final BiConsumer<Result<ServerContext<?>>, Submitter> completion,
-                final SocketAddress<?> socketAddress,
-                final SocketType socketType,
-                final Set<SocketFlag> openFlags,
-                final SizeT queueDepth,
-                final Set<SocketOption> options);
+    void fallocate(final BiConsumer<Result<Unit>, Submitter> completion,
+                   final FileDescriptor fd,
+                   final Set<FallocateMode> mode,
+                   final OffsetT offset,
+                   final SizeT length,
+                   final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #server(BiConsumer, SocketAddress, SocketType, Set, SizeT, Set)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #fallocate(BiConsumer, FileDescriptor, Set, OffsetT, SizeT, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
-     * @param socketAddress
-     *         Socket address
-     * @param socketType
-     *         Socket type
-     * @param openFlags
-     *         Socket open flags
-     * @param queueDepth
-     *         Depth of the listening queue
-     * @param options
-     *         Socket options. See {@link SocketOption} for more details
+     * @param fd
+     *         File descriptor.
+     * @param mode
+     *         Allocation mode (see {@link FallocateMode}).
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range.
+     * @param timeout
+     *         Optional operation timeout.
      * @return input {@link Promise} instance.
-     *
-     * @see ServerContext
      */
-    default Promise<ServerContext<?>> server(final Promise<ServerContext<?>> promise,
-                                             final SocketAddress<?> socketAddress,
-                                             final SocketType socketType,
-                                             final Set<SocketFlag> openFlags,
-                                             final SizeT queueDepth,
-                                             final Set<SocketOption> options) {
-        server(promise::syncResolve, socketAddress, socketType, openFlags, queueDepth, options);
+    default Promise<Unit> fallocate(final Promise<Unit> promise,
+                                    final FileDescriptor fd,
+                                    final Set<FallocateMode> mode,
+                                    final OffsetT offset,
+                                    final SizeT length,
+                                    final Option<Timeout> timeout) {
+        fallocate(promiseCompletion(promise), fd, mode, offset, length, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #socket(Promise, AddressFamily, SocketType, Set, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #fallocate(Promise, FileDescriptor, Set, OffsetT, SizeT, Option)} except new {@link Promise} instance is created rather
+     * than received as a parameter.
      *
-     * @param socketAddress
-     *         Socket address
-     * @param socketType
-     *         Socket type
-     * @param openFlags
-     *         Socket open flags
-     * @param queueDepth
-     *         Depth of the listening queue
-     * @param options
-     *         Socket options. See {@link SocketOption} for more details
+     * @param fd
+     *         File descriptor.
+     * @param mode
+     *         Allocation mode (see {@link FallocateMode}).
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range.
+     * @param timeout
+     *         Optional operation timeout.
      * @return created {@link Promise} instance.
-     *
-     * @see ServerContext
      */
-    default Promise<ServerContext<?>> server(final SocketAddress<?> socketAddress,
-                                             final SocketType socketType,
-                                             final Set<SocketFlag> openFlags,
-                                             final SizeT queueDepth,
-                                             final Set<SocketOption> options) {
-        return server(Promise.promise(), socketAddress, socketType, openFlags, queueDepth, options);
+    default Promise<Unit> fallocate(final FileDescriptor fd,
+                                    final Set<FallocateMode> mode,
+                                    final OffsetT offset,
+                                    final SizeT length,
+                                    final Option<Timeout> timeout) {
+        return fallocate(Promise.promise(), fd, mode, offset, length, timeout);
     }
 
     /**
-     * Submit ACCEPT operation.
-     * <p>
-     * Accept incoming connection for server socket. Upon completion filled client connection descriptor is passed to callback as a
-     * parameter.
+     * Submit FADVISE operation.
      * <p>
-     * Accepted connection receives its own socket which then can be used to communicate (read/write) with particular client.
+     * Announces expected access pattern for the specified range of the file, see posix_fadvise(2). For example, {@link FileAdvice#DONTNEED}
+     * drops already processed data from page cache and {@link FileAdvice#WILLNEED} starts read-ahead of the data which will be read soon.
+     * Upon completion callback is invoked with {@link Unit} instance as a parameter.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
-     * @param socket
-     *         Server socket to accept connections on.
-     * @param flags
-     *         Accept flags (see {@link SocketFlag} for more details)
-     * @see ClientConnection
+     * @param fd
+     *         File descriptor.
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range. Zero means range up to the end of file. Length must not exceed {@link Integer#MAX_VALUE}.
+     * @param advice
+     *         Expected access pattern.
+     * @param timeout
+     *         Optional operation timeout.
      */
-    void accept(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
-                final FileDescriptor socket,
-                final Set<SocketFlag> flags);
+    void fadvise(final BiConsumer<Result<Unit>, Submitter> completion,
+                 final FileDescriptor fd,
+                 final OffsetT offset,
+                 final SizeT length,
+                 final FileAdvice advice,
+                 final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #accept(BiConsumer, FileDescriptor, Set)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #fadvise(BiConsumer, FileDescriptor, OffsetT, SizeT, FileAdvice, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
-     * @param socket
-     *         Server socket to accept connections on.
-     * @param flags
-     *         Accept flags (see {@link SocketFlag} for more details)
+     * @param fd
+     *         File descriptor.
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range. Zero means range up to the end of file.
+     * @param advice
+     *         Expected access pattern.
+     * @param timeout
+     *         Optional operation timeout.
      * @return input {@link Promise} instance.
-     *
-     * @see ClientConnection
      */
-    default Promise<ClientConnection<?>> accept(final Promise<ClientConnection<?>> promise,
-                                                final FileDescriptor socket,
-                                                final Set<SocketFlag> flags) {
-        accept(promise::syncResolve, socket, flags);
+    default Promise<Unit> fadvise(final Promise<Unit> promise,
+                                  final FileDescriptor fd,
+                                  final OffsetT offset,
+                                  final SizeT length,
+                                  final FileAdvice advice,
+                                  final Option<Timeout> timeout) {
+        fadvise(promiseCompletion(promise), fd, offset, length, advice, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #accept(Promise, FileDescriptor, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #fadvise(Promise, FileDescriptor, OffsetT, SizeT, FileAdvice, Option)} except new {@link Promise} instance is created
+     * rather than received as a parameter.
      *
-     * @param socket
-     *         Server socket to accept connections on.
-     * @param flags
-     *         Accept flags (see {@link SocketFlag} for more details)
+     * @param fd
+     *         File descriptor.
+     * @param offset
+     *         Start of the range.
+     * @param length
+     *         Length of the range. Zero means range up to the end of file.
+     * @param advice
+     *         Expected access pattern.
+     * @param timeout
+     *         Optional operation timeout.
      * @return created {@link Promise} instance.
-     *
-     * @see ClientConnection
      */
-    default Promise<ClientConnection<?>> accept(final FileDescriptor socket,
-                                                final Set<SocketFlag> flags) {
-        return accept(Promise.promise(), socket, flags);
+    default Promise<Unit> fadvise(final FileDescriptor fd,
+                                  final OffsetT offset,
+                                  final SizeT length,
+                                  final FileAdvice advice,
+                                  final Option<Timeout> timeout) {
+        return fadvise(Promise.promise(), fd, offset, length, advice, timeout);
     }
 
     /**
-     * Submit CONNECT operation.
-     * <p>
-     * Connect to external server at provided address (host/port). Upon completion callback is invoked with the file descriptor
-     * passed as a parameter for convenience.
+     * Submit MADVISE operation.
      * <p>
-     * Returned {@link Promise} for convenience holds the same file descriptor as passed in {@code socket} parameter.
+     * Announces expected usage pattern for the memory occupied by the buffer, see madvise(2). Since kernel accepts only page-aligned
+     * ranges, advice is applied to the whole pages which lie within the buffer. If buffer contains no whole page, operation completes
+     * immediately. Upon completion callback is invoked with {@link Unit} instance as a parameter.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
-     * @param socket
-     *         Socket to connect
-     * @param address
-     *         Address to connect
+     * @param buffer
+     *         Memory range.
+     * @param advice
+     *         Expected usage pattern.
      * @param timeout
      *         Optional operation timeout.
      */
-    void connect(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
-                 final FileDescriptor socket,
-                 final SocketAddress<?> address,
+    void madvise(final BiConsumer<Result<Unit>, Submitter> completion,
+                 final OffHeapBuffer buffer,
+                 final MemoryAdvice advice,
                  final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #connect(BiConsumer, FileDescriptor, SocketAddress, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #madvise(BiConsumer, OffHeapBuffer, MemoryAdvice, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
-     * @param socket
-     *         Socket to connect
-     * @param address
-     *         Address to connect
+     * @param buffer
+     *         Memory range.
+     * @param advice
+     *         Expected usage pattern.
      * @param timeout
      *         Optional operation timeout.
      * @return input {@link Promise} instance.
      */
-    default Promise<FileDescriptor> connect(final Promise<FileDescriptor> promise,
-                                            final FileDescriptor socket,
-                                            final SocketAddress<?> address,
-                                            final Option<Timeout> timeout) {
-        connect(promise::syncResolve, socket, address, timeout);
+    default Promise<Unit> madvise(final Promise<Unit> promise,
+                                  final OffHeapBuffer buffer,
+                                  final MemoryAdvice advice,
+                                  final Option<Timeout> timeout) {
+        madvise(promiseCompletion(promise), buffer, advice, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #connect(Promise, FileDescriptor, SocketAddress, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #madvise(Promise, OffHeapBuffer, MemoryAdvice, Option)} except new {@link Promise} instance is created rather than
+     * received as a parameter.
      *
-     * @param socket
-     *         Socket to connect
-     * @param address
-     *         Address to connect
+     * @param buffer
+     *         Memory range.
+     * @param advice
+     *         Expected usage pattern.
      * @param timeout
      *         Optional operation timeout.
      * @return created {@link Promise} instance.
      */
-    default Promise<FileDescriptor> connect(final FileDescriptor socket,
-                                            final SocketAddress<?> address,
-                                            final Option<Timeout> timeout) {
-        return connect(Promise.promise(), socket, address, timeout);
+    default Promise<Unit> madvise(final OffHeapBuffer buffer,
+                                  final MemoryAdvice advice,
+                                  final Option<Timeout> timeout) {
+        return madvise(Promise.promise(), buffer, advice, timeout);
     }
 
     /**
-     * Get file status information for file specified by path.
-     * Upon completion callback is invoked with requested file status details as a parameter.
+     * Submit CLOSE operation.
+     * <p>
+     * Closes specified file descriptor (either file or socket). Upon completion callback is invoked with {@link Unit} instance as a parameter.
+     * <p>
+     * Before descriptor is closed, all pending operations which use this descriptor are cancelled (see {@link #cancelAll(BiConsumer, FileDescriptor)}),
+     * so resources held by them are released immediately.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param fd
+     *         File descriptor to close.
+     * @param timeout
+     *         Optional operation timeout.
+     */
+    void closeFileDescriptor(final BiConsumer<Result<Unit>, Submitter> completion,
+                             final FileDescriptor fd,
+                             final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #closeFileDescriptor(BiConsumer, FileDescriptor, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fd
+     *         File descriptor to close.
+     * @param timeout
+     *         Optional operation timeout.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<Unit> closeFileDescriptor(final Promise<Unit> promise,
+                                              final FileDescriptor fd,
+                                              final Option<Timeout> timeout) {
+        closeFileDescriptor(promiseCompletion(promise), fd, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #closeFileDescriptor(Promise, FileDescriptor, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param fd
+     *         File descriptor to close.
+     * @param timeout
+     *         Optional operation timeout.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<Unit> closeFileDescriptor(final FileDescriptor fd,
+                                              final Option<Timeout> timeout) {
+        return closeFileDescriptor(Promise.promise(), fd, timeout);
+    }
+
+    /**
+     * Submit ASYNC_CANCEL operation for the pending operation which resolves specified {@link Promise}.
+     * <p>
+     * Only operations submitted via this instance using {@link Promise}-based methods can be found. Operation is located by the key
+     * recorded in the promise at submission, so lookup does not depend on the number of pending operations. If several operations resolve
+     * same promise, only first of them is cancelled. Cancelled operations are completed with
+     * {@link org.reactivetoolbox.io.NativeFailureType#ECANCELED}. Callback receives failure {@link org.reactivetoolbox.io.NativeFailureType#ENOENT}
+     * if no pending operation was found or operation completed before it could be cancelled.
+     * <p>
+     * Note that {@link Promise#cancel()} invokes this operation automatically.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param target
+     *         {@link Promise} instance resolved by the operation to cancel.
+     */
+    void cancel(final BiConsumer<Result<Unit>, Submitter> completion,
+                final Promise<?> target);
+
+    /**
+     * Same as {@link #cancel(BiConsumer, Promise)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param target
+     *         {@link Promise} instance resolved by the operation to cancel.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<Unit> cancel(final Promise<Unit> promise,
+                                 final Promise<?> target) {
+        cancel(promiseCompletion(promise), target);
+        return promise;
+    }
+
+    /**
+     * Submit ASYNC_CANCEL operation for all pending operations which use specified file descriptor.
+     * <p>
+     * Callback receives number of cancelled operations. Note that this operation requires Linux kernel 5.19 or later.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param fd
+     *         File descriptor used by operations to cancel.
+     */
+    void cancelAll(final BiConsumer<Result<SizeT>, Submitter> completion,
+                   final FileDescriptor fd);
+
+    /**
+     * Same as {@link #cancelAll(BiConsumer, FileDescriptor)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fd
+     *         File descriptor used by operations to cancel.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> cancelAll(final Promise<SizeT> promise,
+                                     final FileDescriptor fd) {
+        cancelAll(promiseCompletion(promise), fd);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #cancelAll(Promise, FileDescriptor)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param fd
+     *         File descriptor used by operations to cancel.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> cancelAll(final FileDescriptor fd) {
+        return cancelAll(Promise.promise(), fd);
+    }
+
+    /**
+     * Submit OPEN operation.
+     * <p>
+     * Open file at specified location. Upon completion callback is invoked with file descriptor of opened file as a parameter.
+     * <p>
+     * Note that this method only partially covers functionality of the underlying {@code openat(2)} call.
+     * Instead simpler {@code open(2)} semantics is implemented.
      *
      * @param completion
      *         Callback which is invoked once operation is finished.
      * @param path
-     *         File path
+     *         File path.
      * @param flags
-     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
-     * @param mask
-     *         Specification of which information should be retrieved.
+     *         File open flags.
+     * @param mode
+     *         File open mode. Must be present only if {@code flags} contains {@link OpenFlags#CREATE} or {@link OpenFlags#TMPFILE}.
      * @param timeout
-     *         Optional operation timeout
-     *
-     * @see FileStat
+     *         Optional operation timeout.
      */
-    void stat(final BiConsumer<Result<FileStat>, Submitter> completion,
+    void open(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
               final Path path,
-              final Set<StatFlag> flags,
-              final Set<StatMask> mask,
+              final Set<OpenFlags> flags,
+              final Set<FilePermission> mode,
               final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #stat(BiConsumer, Path, Set, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #open(BiConsumer, Path, Set, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
      * @param path
-     *         File path
+     *         File path.
      * @param flags
-     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
-     * @param mask
-     *         Specification of which information should be retrieved.
+     *         File open flags.
+     * @param mode
+     *         File open mode. Must be present only if {@code flags} contains {@link OpenFlags#CREATE} or {@link OpenFlags#TMPFILE}.
      * @param timeout
-     *         Optional operation timeout
+     *         Optional operation timeout.
      * @return input {@link Promise} instance.
-     *
-     * @see FileStat
      */
-    default Promise<FileStat> stat(final Promise<FileStat> promise,
-                                   final Path path,
-                                   final Set<StatFlag> flags,
-                                   final Set<StatMask> mask,
-                                   final Option<Timeout> timeout) {
-        stat(promise::syncResolve, path, flags, mask, timeout);
+    default Promise<FileDescriptor> open(final Promise<FileDescriptor> promise,
+                                         final Path path,
+                                         final Set<OpenFlags> flags,
+                                         final Set<FilePermission> mode,
+                                         final Option<Timeout> timeout) {
+        open(promiseCompletion(promise), path, flags, mode, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #stat(Promise, Path, Set, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #open(Promise, Path, Set, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
      *
      * @param path
-     *         File path
+     *         File path.
      * @param flags
-     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
-     * @param mask
-     *         Specification of which information should be retrieved.
+     *         File open flags.
+     * @param mode
+     *         File open mode. Must be present only if {@code flags} contains {@link OpenFlags#CREATE} or {@link OpenFlags#TMPFILE}.
      * @param timeout
-     *         Optional operation timeout
+     *         Optional operation timeout.
      * @return created {@link Promise} instance.
-     *
-     * @see FileStat
      */
-    default Promise<FileStat> stat(final Path path,
-                                   final Set<StatFlag> flags,
-                                   final Set<StatMask> mask,
-                                   final Option<Timeout> timeout) {
-        return stat(Promise.promise(), path, flags, mask, timeout);
+    default Promise<FileDescriptor> open(final Path path,
+                                         final Set<OpenFlags> flags,
+                                         final Set<FilePermission> mode,
+                                         final Option<Timeout> timeout) {
+        return open(Promise.promise(), path, flags, mode, timeout);
     }
 
     /**
-     * Get file status information for file specified by file descriptor.
-     * Upon completion callback is invoked with requested file status details as a parameter.
+     * Create socket for making client-side connections/requests. Upon completion callback is invoked with opened socket file descriptor
+     * as a parameter.
      *
-     * @param fd
-     *         File descriptor
-     * @param flags
-     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
-     * @param mask
-     *         Specification of which information should be retrieved.
-     * @param timeout
-     *         Optional operation timeout
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param addressFamily
+     *         Socket address family (see {@link AddressFamily})
+     * @param socketType
+     *         Socket type. Usually it's {@link SocketType#STREAM} for TCP and {@link SocketType#DGRAM} for UDP.
+     * @param openFlags
+     *         Socket open flags. See {@link SocketFlag} for more details.
+     * @param options
+     *         Additional socket options. See {@link SocketOption} for more details.
+     */
+    void socket(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
+                final AddressFamily addressFamily,
+                final SocketType socketType,
+                final Set<SocketFlag> openFlags,
+                final Set<SocketOption> options);
+
+    /**
+     * Same as {@link #socket(BiConsumer, AddressFamily, SocketType, Set, Set)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
      *
-     * @see FileStat
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param addressFamily
+     *         Socket address family (see {@link AddressFamily})
+     * @param socketType
+     *         Socket type. Usually it's {@link SocketType#STREAM} for TCP and {@link SocketType#DGRAM} for UDP.
+     * @param openFlags
+     *         Socket open flags. See {@link SocketFlag} for more details.
+     * @param options
+     *         Additional socket options. See {@link SocketOption} for more details.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<FileDescriptor> socket(final Promise<FileDescriptor> promise,
+                                           final AddressFamily addressFamily,
+                                           final SocketType socketType,
+                                           final Set<SocketFlag> openFlags,
+                                           final Set<SocketOption> options) {
+        socket(promiseCompletion(promise), addressFamily, socketType, openFlags, options);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #socket(Promise, AddressFamily, SocketType, Set, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param addressFamily
+     *         Socket address family (see {@link AddressFamily})
+     * @param socketType
+     *         Socket type. Usually it's {@link SocketType#STREAM} for TCP and {@link SocketType#DGRAM} for UDP.
+     * @param openFlags
+     *         Socket open flags. See {@link SocketFlag} for more details.
+     * @param options
+     *         Additional socket options. See {@link SocketOption} for more details.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<FileDescriptor> socket(final AddressFamily addressFamily,
+                                           final SocketType socketType,
+                                           final Set<SocketFlag> openFlags,
+                                           final Set<SocketOption> options) {
+        return socket(Promise.promise(), addressFamily, socketType, openFlags, options);
+    }
+
+    /**
+     * Create server connector bound to specified address/port and is ready to accept incoming connection.
+     * Upon completion provided callback is invoked with the filled server context instance.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param socketAddress
+     *         Socket address
+     * @param socketType
+     *         Socket type
+     * @param openFlags
+     *         Socket open flags
+     * @param queueDepth
+     *         Depth of the listening queue
+     * @param options
+     *         Socket options. See {@link SocketOption} for more details
+     * @see ServerContext
+     */
+    void server(final BiConsumer<Result<ServerContext<?>>, Submitter> completion,
+                final SocketAddress<?> socketAddress,
+                final SocketType socketType,
+                final Set<SocketFlag> openFlags,
+                final SizeT queueDepth,
+                final Set<SocketOption> options);
+
+    /**
+     * Same as {@link #server(BiConsumer, SocketAddress, SocketType, Set, SizeT, Set)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socketAddress
+     *         Socket address
+     * @param socketType
+     *         Socket type
+     * @param openFlags
+     *         Socket open flags
+     * @param queueDepth
+     *         Depth of the listening queue
+     * @param options
+     *         Socket options. See {@link SocketOption} for more details
+     * @return input {@link Promise} instance.
+     *
+     * @see ServerContext
+     */
+    default Promise<ServerContext<?>> server(final Promise<ServerContext<?>> promise,
+                                             final SocketAddress<?> socketAddress,
+                                             final SocketType socketType,
+                                             final Set<SocketFlag> openFlags,
+                                             final SizeT queueDepth,
+                                             final Set<SocketOption> options) {
+        server(promiseCompletion(promise), socketAddress, socketType, openFlags, queueDepth, options);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #socket(Promise, AddressFamily, SocketType, Set, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socketAddress
+     *         Socket address
+     * @param socketType
+     *         Socket type
+     * @param openFlags
+     *         Socket open flags
+     * @param queueDepth
+     *         Depth of the listening queue
+     * @param options
+     *         Socket options. See {@link SocketOption} for more details
+     * @return created {@link Promise} instance.
+     *
+     * @see ServerContext
+     */
+    default Promise<ServerContext<?>> server(final SocketAddress<?> socketAddress,
+                                             final SocketType socketType,
+                                             final Set<SocketFlag> openFlags,
+                                             final SizeT queueDepth,
+                                             final Set<SocketOption> options) {
+        return server(Promise.promise(), socketAddress, socketType, openFlags, queueDepth, options);
+    }
+
+    /**
+     * Submit ACCEPT operation.
+     * <p>
+     * Accept incoming connection for server socket. Upon completion filled client connection descriptor is passed to callback as a
+     * parameter.
+     * <p>
+     * Accepted connection receives its own socket which then can be used to communicate (read/write) with particular client.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param socket
+     *         Server socket to accept connections on.
+     * @param flags
+     *         Accept flags (see {@link SocketFlag} for more details)
+     * @see ClientConnection
+     */
+    void accept(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
+                final FileDescriptor socket,
+                final Set<SocketFlag> flags);
+
+    /**
+     * Same as {@link #accept(BiConsumer, FileDescriptor, Set)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socket
+     *         Server socket to accept connections on.
+     * @param flags
+     *         Accept flags (see {@link SocketFlag} for more details)
+     * @return input {@link Promise} instance.
+     *
+     * @see ClientConnection
+     */
+    default Promise<ClientConnection<?>> accept(final Promise<ClientConnection<?>> promise,
+                                                final FileDescriptor socket,
+                                                final Set<SocketFlag> flags) {
+        accept(promiseCompletion(promise), socket, flags);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #accept(Promise, FileDescriptor, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socket
+     *         Server socket to accept connections on.
+     * @param flags
+     *         Accept flags (see {@link SocketFlag} for more details)
+     * @return created {@link Promise} instance.
+     *
+     * @see ClientConnection
+     */
+    default Promise<ClientConnection<?>> accept(final FileDescriptor socket,
+                                                final Set<SocketFlag> flags) {
+        return accept(Promise.promise(), socket, flags);
+    }
+
+    /**
+     * Submit multishot ACCEPT operation.
+     * <p>
+     * Unlike {@link #accept(BiConsumer, FileDescriptor, Set)}, single submission accepts connections until server socket is closed, error
+     * occurs or operation is stopped. Callback is invoked for every accepted connection. Failure passed to callback means that operation is
+     * terminated and no more connections will be delivered. If kernel does not support multishot accept, callback receives
+     * {@link org.reactivetoolbox.io.NativeFailureType#EINVAL}.
+     * <p>
+     * Client address is not obtained upon accepting connection, {@link ClientConnection#address()} obtains it on demand.
+     * <p>
+     * Operation is stopped by cancelling provided stop handle with {@link Promise#cancel()}, in this case callback receives
+     * {@link org.reactivetoolbox.io.NativeFailureType#ECANCELED}. Once operation is terminated for any other reason, stop handle is
+     * resolved with the same failure as passed to the callback.
+     *
+     * @param completion
+     *         Callback which is invoked for every accepted connection and upon termination of the operation.
+     * @param stop
+     *         Stop handle of the operation.
+     * @param socket
+     *         Server socket to accept connections on.
+     * @param flags
+     *         Accept flags (see {@link SocketFlag} for more details)
+     * @see ClientConnection
+     */
+    void acceptMultishot(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
+                         final Promise<Unit> stop,
+                         final FileDescriptor socket,
+                         final Set<SocketFlag> flags);
+
+    /**
+     * Submit multishot ACCEPT operation.
+     * <p>
+     * Convenience method which creates stop handle (see {@link #acceptMultishot(BiConsumer, Promise, FileDescriptor, Set)} for more details).
+     *
+     * @param completion
+     *         Callback which is invoked for every accepted connection and upon termination of the operation.
+     * @param socket
+     *         Server socket to accept connections on.
+     * @param flags
+     *         Accept flags (see {@link SocketFlag} for more details)
+     * @return stop handle of the operation.
+     */
+    default Promise<Unit> acceptMultishot(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
+                                          final FileDescriptor socket,
+                                          final Set<SocketFlag> flags) {
+        final Promise<Unit> stop = Promise.promise();
+        acceptMultishot(completion, stop, socket, flags);
+        return stop;
+    }
+
+    /**
+     * Submit CONNECT operation.
+     * <p>
+     * Connect to external server at provided address (host/port). Upon completion callback is invoked with the file descriptor
+     * passed as a parameter for convenience.
+     * <p>
+     * Returned {@link Promise} for convenience holds the same file descriptor as passed in {@code socket} parameter.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param socket
+     *         Socket to connect
+     * @param address
+     *         Address to connect
+     * @param timeout
+     *         Optional operation timeout.
+     */
+    void connect(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
+                 final FileDescriptor socket,
+                 final SocketAddress<?> address,
+                 final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #connect(BiConsumer, FileDescriptor, SocketAddress, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socket
+     *         Socket to connect
+     * @param address
+     *         Address to connect
+     * @param timeout
+     *         Optional operation timeout.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<FileDescriptor> connect(final Promise<FileDescriptor> promise,
+                                            final FileDescriptor socket,
+                                            final SocketAddress<?> address,
+                                            final Option<Timeout> timeout) {
+        connect(promiseCompletion(promise), socket, address, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #connect(Promise, FileDescriptor, SocketAddress, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socket
+     *         Socket to connect
+     * @param address
+     *         Address to connect
+     * @param timeout
+     *         Optional operation timeout.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<FileDescriptor> connect(final FileDescriptor socket,
+                                            final SocketAddress<?> address,
+                                            final Option<Timeout> timeout) {
+        return connect(Promise.promise(), socket, address, timeout);
+    }
+
+    /**
+     * Get file status information for file specified by path.
+     * Upon completion callback is invoked with requested file status details as a parameter.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param path
+     *         File path
+     * @param flags
+     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
+     * @param mask
+     *         Specification of which information should be retrieved.
+     * @param timeout
+     *         Optional operation timeout
+     *
+     * @see FileStat
+     */
+    void stat(final BiConsumer<Result<FileStat>, Submitter> completion,
+              final Path path,
+              final Set<StatFlag> flags,
+              final Set<StatMask> mask,
+              final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #stat(BiConsumer, Path, Set, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param path
+     *         File path
+     * @param flags
+     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
+     * @param mask
+     *         Specification of which information should be retrieved.
+     * @param timeout
+     *         Optional operation timeout
+     * @return input {@link Promise} instance.
+     *
+     * @see FileStat
+     */
+    default Promise<FileStat> stat(final Promise<FileStat> promise,
+                                   final Path path,
+                                   final Set<StatFlag> flags,
+                                   final Set<StatMask> mask,
+                                   final Option<Timeout> timeout) {
+        stat(promiseCompletion(promise), path, flags, mask, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #stat(Promise, Path, Set, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param path
+     *         File path
+     * @param flags
+     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
+     * @param mask
+     *         Specification of which information should be retrieved.
+     * @param timeout
+     *         Optional operation timeout
+     * @return created {@link Promise} instance.
+     *
+     * @see FileStat
+     */
+    default Promise<FileStat> stat(final Path path,
+                                   final Set<StatFlag> flags,
+                                   final Set<StatMask> mask,
+                                   final Option<Timeout> timeout) {
+        return stat(Promise.promise(), path, flags, mask, timeout);
+    }
+
+    /**
+     * Get file status information for file specified by file descriptor.
+     * Upon completion callback is invoked with requested file status details as a parameter.
+     *
+     * @param fd
+     *         File descriptor
+     * @param flags
+     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
+     * @param mask
+     *         Specification of which information should be retrieved.
+     * @param timeout
+     *         Optional operation timeout
+     *
+     * @see FileStat
+     */
+    void stat(final BiConsumer<Result<FileStat>, Submitter> completion,
+              final FileDescriptor fd,
+              final Set<StatFlag> flags,
+              final Set<StatMask> mask,
+              final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #stat(BiConsumer, FileDescriptor, Set, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fd
+     *         File descriptor
+     * @param flags
+     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
+     * @param mask
+     *         Specification of which information should be retrieved.
+     * @param timeout
+     *         Optional operation timeout
+     * @return input {@link Promise} instance.
+     *
+     * @see FileStat
+     */
+    default Promise<FileStat> stat(final Promise<FileStat> promise,
+                                   final FileDescriptor fd,
+                                   final Set<StatFlag> flags,
+                                   final Set<StatMask> mask,
+                                   final Option<Timeout> timeout) {
+        stat(promiseCompletion(promise), fd, flags, mask, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #stat(Promise, FileDescriptor, Set, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param fd
+     *         File descriptor
+     * @param flags
+     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
+     * @param mask
+     *         Specification of which information should be retrieved.
+     * @param timeout
+     *         Optional operation timeout
+     * @return created {@link Promise} instance.
+     *
+     * @see FileStat
+     */
+    default Promise<FileStat> stat(final FileDescriptor fd,
+                                   final Set<StatFlag> flags,
+                                   final Set<StatMask> mask,
+                                   final Option<Timeout> timeout) {
+        return stat(Promise.promise(), fd, flags, mask, timeout);
+    }
+
+    /**
+     * Read into buffers passed as a parameters.
+     * <p>
+     * Note that for proper operation this method requires that every passed buffer should have set {@link OffHeapBuffer#used()} value to actual number of bytes to be read into
+     * this buffer.
+     * <p>
+     * Upon completion callback is invoked with total number of bytes read.
+     *
+     * @param fileDescriptor
+     *         File descriptor to read from
+     * @param offset
+     *         Initial offset in the input file
+     * @param timeout
+     *         Optional operation timeout
+     * @param buffers
+     *         Set of buffers where read information will be put. Each buffer should have it's {@link OffHeapBuffer#used()} property set to actual number of bytes which application
+     *         expects to see in this buffer.
+     */
+    void readVector(final BiConsumer<Result<SizeT>, Submitter> completion,
+                    final FileDescriptor fileDescriptor,
+                    final OffsetT offset,
+                    final Option<Timeout> timeout,
+                    final OffHeapBuffer... buffers);
+
+    /**
+     * Same as {@link #readVector(BiConsumer, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fileDescriptor
+     *         File descriptor to read from
+     * @param offset
+     *         Initial offset in the input file
+     * @param timeout
+     *         Optional operation timeout
+     * @param buffers
+     *         Set of buffers where read information will be put. Each buffer should have it's {@link OffHeapBuffer#used()} property set to actual number of bytes which application
+     *         expects to see in this buffer.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> readVector(final Promise<SizeT> promise,
+                                      final FileDescriptor fileDescriptor,
+                                      final OffsetT offset,
+                                      final Option<Timeout> timeout,
+                                      final OffHeapBuffer... buffers) {
+        readVector(promiseCompletion(promise), fileDescriptor, offset, timeout, buffers);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #readVector(Promise, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param fileDescriptor
+     *         File descriptor to read from
+     * @param offset
+     *         Initial offset in the input file
+     * @param timeout
+     *         Optional operation timeout
+     * @param buffers
+     *         Set of buffers where read information will be put. Each buffer should have it's {@link OffHeapBuffer#used()} property set to actual number of bytes which application
+     *         expects to see in this buffer.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> readVector(final FileDescriptor fileDescriptor,
+                                      final OffsetT offset,
+                                      final Option<Timeout> timeout,
+                                      final OffHeapBuffer... buffers) {
+        return readVector(Promise.promise(), fileDescriptor, offset, timeout, buffers);
+    }
+
+    /**
+     * Write from buffers passed as a parameters.
+     * <p>
+     * Note that only {@link OffHeapBuffer#used()} portion of the each buffer is written.
+     * <p>
+     * Upon completion callback is invoked with total number of bytes written.
+     *
+     * @param fileDescriptor
+     *         File descriptor to read from
+     * @param offset
+     *         Initial offset in file
+     * @param timeout
+     *         Optional operation timeout
+     * @param buffers
+     *         Set of buffers to write from
+     */
+    void writeVector(final BiConsumer<Result<SizeT>, Submitter> completion,
+                     final FileDescriptor fileDescriptor,
+                     final OffsetT offset,
+                     final Option<Timeout> timeout,
+                     final OffHeapBuffer... buffers);
+
+    /**
+     * Same as {@link #writeVector(BiConsumer, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fileDescriptor
+     *         File descriptor to read from
+     * @param offset
+     *         Initial offset in file
+     * @param timeout
+     *         Optional operation timeout
+     * @param buffers
+     *         Set of buffers to write from
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> writeVector(final Promise<SizeT> promise,
+                                       final FileDescriptor fileDescriptor,
+                                       final OffsetT offset,
+                                       final Option<Timeout> timeout,
+                                       final OffHeapBuffer... buffers) {
+        writeVector(promiseCompletion(promise), fileDescriptor, offset, timeout, buffers);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #writeVector(Promise, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param fileDescriptor
+     *         File descriptor to read from
+     * @param offset
+     *         Initial offset in file
+     * @param timeout
+     *         Optional operation timeout
+     * @param buffers
+     *         Set of buffers to write from
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> writeVector(final FileDescriptor fileDescriptor,
+                                       final OffsetT offset,
+                                       final Option<Timeout> timeout,
+                                       final OffHeapBuffer... buffers) {
+        return writeVector(Promise.promise(), fileDescriptor, offset, timeout, buffers);
+    }
+
+    /**
+     * Submit READ operation with kernel buffer selection.
+     * <p>
+     * Unlike {@link #read(BiConsumer, FileDescriptor, OffHeapBuffer, OffsetT, Option)}, buffer is not passed with the request. Instead, kernel
+     * selects buffer from the group of buffers provided to the IO_URING instance at the moment when data are available. This allows
+     * keeping memory consumption proportional to the number of in-flight reads rather than to the number of open connections.
+     * <p>
+     * Upon successful completion, callback receives selected buffer with {@link OffHeapBuffer#used()} set to the number of bytes read.
+     * Application must return buffer to the group by invoking {@link ProvidedBuffer#dispose()} once data are processed. If group of provided
+     * buffers is not configured or all buffers are in use, operation fails with {@link org.reactivetoolbox.io.NativeFailureType#ENOBUFS}.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param fdIn
+     *         File descriptor to read from.
+     * @param offset
+     *         Offset to read from if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
+     */
+    void readProvided(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                      final FileDescriptor fdIn,
+                      final OffsetT offset,
+                      final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #readProvided(BiConsumer, FileDescriptor, OffsetT, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fdIn
+     *         File descriptor to read from.
+     * @param offset
+     *         Offset to read from if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<ProvidedBuffer> readProvided(final Promise<ProvidedBuffer> promise,
+                                                 final FileDescriptor fdIn,
+                                                 final OffsetT offset,
+                                                 final Option<Timeout> timeout) {
+        readProvided(promiseCompletion(promise), fdIn, offset, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #readProvided(Promise, FileDescriptor, OffsetT, Option)} except new {@link Promise} instance is created rather than
+     * received as a parameter.
+     *
+     * @param fdIn
+     *         File descriptor to read from.
+     * @param offset
+     *         Offset to read from if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<ProvidedBuffer> readProvided(final FileDescriptor fdIn,
+                                                 final OffsetT offset,
+                                                 final Option<Timeout> timeout) {
+        return readProvided(Promise.promise(), fdIn, offset, timeout);
+    }
+
+    /**
+     * Submit multishot RECV operation with kernel buffer selection.
+     * <p>
+     * Single submission receives data from the socket until EOF, error, exhaustion of the group of provided buffers or until operation is
+     * stopped. Callback is invoked for every received chunk of data with the buffer selected by kernel (see
+     * {@link #readProvided(BiConsumer, FileDescriptor, OffsetT, Option)} for details about buffer selection). Each received buffer must be
+     * returned back to the group by invoking {@link ProvidedBuffer#dispose()}.
+     * <p>
+     * Failure passed to callback means that operation is terminated and no more data will be delivered. EOF is reported as
+     * {@link org.reactivetoolbox.io.NativeFailureType#ENODATA}. Exhaustion of the buffer group is reported as
+     * {@link org.reactivetoolbox.io.NativeFailureType#ENOBUFS}, in this case operation can be submitted again once some buffers are released.
+     * <p>
+     * Operation is stopped by cancelling provided stop handle with {@link Promise#cancel()}, in this case callback receives
+     * {@link org.reactivetoolbox.io.NativeFailureType#ECANCELED}. Once operation is terminated for any other reason, stop handle is
+     * resolved with the same failure as passed to the callback, so it can be used to get notified about termination.
+     *
+     * @param completion
+     *         Callback which is invoked for every received chunk of data and upon termination of the operation.
+     * @param stop
+     *         Stop handle of the operation.
+     * @param socket
+     *         Socket to receive data from.
+     */
+    void receiveMultishot(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                          final Promise<Unit> stop,
+                          final FileDescriptor socket);
+
+    /**
+     * Submit multishot RECV operation with kernel buffer selection.
+     * <p>
+     * Convenience method which creates stop handle (see {@link #receiveMultishot(BiConsumer, Promise, FileDescriptor)} for more details).
+     *
+     * @param completion
+     *         Callback which is invoked for every received chunk of data and upon termination of the operation.
+     * @param socket
+     *         Socket to receive data from.
+     * @return stop handle of the operation.
+     */
+    default Promise<Unit> receiveMultishot(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                                           final FileDescriptor socket) {
+        final Promise<Unit> stop = Promise.promise();
+        receiveMultishot(completion, stop, socket);
+        return stop;
+    }
+
+    /**
+     * Register file descriptor in the table of fixed files of the underlying IO_URING instance.
+     * <p>
+     * Returned file descriptor refers the slot in the table. Operations which are submitted to the same IO_URING instance with this descriptor
+     * refer the file by slot index, which saves kernel from looking up and reference counting the file on every operation. Operations
+     * submitted to other IO_URING instances use descriptor as usual. Descriptor is automatically removed from the table when it is closed
+     * with {@link #closeFileDescriptor(BiConsumer, FileDescriptor, Option)}.
+     *
+     * @param fd
+     *         File descriptor to register.
+     * @return registered file descriptor or failure if there are no free slots in the table or table is not configured.
+     */
+    Result<FileDescriptor> registerFile(final FileDescriptor fd);
+
+    /**
+     * Remove file descriptor from the table of fixed files where it was registered with {@link #registerFile(FileDescriptor)}.
+     *
+     * @param fd
+     *         File descriptor to unregister.
+     * @return file descriptor which is not associated with table of fixed files.
+     */
+    Result<FileDescriptor> unregisterFile(final FileDescriptor fd);
+
+    /**
+     * Obtain buffer from the set of buffers registered with the underlying IO_URING instance.
+     * <p>
+     * Returned buffer should be returned to the pool once it is no longer necessary by invoking {@link FixedBuffer#dispose()}.
+     *
+     * @return buffer or empty {@link Option} if there are no free buffers or fixed buffers are not configured.
+     */
+    Option<FixedBuffer> fixedBuffer();
+
+    /**
+     * Submit READ_FIXED operation.
+     * <p>
+     * Same as {@link #read(BiConsumer, FileDescriptor, OffHeapBuffer, OffsetT, Option)}, except buffer is one of the buffers registered with
+     * IO_URING instance, so kernel does not need to map and pin buffer memory for every operation. If buffer is not registered with the
+     * IO_URING instance which serves this {@link Submitter}, then plain READ operation is performed instead.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param fdIn
+     *         File descriptor to read from.
+     * @param buffer
+     *         Data buffer obtained from {@link #fixedBuffer()}.
+     * @param offset
+     *         Offset to read from if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
+     */
+    void readFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                   final FileDescriptor fdIn,
+                   final FixedBuffer buffer,
+                   final OffsetT offset,
+                   final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #readFixed(BiConsumer, FileDescriptor, FixedBuffer, OffsetT, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param fdIn
+     *         File descriptor to read from.
+     * @param buffer
+     *         Data buffer obtained from {@link #fixedBuffer()}.
+     * @param offset
+     *         Offset to read from if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> readFixed(final Promise<SizeT> promise,
+                                     final FileDescriptor fdIn,
+                                     final FixedBuffer buffer,
+                                     final OffsetT offset,
+                                     final Option<Timeout> timeout) {
+        readFixed(promiseCompletion(promise), fdIn, buffer, offset, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #readFixed(Promise, FileDescriptor, FixedBuffer, OffsetT, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param fdIn
+     *         File descriptor to read from.
+     * @param buffer
+     *         Data buffer obtained from {@link #fixedBuffer()}.
+     * @param offset
+     *         Offset to read from if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> readFixed(final FileDescriptor fdIn,
+                                     final FixedBuffer buffer,
+                                     final OffsetT offset,
+                                     final Option<Timeout> timeout) {
+        return readFixed(Promise.promise(), fdIn, buffer, offset, timeout);
+    }
+
+    /**
+     * Submit WRITE_FIXED operation.
+     * <p>
+     * Same as {@link #write(BiConsumer, FileDescriptor, OffHeapBuffer, OffsetT, Option)}, except buffer is one of the buffers registered with
+     * IO_URING instance. If buffer is not registered with the IO_URING instance which serves this {@link Submitter}, then plain WRITE
+     * operation is performed instead.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param fdOut
+     *         File descriptor to write to.
+     * @param buffer
+     *         Data buffer obtained from {@link #fixedBuffer()}.
+     * @param offset
+     *         Offset in a file to start writing if file descriptor points to file.
+     * @param timeout
+     *         Optional operation timeout.
      */
-    void stat(final BiConsumer<Result<FileStat>, Submitter> completion,
-              final FileDescriptor fd,
-              final Set<StatFlag> flags,
-              final Set<StatMask> mask,
-              final Option<Timeout> timeout);
+    void writeFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                    final FileDescriptor fdOut,
+                    final FixedBuffer buffer,
+                    final OffsetT offset,
+                    final Option<Timeout> timeout);
 
     /**
-     * Same as {@link #stat(BiConsumer, FileDescriptor, Set, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #writeFixed(BiConsumer, FileDescriptor, FixedBuffer, OffsetT, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
-     * @param fd
-     *         File descriptor
-     * @param flags
-     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
-     * @param mask
-     *         Specification of which information should be retrieved.
+     * @param fdOut
+     *         File descriptor to write to.
+     * @param buffer
+     *         Data buffer obtained from {@link #fixedBuffer()}.
+     * @param offset
+     *         Offset in a file to start writing if file descriptor points to file.
      * @param timeout
-     *         Optional operation timeout
+     *         Optional operation timeout.
      * @return input {@link Promise} instance.
-     *
-     * @see FileStat
      */
-    default Promise<FileStat> stat(final Promise<FileStat> promise,
-                                   final FileDescriptor fd,
-                                   final Set<StatFlag> flags,
-                                   final Set<StatMask> mask,
-                                   final Option<Timeout> timeout) {
-        stat(promise::syncResolve, fd, flags, mask, timeout);
+    default Promise<SizeT> writeFixed(final Promise<SizeT> promise,
+                                      final FileDescriptor fdOut,
+                                      final FixedBuffer buffer,
+                                      final OffsetT offset,
+                                      final Option<Timeout> timeout) {
+        writeFixed(promiseCompletion(promise), fdOut, buffer, offset, timeout);
         return promise;
     }
 
     /**
-     * Same as {@link #stat(Promise, FileDescriptor, Set, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #writeFixed(Promise, FileDescriptor, FixedBuffer, OffsetT, Option)} except new {@link Promise} instance is created rather than received as a parameter.
      *
-     * @param fd
-     *         File descriptor
-     * @param flags
-     *         Flags which affect how information is retrieved, refer to {@link StatFlag} for more details
-     * @param mask
-     *         Specification of which information should be retrieved.
+     * @param fdOut
+     *         File descriptor to write to.
+     * @param buffer
+     *         Data buffer obtained from {@link #fixedBuffer()}.
+     * @param offset
+     *         Offset in a file to start writing if file descriptor points to file.
      * @param timeout
-     *         Optional operation timeout
+     *         Optional operation timeout.
      * @return created {@link Promise} instance.
-     *
-     * @see FileStat
      */
-    default Promise<FileStat> stat(final FileDescriptor fd,
-                                   final Set<StatFlag> flags,
-                                   final Set<StatMask> mask,
-                                   final Option<Timeout> timeout) {
-        return stat(Promise.promise(), fd, flags, mask, timeout);
+    default Promise<SizeT> writeFixed(final FileDescriptor fdOut,
+                                      final FixedBuffer buffer,
+                                      final OffsetT offset,
+                                      final Option<Timeout> timeout) {
+        return writeFixed(Promise.promise(), fdOut, buffer, offset, timeout);
     }
 
     /**
-     * Read into buffers passed as a parameters.
+     * Read into fixed buffers passed as a parameters.
      * <p>
-     * Note that for proper operation this method requires that every passed buffer should have set {@link OffHeapBuffer#used()} value to actual number of bytes to be read into
-     * this buffer.
+     * Same as {@link #readVector(BiConsumer, FileDescriptor, OffsetT, Option, OffHeapBuffer...)}, except buffers are registered with IO_URING
+     * instance. Since there is no vectored version of READ_FIXED, each buffer is read by separate READ_FIXED operation and operations are
+     * linked together. Chain is terminated by first short read or error. If timeout is specified, it is applied to each operation in the chain.
+     * If at least one buffer is not registered with the IO_URING instance which serves this {@link Submitter} or chain does not fit into
+     * submission queue, then plain vectored read is performed instead.
      * <p>
      * Upon completion callback is invoked with total number of bytes read.
      *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
      * @param fileDescriptor
      *         File descriptor to read from
      * @param offset
@@ -841,14 +1809,14 @@ public interface Submitter {
      *         Set of buffers where read information will be put. Each buffer should have it's {@link OffHeapBuffer#used()} property set to actual number of bytes which application
      *         expects to see in this buffer.
      */
-    void readVector(final BiConsumer<Result<SizeT>, Submitter> completion,
-                    final FileDescriptor fileDescriptor,
-                    final OffsetT offset,
-                    final Option<Timeout> timeout,
-                    final OffHeapBuffer... buffers);
+    void readVectorFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                         final FileDescriptor fileDescriptor,
+                         final OffsetT offset,
+                         final Option<Timeout> timeout,
+                         final FixedBuffer... buffers);
 
     /**
-     * Same as {@link #readVector(BiConsumer, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #readVectorFixed(BiConsumer, FileDescriptor, OffsetT, Option, FixedBuffer...)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
@@ -863,17 +1831,17 @@ public interface Submitter {
      *         expects to see in this buffer.
      * @return input {@link Promise} instance.
      */
-    default Promise<SizeT> readVector(final Promise<SizeT> promise,
-                                      final FileDescriptor fileDescriptor,
-                                      final OffsetT offset,
-                                      final Option<Timeout> timeout,
-                                      final OffHeapBuffer... buffers) {
-        readVector(promise::syncResolve, fileDescriptor, offset, timeout, buffers);
+    default Promise<SizeT> readVectorFixed(final Promise<SizeT> promise,
+                                           final FileDescriptor fileDescriptor,
+                                           final OffsetT offset,
+                                           final Option<Timeout> timeout,
+                                           final FixedBuffer... buffers) {
+        readVectorFixed(promiseCompletion(promise), fileDescriptor, offset, timeout, buffers);
         return promise;
     }
 
     /**
-     * Same as {@link #readVector(Promise, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #readVectorFixed(Promise, FileDescriptor, OffsetT, Option, FixedBuffer...)} except new {@link Promise} instance is created rather than received as a parameter.
      *
      * @param fileDescriptor
      *         File descriptor to read from
@@ -886,22 +1854,27 @@ public interface Submitter {
      *         expects to see in this buffer.
      * @return created {@link Promise} instance.
      */
-    default Promise<SizeT> readVector(final FileDescriptor fileDescriptor,
-                                      final OffsetT offset,
-                                      final Option<Timeout> timeout,
-                                      final OffHeapBuffer... buffers) {
-        return readVector(Promise.promise(), fileDescriptor, offset, timeout, buffers);
+    default Promise<SizeT> readVectorFixed(final FileDescriptor fileDescriptor,
+                                           final OffsetT offset,
+                                           final Option<Timeout> timeout,
+                                           final FixedBuffer... buffers) {
+        return readVectorFixed(Promise.promise(), fileDescriptor, offset, timeout, buffers);
     }
 
     /**
-     * Write from buffers passed as a parameters.
+     * Write from fixed buffers passed as a parameters.
      * <p>
-     * Note that only {@link OffHeapBuffer#used()} portion of the each buffer is written.
+     * Same as {@link #writeVector(BiConsumer, FileDescriptor, OffsetT, Option, OffHeapBuffer...)}, except buffers are registered with IO_URING
+     * instance. Each buffer is written by separate WRITE_FIXED operation and operations are linked together. If timeout is specified, it is
+     * applied to each operation in the chain. If at least one buffer is not registered with the IO_URING instance which serves this
+     * {@link Submitter} or chain does not fit into submission queue, then plain vectored write is performed instead.
      * <p>
      * Upon completion callback is invoked with total number of bytes written.
      *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
      * @param fileDescriptor
-     *         File descriptor to read from
+     *         File descriptor to write to
      * @param offset
      *         Initial offset in file
      * @param timeout
@@ -909,19 +1882,19 @@ public interface Submitter {
      * @param buffers
      *         Set of buffers to write from
      */
-    void writeVector(final BiConsumer<Result<SizeT>, Submitter> completion,
-                     final FileDescriptor fileDescriptor,
-                     final OffsetT offset,
-                     final Option<Timeout> timeout,
-                     final OffHeapBuffer... buffers);
+    void writeVectorFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                          final FileDescriptor fileDescriptor,
+                          final OffsetT offset,
+                          final Option<Timeout> timeout,
+                          final FixedBuffer... buffers);
 
     /**
-     * Same as {@link #writeVector(BiConsumer, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
+     * Same as {@link #writeVectorFixed(BiConsumer, FileDescriptor, OffsetT, Option, FixedBuffer...)} except {@link Promise#syncResolve(Result, Submitter)} is used as a callback.
      *
      * @param promise
      *         Input {@link Promise} instance to resolve upon completion.
      * @param fileDescriptor
-     *         File descriptor to read from
+     *         File descriptor to write to
      * @param offset
      *         Initial offset in file
      * @param timeout
@@ -930,20 +1903,20 @@ public interface Submitter {
      *         Set of buffers to write from
      * @return input {@link Promise} instance.
      */
-    default Promise<SizeT> writeVector(final Promise<SizeT> promise,
-                                       final FileDescriptor fileDescriptor,
-                                       final OffsetT offset,
-                                       final Option<Timeout> timeout,
-                                       final OffHeapBuffer... buffers) {
-        writeVector(promise::syncResolve, fileDescriptor, offset, timeout, buffers);
+    default Promise<SizeT> writeVectorFixed(final Promise<SizeT> promise,
+                                            final FileDescriptor fileDescriptor,
+                                            final OffsetT offset,
+                                            final Option<Timeout> timeout,
+                                            final FixedBuffer... buffers) {
+        writeVectorFixed(promiseCompletion(promise), fileDescriptor, offset, timeout, buffers);
         return promise;
     }
 
     /**
-     * Same as {@link #writeVector(Promise, FileDescriptor, OffsetT, Option, OffHeapBuffer...)} except new {@link Promise} instance is created rather than received as a parameter.
+     * Same as {@link #writeVectorFixed(Promise, FileDescriptor, OffsetT, Option, FixedBuffer...)} except new {@link Promise} instance is created rather than received as a parameter.
      *
      * @param fileDescriptor
-     *         File descriptor to read from
+     *         File descriptor to write to
      * @param offset
      *         Initial offset in file
      * @param timeout
@@ -952,16 +1925,324 @@ public interface Submitter {
      *         Set of buffers to write from
      * @return created {@link Promise} instance.
      */
-    default Promise<SizeT> writeVector(final FileDescriptor fileDescriptor,
-                                       final OffsetT offset,
-                                       final Option<Timeout> timeout,
-                                       final OffHeapBuffer... buffers) {
-        return writeVector(Promise.promise(), fileDescriptor, offset, timeout, buffers);
+    default Promise<SizeT> writeVectorFixed(final FileDescriptor fileDescriptor,
+                                            final OffsetT offset,
+                                            final Option<Timeout> timeout,
+                                            final FixedBuffer... buffers) {
+        return writeVectorFixed(Promise.promise(), fileDescriptor, offset, timeout, buffers);
+    }
+
+    /**
+     * Submit chain of linked operations.
+     * <p>
+     * Operations are submitted as a single sequence of linked submission queue entries and executed by kernel one after another. Callback
+     * is invoked once, when all steps are finished, with the results of every step (see {@link ChainResult}). If step fails and links are
+     * soft (default), remaining steps are not executed and reported as {@link org.reactivetoolbox.io.NativeFailureType#ECANCELED}. See
+     * {@link OperationChain} for details.
+     * <p>
+     * Empty chain and chain which does not fit into submission queue are rejected with {@link org.reactivetoolbox.io.NativeFailureType#EINVAL}.
+     *
+     * @param completion
+     *         Callback which is invoked once all steps of the chain are finished.
+     * @param chain
+     *         Chain of operations to submit.
+     */
+    void submitChain(final BiConsumer<Result<ChainResult>, Submitter> completion,
+                     final OperationChain chain);
+
+    /**
+     * Same as {@link #submitChain(BiConsumer, OperationChain)} except result is returned as a {@link Promise}.
+     *
+     * @param promise
+     *         {@link Promise} instance which will be resolved with the results of the chain.
+     * @param chain
+     *         Chain of operations to submit.
+     * @return {@link Promise} instance passed as parameter.
+     */
+    default Promise<ChainResult> submitChain(final Promise<ChainResult> promise,
+                                             final OperationChain chain) {
+        submitChain(promiseCompletion(promise), chain);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #submitChain(Promise, OperationChain)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param chain
+     *         Chain of operations to submit.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<ChainResult> submitChain(final OperationChain chain) {
+        return submitChain(Promise.promise(), chain);
     }
 
 
     //TODO: implement it. what should we return here?
     //Submitter batch(final Consumer<Submitter> submitterConsumer);
 
-    //TODO: recv, send - implement later, when handling for specific cases will be necessary
+    /**
+     * Submit SEND operation.
+     * <p>
+     * Sends {@link OffHeapBuffer#used()} bytes from buffer to connected socket. Upon completion callback is invoked with number of bytes actually sent. Use {@link MessageFlags#MORE} to let kernel coalesce this data with subsequent send (for example, response header and body) and {@link MessageFlags#NOSIGNAL} to get {@link org.reactivetoolbox.io.NativeFailureType#EPIPE} instead of SIGPIPE when peer closed connection.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param socket
+     *         Socket to send data to.
+     * @param buffer
+     *         Data to send.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional operation timeout.
+     */
+    void send(final BiConsumer<Result<SizeT>, Submitter> completion,
+              final FileDescriptor socket,
+              final OffHeapBuffer buffer,
+              final Set<MessageFlags> msgFlags,
+              final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #send(BiConsumer, FileDescriptor, OffHeapBuffer, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socket
+     *         Socket to send data to.
+     * @param buffer
+     *         Data to send.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional operation timeout.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> send(final Promise<SizeT> promise,
+                                final FileDescriptor socket,
+                                final OffHeapBuffer buffer,
+                                final Set<MessageFlags> msgFlags,
+                                final Option<Timeout> timeout) {
+        send(promiseCompletion(promise), socket, buffer, msgFlags, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #send(Promise, FileDescriptor, OffHeapBuffer, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socket
+     *         Socket to send data to.
+     * @param buffer
+     *         Data to send.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional operation timeout.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> send(final FileDescriptor socket,
+                                final OffHeapBuffer buffer,
+                                final Set<MessageFlags> msgFlags,
+                                final Option<Timeout> timeout) {
+        return send(Promise.promise(), socket, buffer, msgFlags, timeout);
+    }
+
+    /**
+     * Submit RECV operation.
+     * <p>
+     * Receives data from connected socket into buffer. Upon completion callback is invoked with number of bytes received and {@link OffHeapBuffer#used()} is updated accordingly. Use {@link MessageFlags#WAITALL} to wait until whole buffer is filled. Closing of the connection by peer is reported as {@link org.reactivetoolbox.io.NativeFailureType#ENODATA}.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param socket
+     *         Socket to receive data from.
+     * @param buffer
+     *         Buffer to receive data into.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional operation timeout.
+     */
+    void recv(final BiConsumer<Result<SizeT>, Submitter> completion,
+              final FileDescriptor socket,
+              final OffHeapBuffer buffer,
+              final Set<MessageFlags> msgFlags,
+              final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #recv(BiConsumer, FileDescriptor, OffHeapBuffer, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socket
+     *         Socket to receive data from.
+     * @param buffer
+     *         Buffer to receive data into.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional operation timeout.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> recv(final Promise<SizeT> promise,
+                                final FileDescriptor socket,
+                                final OffHeapBuffer buffer,
+                                final Set<MessageFlags> msgFlags,
+                                final Option<Timeout> timeout) {
+        recv(promiseCompletion(promise), socket, buffer, msgFlags, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #recv(Promise, FileDescriptor, OffHeapBuffer, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socket
+     *         Socket to receive data from.
+     * @param buffer
+     *         Buffer to receive data into.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional operation timeout.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> recv(final FileDescriptor socket,
+                                final OffHeapBuffer buffer,
+                                final Set<MessageFlags> msgFlags,
+                                final Option<Timeout> timeout) {
+        return recv(Promise.promise(), socket, buffer, msgFlags, timeout);
+    }
+
+    /**
+     * Submit batch of SENDMSG operations.
+     * <p>
+     * Sends all datagrams added to the batch (see {@link DatagramBatch#add(byte[], SocketAddress)}) with single submission. Each datagram
+     * is sent to the address of the peer stored along with it. Upon completion callback is invoked with number of sent datagrams. Result of
+     * sending of each individual datagram is available via {@link DatagramBatch#result(int)}.
+     *
+     * @param completion
+     *         Callback which is invoked once all datagrams are processed.
+     * @param socket
+     *         Datagram socket to send data to.
+     * @param batch
+     *         Datagrams to send.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     */
+    void sendBatch(final BiConsumer<Result<SizeT>, Submitter> completion,
+                   final FileDescriptor socket,
+                   final DatagramBatch batch,
+                   final Set<MessageFlags> msgFlags);
+
+    /**
+     * Same as {@link #sendBatch(BiConsumer, FileDescriptor, DatagramBatch, Set)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socket
+     *         Datagram socket to send data to.
+     * @param batch
+     *         Datagrams to send.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> sendBatch(final Promise<SizeT> promise,
+                                     final FileDescriptor socket,
+                                     final DatagramBatch batch,
+                                     final Set<MessageFlags> msgFlags) {
+        sendBatch(promiseCompletion(promise), socket, batch, msgFlags);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #sendBatch(Promise, FileDescriptor, DatagramBatch, Set)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socket
+     *         Datagram socket to send data to.
+     * @param batch
+     *         Datagrams to send.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> sendBatch(final FileDescriptor socket,
+                                     final DatagramBatch batch,
+                                     final Set<MessageFlags> msgFlags) {
+        return sendBatch(Promise.promise(), socket, batch, msgFlags);
+    }
+
+    /**
+     * Submit batch of RECVMSG operations.
+     * <p>
+     * Receives up to {@link DatagramBatch#count()} datagrams with single submission. Operation waits for the first datagram and then picks up
+     * all datagrams already queued in the socket without waiting. Upon completion callback is invoked with number of received datagrams.
+     * Received datagrams occupy first {@link DatagramBatch#used()} slots of the batch, content and address of the sender of each datagram
+     * are available via {@link DatagramBatch#data(int)} and {@link DatagramBatch#peer(int)}.
+     * <p>
+     * Note that batch size can't exceed size of the submission queue, otherwise operation fails with {@link org.reactivetoolbox.io.NativeFailureType#EINVAL}.
+     *
+     * @param completion
+     *         Callback which is invoked once operation is finished.
+     * @param socket
+     *         Datagram socket to receive data from.
+     * @param batch
+     *         Batch to receive datagrams into.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional timeout for waiting of the first datagram.
+     */
+    void receiveBatch(final BiConsumer<Result<SizeT>, Submitter> completion,
+                      final FileDescriptor socket,
+                      final DatagramBatch batch,
+                      final Set<MessageFlags> msgFlags,
+                      final Option<Timeout> timeout);
+
+    /**
+     * Same as {@link #receiveBatch(BiConsumer, FileDescriptor, DatagramBatch, Set, Option)} except {@link Promise#syncResolve(Result, Submitter)}
+     * is used as a callback.
+     *
+     * @param promise
+     *         Input {@link Promise} instance to resolve upon completion.
+     * @param socket
+     *         Datagram socket to receive data from.
+     * @param batch
+     *         Batch to receive datagrams into.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional timeout for waiting of the first datagram.
+     * @return input {@link Promise} instance.
+     */
+    default Promise<SizeT> receiveBatch(final Promise<SizeT> promise,
+                                        final FileDescriptor socket,
+                                        final DatagramBatch batch,
+                                        final Set<MessageFlags> msgFlags,
+                                        final Option<Timeout> timeout) {
+        receiveBatch(promiseCompletion(promise), socket, batch, msgFlags, timeout);
+        return promise;
+    }
+
+    /**
+     * Same as {@link #receiveBatch(Promise, FileDescriptor, DatagramBatch, Set, Option)} except new {@link Promise} instance is created rather than received as a parameter.
+     *
+     * @param socket
+     *         Datagram socket to receive data from.
+     * @param batch
+     *         Batch to receive datagrams into.
+     * @param msgFlags
+     *         Message flags (see {@link MessageFlags}).
+     * @param timeout
+     *         Optional timeout for waiting of the first datagram.
+     * @return created {@link Promise} instance.
+     */
+    default Promise<SizeT> receiveBatch(final FileDescriptor socket,
+                                        final DatagramBatch batch,
+                                        final Set<MessageFlags> msgFlags,
+                                        final Option<Timeout> timeout) {
+        return receiveBatch(Promise.promise(), socket, batch, msgFlags, timeout);
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.file;
+
+import org.reactivetoolbox.io.Bitmask;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Mode of the fallocate(2) operation. Empty set of flags means plain allocation of the disk space, which extends file if necessary.
+ */
+public enum FallocateMode implements Bitmask {
+    KEEP_SIZE(0x01),        /* FALLOC_FL_KEEP_SIZE      : Allocate space, but don't change file size */
+    PUNCH_HOLE(0x02),       /* FALLOC_FL_PUNCH_HOLE     : Deallocate range, must be used with KEEP_SIZE */
+    NO_HIDE_STALE(0x04),    /* FALLOC_FL_NO_HIDE_STALE  : Reserved */
+    COLLAPSE_RANGE(0x08),   /* FALLOC_FL_COLLAPSE_RANGE : Remove range without leaving a hole */
+    ZERO_RANGE(0x10),       /* FALLOC_FL_ZERO_RANGE     : Zero range, allocating space if necessary */
+    INSERT_RANGE(0x20),     /* FALLOC_FL_INSERT_RANGE   : Insert hole without overwriting existing data */
+    UNSHARE_RANGE(0x40);    /* FALLOC_FL_UNSHARE_RANGE  : Unshare blocks shared between files */
+
+    private static final Set<FallocateMode> NONE = EnumSet.noneOf(FallocateMode.class);
+    private static final Set<FallocateMode> PUNCH = EnumSet.of(PUNCH_HOLE, KEEP_SIZE);
+
+    private final int mask;
+
+    FallocateMode(final int mask) {
+        this.mask = mask;
+    }
+
+    @Override
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Plain allocation of the disk space.
+     */
+    public static Set<FallocateMode> allocate() {
+        return NONE;
+    }
+
+    /**
+     * Deallocate disk space without changing file size.
+     */
+    public static Set<FallocateMode> punchHole() {
+        return PUNCH;
+    }
+}
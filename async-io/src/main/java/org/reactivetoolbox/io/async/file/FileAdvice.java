@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.file;
+
+/**
+ * Expected file access pattern passed to posix_fadvise(2).
+ */
+public enum FileAdvice {
+    NORMAL(0),          /* POSIX_FADV_NORMAL     : No special treatment */
+    RANDOM(1),          /* POSIX_FADV_RANDOM     : Expect random page references, disable read-ahead */
+    SEQUENTIAL(2),      /* POSIX_FADV_SEQUENTIAL : Expect sequential page references, increase read-ahead */
+    WILLNEED(3),        /* POSIX_FADV_WILLNEED   : Data will be needed soon, start read-ahead */
+    DONTNEED(4),        /* POSIX_FADV_DONTNEED   : Data will not be needed soon, drop clean pages from page cache */
+    NOREUSE(5);         /* POSIX_FADV_NOREUSE    : Data will be accessed only once */
+
+    private final int code;
+
+    FileAdvice(final int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+}
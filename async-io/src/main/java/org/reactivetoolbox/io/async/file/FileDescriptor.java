@@ -24,14 +24,28 @@ import static org.reactivetoolbox.io.async.file.DescriptorType.SOCKET6;
 
 /**
  * General purpose Linux file descriptor.
+ * <p>
+ * File descriptor may be registered in the table of fixed files of one of the IO_URING instances. In this case it carries identifier of
+ * the ring and index of the slot in the ring table. Operations submitted to the same ring then refer to the descriptor by the slot index,
+ * which saves kernel from looking up the file on every operation.
  */
 public class FileDescriptor {
+    private static final int NOT_FIXED = -1;
+
     private final int fd;
     private final DescriptorType type;
+    private final int ring;
+    private final int slot;
 
     private FileDescriptor(final int fd, final DescriptorType type) {
+        this(fd, type, NOT_FIXED, NOT_FIXED);
+    }
+
+    private FileDescriptor(final int fd, final DescriptorType type, final int ring, final int slot) {
         this.fd = fd;
         this.type = type;
+        this.ring = ring;
+        this.slot = slot;
     }
 
     public boolean isSocket() {
@@ -46,10 +60,55 @@ public class FileDescriptor {
         return fd;
     }
 
+    public boolean isFixed() {
+        return slot != NOT_FIXED;
+    }
+
+    /**
+     * Check if descriptor exists only in the table of fixed files, i.e. file was opened directly into the table and has no plain
+     * descriptor.
+     */
+    public boolean isDirect() {
+        return fd == NOT_FIXED && slot != NOT_FIXED;
+    }
+
+    public boolean isFixedIn(final int ring) {
+        return slot != NOT_FIXED && this.ring == ring;
+    }
+
+    public int fixedRing() {
+        return ring;
+    }
+
+    public int fixedSlot() {
+        return slot;
+    }
+
+    /**
+     * Create copy of this file descriptor which refers specified slot in the table of fixed files of specified ring.
+     */
+    public FileDescriptor fixed(final int ring, final int slot) {
+        return new FileDescriptor(fd, type, ring, slot);
+    }
+
+    /**
+     * Create copy of this file descriptor which is not associated with any table of fixed files.
+     */
+    public FileDescriptor plain() {
+        return isFixed() ? new FileDescriptor(fd, type) : this;
+    }
+
     public static FileDescriptor file(final int fd) {
         return new FileDescriptor(fd, FILE);
     }
 
+    /**
+     * Create descriptor of the file opened directly into specified slot of the table of fixed files of specified ring.
+     */
+    public static FileDescriptor direct(final int ring, final int slot) {
+        return new FileDescriptor(NOT_FIXED, FILE, ring, slot);
+    }
+
     public static FileDescriptor socket(final int fd) {
         return new FileDescriptor(fd, SOCKET);
     }
@@ -77,6 +136,7 @@ public class FileDescriptor {
 
     @Override
     public String toString() {
-        return "FileDescriptor(" + fd + ", " + type + ")";
+        return isFixed() ? "FileDescriptor(" + fd + ", " + type + ", " + ring + ":" + slot + ")"
+                         : "FileDescriptor(" + fd + ", " + type + ")";
     }
 }
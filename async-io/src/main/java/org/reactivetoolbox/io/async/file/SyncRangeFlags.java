@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.file;
+
+import org.reactivetoolbox.io.Bitmask;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Flags for sync_file_range(2) operation.
+ */
+public enum SyncRangeFlags implements Bitmask {
+    WAIT_BEFORE(1),     /* SYNC_FILE_RANGE_WAIT_BEFORE : Wait for write-out of already submitted pages in the range */
+    WRITE(2),           /* SYNC_FILE_RANGE_WRITE       : Initiate write-out of dirty pages in the range */
+    WAIT_AFTER(4);      /* SYNC_FILE_RANGE_WAIT_AFTER  : Wait for write-out of all pages in the range */
+
+    private static final Set<SyncRangeFlags> WRITE_AND_WAIT = EnumSet.allOf(SyncRangeFlags.class);
+    private static final Set<SyncRangeFlags> WRITE_ONLY = EnumSet.of(WRITE);
+
+    private final int mask;
+
+    SyncRangeFlags(final int mask) {
+        this.mask = mask;
+    }
+
+    @Override
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Start write-out of dirty pages and wait until it is finished.
+     */
+    public static Set<SyncRangeFlags> writeAndWait() {
+        return WRITE_AND_WAIT;
+    }
+
+    /**
+     * Start write-out of dirty pages without waiting for it.
+     */
+    public static Set<SyncRangeFlags> writeOnly() {
+        return WRITE_ONLY;
+    }
+}
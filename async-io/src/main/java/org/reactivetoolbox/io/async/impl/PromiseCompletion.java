@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.impl;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.async.Promise;
+import org.reactivetoolbox.io.async.Submitter;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Completion which resolves {@link Promise}. Unlike plain method reference, it keeps reference to the target promise, so pending
+ * operation can be located and cancelled once promise is cancelled.
+ */
+public final class PromiseCompletion<T> implements BiConsumer<Result<T>, Submitter> {
+    private final Promise<T> promise;
+
+    private PromiseCompletion(final Promise<T> promise) {
+        this.promise = promise;
+    }
+
+    public static <T> PromiseCompletion<T> promiseCompletion(final Promise<T> promise) {
+        return new PromiseCompletion<>(promise);
+    }
+
+    public Promise<T> promise() {
+        return promise;
+    }
+
+    @Override
+    public void accept(final Result<T> result, final Submitter submitter) {
+        promise.syncResolve(result, submitter);
+    }
+}
@@ -19,6 +19,7 @@ package org.reactivetoolbox.io.async.impl;
 import org.reactivetoolbox.core.Errors;
 import org.reactivetoolbox.core.lang.functional.Failure;
 import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
 import org.reactivetoolbox.core.log.CoreLogger;
 import org.reactivetoolbox.core.meta.AppMetaRepository;
 import org.reactivetoolbox.io.async.Promise;
@@ -26,6 +27,7 @@ import org.reactivetoolbox.io.async.Submitter;
 import org.reactivetoolbox.io.async.util.BooleanLatch;
 import org.reactivetoolbox.io.scheduler.TaskScheduler;
 import org.reactivetoolbox.io.scheduler.Timeout;
+import org.reactivetoolbox.io.scheduler.TimerWheel;
 import org.reactivetoolbox.io.uring.utils.ConcurrentObjectPool;
 import org.reactivetoolbox.io.uring.utils.Poolable;
 
@@ -35,6 +37,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.reactivetoolbox.io.async.util.BooleanLatch.booleanLatch;
 
@@ -50,8 +53,16 @@ public class PromiseImpl<T> implements Promise<T> {
     private static final Consumer POST_PROCESS_NOP = __ -> {
     };
 
+    private static final BiConsumer<Result<Unit>, Submitter> IGNORE_CANCEL_RESULT = (result, submitter) -> {
+    };
+
     private volatile Result<T> value;
     private volatile Node<T> head;
+    private volatile int worker = -1;
+    private final boolean pinned;
+    private long operationKey = -1L;
+    private int operationWorker = -1;
+    private volatile boolean operationRecorded = false;
     @SuppressWarnings("unchecked")
     private volatile Consumer<Result<T>> finalizer = NOP;
 
@@ -61,6 +72,7 @@ public class PromiseImpl<T> implements Promise<T> {
     private static final VarHandle VALUE;
     private static final VarHandle HEAD;
     private static final VarHandle FINALIZER;
+    private static final VarHandle WORKER;
 
     static {
         try {
@@ -68,6 +80,7 @@ public class PromiseImpl<T> implements Promise<T> {
             VALUE = l.findVarHandle(PromiseImpl.class, "value", Result.class);
             HEAD = l.findVarHandle(PromiseImpl.class, "head", Node.class);
             FINALIZER = l.findVarHandle(PromiseImpl.class, "finalizer", Consumer.class);
+            WORKER = l.findVarHandle(PromiseImpl.class, "worker", int.class);
         } catch (final ReflectiveOperationException e) {
             throw new ExceptionInInitializerError(e);
         }
@@ -76,11 +89,13 @@ public class PromiseImpl<T> implements Promise<T> {
     private static final AtomicReference<Consumer<Throwable>> exceptionConsumer =
             new AtomicReference<>(e -> SingletonHolder.logger().debug("Exception while applying handlers", e));
 
-    private PromiseImpl() {
+    private PromiseImpl(final boolean pinned) {
+        this.pinned = pinned;
     }
 
     private PromiseImpl(final Result<T> value) {
         this.value = value;
+        this.pinned = false;
     }
 
     public static int schedulerParallelism() {
@@ -88,7 +103,11 @@ public class PromiseImpl<T> implements Promise<T> {
     }
 
     public static <T> Promise<T> promise() {
-        return new PromiseImpl<>();
+        return new PromiseImpl<>(false);
+    }
+
+    public static <T> Promise<T> pinnedPromise() {
+        return new PromiseImpl<>(true);
     }
 
     public static <T> Promise<T> promise(final Result<T> result) {
@@ -175,8 +194,14 @@ public class PromiseImpl<T> implements Promise<T> {
 
     @Override
     public Promise<T> syncResolve(final Result<T> result, final Submitter submitter) {
+        pin();
+
         if (VALUE.compareAndSet(this, null, result)) {
-            handleActions(submitter);
+            if (pinnedElsewhere()) {
+                handleActionsAsync();
+            } else {
+                handleActions(submitter);
+            }
         }
 
         return this;
@@ -184,6 +209,8 @@ public class PromiseImpl<T> implements Promise<T> {
 
     @Override
     public Promise<T> resolve(final Result<T> result) {
+        pin();
+
         if (VALUE.compareAndSet(this, null, result)) {
             handleActionsAsync();
         }
@@ -191,6 +218,62 @@ public class PromiseImpl<T> implements Promise<T> {
         return this;
     }
 
+    /**
+     * Resolve promise with {@link Errors#CANCELLED} and cancel pending I/O operation which would resolve this promise. Cancellation
+     * request is sent only to the worker which submitted the operation.
+     */
+    @Override
+    public Promise<T> cancel() {
+        pin();
+
+        if (VALUE.compareAndSet(this, null, Result.fail(Errors.CANCELLED))) {
+            handleActionsAsync();
+
+            if (operationRecorded && operationWorker >= 0) {
+                SingletonHolder.scheduler()
+                               .submitToWorker(operationWorker, submitter -> submitter.cancel(IGNORE_CANCEL_RESULT, this));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Record key of the I/O operation which resolves this promise and index of the worker where operation is pending. Invoked by the
+     * worker which submits operation, only first operation is recorded, since for linked operations cancelling the first one cancels
+     * the whole chain.
+     */
+    public void operationSubmitted(final long key, final int worker) {
+        if (operationRecorded) {
+            return;
+        }
+
+        operationKey = key;
+        operationWorker = worker;
+        //Volatile write publishes key and worker
+        operationRecorded = true;
+    }
+
+    /**
+     * Record key of the I/O operation which replaces previously recorded one, for example, when multishot operation is re-armed.
+     */
+    public void operationRearmed(final long key, final int worker) {
+        operationKey = key;
+        operationWorker = worker;
+        operationRecorded = true;
+    }
+
+    /**
+     * Key of the I/O operation which resolves this promise or -1 if no operation was submitted.
+     */
+    public long operationKey() {
+        return operationRecorded ? operationKey : -1L;
+    }
+
+    @Override
+    public boolean isResolved() {
+        return value != null;
+    }
+
     @Override
     public Promise<T> onResult(final Submitter submitter, final BiConsumer<Result<T>, Submitter> unSafeAction) {
         final BiConsumer<Result<T>, Submitter> action = (result, submitter1) -> {
@@ -202,6 +285,10 @@ public class PromiseImpl<T> implements Promise<T> {
         };
 
         if (value != null) {
+            if (pinnedElsewhere()) {
+                return runAtWorker(action);
+            }
+
             action.accept(value, submitter);
             callFinalHandler();
             return this;
@@ -222,6 +309,10 @@ public class PromiseImpl<T> implements Promise<T> {
         };
 
         if (value != null) {
+            if (pinnedElsewhere()) {
+                return runAtWorker(action);
+            }
+
             action.accept(value, null);
             callFinalHandler();
             return this;
@@ -242,6 +333,10 @@ public class PromiseImpl<T> implements Promise<T> {
         };
 
         if (value != null) {
+            if (pinnedElsewhere()) {
+                return runAtWorker((result, submitter) -> result.onSuccess(action));
+            }
+
             value.onSuccess(action);
             callFinalHandler();
             return this;
@@ -262,6 +357,10 @@ public class PromiseImpl<T> implements Promise<T> {
         };
 
         if (value != null) {
+            if (pinnedElsewhere()) {
+                return runAtWorker((result, submitter) -> result.onFailure(action));
+            }
+
             value.onFailure(action);
             callFinalHandler();
             return this;
@@ -287,8 +386,37 @@ public class PromiseImpl<T> implements Promise<T> {
     }
 
     private void handleActionsAsync() {
+        if (pinned) {
+            SingletonHolder.scheduler()
+                           .submitToWorker(worker, this::handleActions);
+        } else {
+            SingletonHolder.scheduler()
+                           .submit(this::handleActions);
+        }
+    }
+
+    //Actions attached to already resolved pinned promise must not run inline at other thread
+    private boolean pinnedElsewhere() {
+        return pinned && SingletonHolder.scheduler().currentWorker() != worker;
+    }
+
+    private Promise<T> runAtWorker(final BiConsumer<Result<T>, Submitter> action) {
         SingletonHolder.scheduler()
-                       .submit(this::handleActions);
+                       .submitToWorker(worker, submitter -> {
+                           action.accept(value, submitter);
+                           callFinalHandler();
+                       });
+        return this;
+    }
+
+    //Worker is claimed by the first resolution attempt, so all continuations end up at the same worker even if resolution races
+    private void pin() {
+        if (pinned && worker < 0) {
+            final var scheduler = SingletonHolder.scheduler();
+            final int current = scheduler.currentWorker();
+
+            WORKER.compareAndSet(this, -1, current >= 0 ? current : scheduler.workerFor(this));
+        }
     }
 
     private void handleActions(final Submitter submitter) {
@@ -344,10 +472,37 @@ public class PromiseImpl<T> implements Promise<T> {
     @Override
     public Promise<T> async(final Timeout timeout, final Consumer<Promise<T>> task) {
         SingletonHolder.scheduler()
-                       .submit(submitter -> submitter.delay(($1, $2) -> task.accept(this), timeout));
+                       .submit(submitter -> submitter.schedule(timeout, $ -> task.accept(this)));
         return this;
     }
 
+    /**
+     * Unlike {@link #async(Timeout, Consumer)}, timer is cancelled once promise is resolved, so resolved promises do not keep timers in the
+     * wheel until timeout expires.
+     */
+    @Override
+    public Promise<T> when(final Timeout timeout, final Supplier<Result<T>> timeoutResultSupplier) {
+        SingletonHolder.scheduler()
+                       .submit(submitter -> {
+                           final var timer = submitter.schedule(timeout, $ -> resolve(timeoutResultSupplier.get()));
+                           final int owner = SingletonHolder.scheduler().currentWorker();
+
+                           onResult($ -> cancelTimer(timer, owner));
+                       });
+        return this;
+    }
+
+    //Timer wheel is not thread safe, so timer is removed from the wheel by the worker which owns it
+    private static void cancelTimer(final TimerWheel.Timer timer, final int owner) {
+        final var scheduler = SingletonHolder.scheduler();
+
+        if (owner < 0 || scheduler.currentWorker() == owner) {
+            timer.cancel();
+        } else {
+            scheduler.submitToWorker(owner, $ -> timer.cancel());
+        }
+    }
+
     @Override
     public Promise<T> async(final BiConsumer<Promise<T>, Submitter> task) {
         SingletonHolder.scheduler()
@@ -18,21 +18,28 @@ package org.reactivetoolbox.io.async.net;
 
 import org.reactivetoolbox.io.async.file.FileDescriptor;
 
+import java.util.function.Supplier;
+
 /**
  * Client connection descriptor holds client address and file descriptor which can be used to communicate with client.
  * Also, for connection tracking purposes every connection receives unique ID upon creation. The ID uniqueness is guaranteed
  * only within given VM.
+ * <p>
+ * For connections accepted by multishot accept client address is not known upon creation, it is obtained on demand
+ * (see {@link #address()}).
  */
 public class ClientConnection<T extends SocketAddress<?>> {
     //private final ConnectionId connectionId;
     private final FileDescriptor socket;
-    private final T address;
+    private final Supplier<T> resolver;
+    private volatile T address;
 
     //private ClientConnection(final ConnectionId connectionId, final FileDescriptor socket, final T address) {
-    private ClientConnection(final FileDescriptor socket, final T address) {
+    private ClientConnection(final FileDescriptor socket, final T address, final Supplier<T> resolver) {
         //this.connectionId = connectionId;
         this.socket = socket;
         this.address = address;
+        this.resolver = resolver;
     }
 
 //    public ConnectionId connectionId() {
@@ -43,16 +50,41 @@ public class ClientConnection<T extends SocketAddress<?>> {
         return socket;
     }
 
+    /**
+     * Client address. If address is obtained on demand, it should be requested while connection is still open. Returns {@code null} if
+     * address can't be obtained, for example because client already closed the connection.
+     */
     public T address() {
+        var address = this.address;
+
+        if (address == null && resolver != null) {
+            address = resolver.get();
+            this.address = address;
+        }
         return address;
     }
 
+    /**
+     * Create copy of this connection with different socket file descriptor, for example, registered as fixed file.
+     */
+    public ClientConnection<T> withSocket(final FileDescriptor socket) {
+        return new ClientConnection<>(socket, address, resolver);
+    }
+
     public static ClientConnection<SocketAddressIn> connectionIn(final FileDescriptor fileDescriptor, final SocketAddressIn addressIn) {
-        return new ClientConnection<>(fileDescriptor, addressIn);
+        return new ClientConnection<>(fileDescriptor, addressIn, null);
     }
 
     public static ClientConnection<SocketAddressIn6> connectionIn6(final FileDescriptor fileDescriptor, final SocketAddressIn6 addressIn6) {
-        return new ClientConnection<>(fileDescriptor, addressIn6);
+        return new ClientConnection<>(fileDescriptor, addressIn6, null);
+    }
+
+    /**
+     * Create connection whose address is obtained on demand by the provided resolver. Resolver is invoked at most once, unless it
+     * returns {@code null}.
+     */
+    public static ClientConnection<SocketAddress<?>> connection(final FileDescriptor fileDescriptor, final Supplier<SocketAddress<?>> resolver) {
+        return new ClientConnection<>(fileDescriptor, null, resolver);
     }
 
     @Override
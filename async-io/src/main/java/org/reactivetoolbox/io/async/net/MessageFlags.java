@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.net;
+
+import org.reactivetoolbox.io.Bitmask;
+
+import java.util.EnumSet;
+
+/**
+ * Flags for send/receive operations.
+ */
+public enum MessageFlags implements Bitmask {
+    OOB(0x00000001),          /* Process out-of-band data */
+    PEEK(0x00000002),         /* Peek at incoming message without removing it from the queue */
+    DONTROUTE(0x00000004),    /* Don't use local routing */
+    TRUNC(0x00000020),        /* Return real length of the packet, even if it was longer than buffer */
+    DONTWAIT(0x00000040),     /* Nonblocking operation */
+    EOR(0x00000080),          /* End of record */
+    WAITALL(0x00000100),      /* Wait for full request or error */
+    NOSIGNAL(0x00004000),     /* Do not generate SIGPIPE */
+    MORE(0x00008000),         /* Sender will send more */
+    CMSG_CLOEXEC(0x40000000); /* Set close-on-exec for file descriptors received via SCM_RIGHTS */
+
+    private static final EnumSet<MessageFlags> NONE = EnumSet.noneOf(MessageFlags.class);
+    private static final EnumSet<MessageFlags> NO_SIGNAL = EnumSet.of(NOSIGNAL);
+
+    private final int mask;
+
+    MessageFlags(final int mask) {
+        this.mask = mask;
+    }
+
+    @Override
+    public int mask() {
+        return mask;
+    }
+
+    public static EnumSet<MessageFlags> none() {
+        return NONE;
+    }
+
+    public static EnumSet<MessageFlags> noSignal() {
+        return NO_SIGNAL;
+    }
+}
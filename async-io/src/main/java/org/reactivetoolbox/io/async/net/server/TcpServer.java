@@ -17,6 +17,7 @@
 package org.reactivetoolbox.io.async.net.server;
 
 import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
 import org.reactivetoolbox.io.async.Promise;
 import org.reactivetoolbox.io.async.Submitter;
 import org.reactivetoolbox.io.async.net.ClientConnection;
@@ -24,13 +25,17 @@ import org.reactivetoolbox.io.async.net.SocketFlag;
 import org.reactivetoolbox.io.async.net.SocketType;
 import org.reactivetoolbox.io.async.net.context.ActiveServerContext;
 import org.reactivetoolbox.io.async.net.context.ServerContext;
+import org.reactivetoolbox.io.scheduler.Timeout;
 
 import java.util.stream.IntStream;
 
 import static org.reactivetoolbox.io.async.Promise.asyncPromise;
 import static org.reactivetoolbox.io.async.net.context.ActiveServerContext.activeContext;
+import static org.reactivetoolbox.io.scheduler.Timeout.timeout;
 
 public class TcpServer {
+    private static final Timeout ACCEPT_RETRY_DELAY = timeout(10).millis();
+
     private final TcpServerConfiguration configuration;
 
     private TcpServer(final TcpServerConfiguration configuration) {
@@ -66,15 +71,56 @@ public class TcpServer {
 
     private static void doAccept(final ActiveServerContext context) {
         context.shutdownPromise()
-               .async((promise, submitter) -> submitter.accept((acceptResult, onResultSubmitter) -> handleAccept(acceptResult, context, onResultSubmitter),
-                                                               context.socket(),
-                                                               SocketFlag.closeOnExec()));
+               .async((promise, submitter) -> acceptMultishot(context, submitter));
+    }
+
+    private static void acceptMultishot(final ActiveServerContext context, final Submitter submitter) {
+        if (context.shutdownInProgress()) {
+            return;
+        }
+
+        submitter.acceptMultishot((acceptResult, onResultSubmitter) -> handleMultishotAccept(acceptResult, context, onResultSubmitter),
+                                  context.socket(),
+                                  SocketFlag.closeOnExec());
+    }
+
+    private static void acceptOnce(final ActiveServerContext context, final Submitter submitter) {
+        submitter.accept((acceptResult, onResultSubmitter) -> handleAccept(acceptResult, context, onResultSubmitter),
+                         context.socket(),
+                         SocketFlag.closeOnExec());
+    }
+
+    // Failure means that multishot request is terminated, so it is re-armed unless server is shutting down
+    private static void handleMultishotAccept(final Result<ClientConnection<?>> acceptResult, final ActiveServerContext context, final Submitter submitter) {
+        acceptResult.map(connection -> registerSocket(connection, submitter))
+                    .onSuccess(context::handleConnection)
+                    .onFailure(failure -> {
+                        if (context.shutdownInProgress()) {
+                            return;
+                        }
+
+                        //Kernel does not support multishot accept, fall back to accept loop
+                        if (failure.equals(NativeFailureType.EINVAL.asFailure())) {
+                            acceptOnce(context, submitter);
+                            return;
+                        }
+
+                        //Errors like EMFILE or ENOBUFS persist for a while, short delay prevents busy loop of immediately failing requests
+                        context.logger().debug("Accept error {0}, re-arming", failure);
+                        submitter.delay(($, delaySubmitter) -> acceptMultishot(context, delaySubmitter), ACCEPT_RETRY_DELAY);
+                    });
     }
 
     private static void handleAccept(final Result<ClientConnection<?>> acceptResult, final ActiveServerContext context, final Submitter submitter) {
-        acceptResult.onSuccess($ -> submitter.accept((nextAcceptResult, onResultSubmitter) -> handleAccept(nextAcceptResult, context, onResultSubmitter),
-                                                     context.socket(), SocketFlag.closeOnExec()))
+        acceptResult.onSuccess($ -> acceptOnce(context, submitter))
+                    .map(connection -> registerSocket(connection, submitter))
                     .onSuccess(context::handleConnection)
                     .onFailure(failure -> context.logger().debug("Accept error {1} ", failure));
     }
+
+    // Long living client sockets are registered as fixed files in the ring which accepted them. If table is full, plain descriptor is used.
+    private static ClientConnection<?> registerSocket(final ClientConnection<?> connection, final Submitter submitter) {
+        return submitter.registerFile(connection.socket())
+                        .fold($ -> connection, connection::withSocket);
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.util;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.net.AddressFamily;
+import org.reactivetoolbox.io.async.net.SocketAddress;
+import org.reactivetoolbox.io.async.net.SocketAddressIn;
+import org.reactivetoolbox.io.async.net.SocketAddressIn6;
+import org.reactivetoolbox.io.raw.RawMemory;
+import org.reactivetoolbox.io.uring.struct.raw.IoVector;
+import org.reactivetoolbox.io.uring.struct.raw.MsgHdr;
+import org.reactivetoolbox.io.uring.struct.raw.RawSocketAddressIn;
+import org.reactivetoolbox.io.uring.struct.raw.RawSocketAddressIn6;
+import org.reactivetoolbox.io.uring.struct.shape.IoVectorOffsets;
+import org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets;
+import org.reactivetoolbox.io.uring.struct.shape.SocketAddressIn6Offsets;
+import org.reactivetoolbox.io.uring.struct.shape.SocketAddressInOffsets;
+
+import static org.reactivetoolbox.io.async.common.SizeT.sizeT;
+
+/**
+ * Set of datagrams which can be sent or received with single submission.
+ * <p>
+ * All memory used by the batch (message headers, I/O vectors, peer addresses and data buffers) is allocated as single off-heap
+ * block. Each slot of the batch holds one datagram along with the address of the peer.
+ * <p>
+ * For sending, datagrams are added with {@link #add(byte[], SocketAddress)}. For receiving all slots are used and, once operation is
+ * completed, first {@link #used()} slots contain received datagrams.
+ */
+public final class DatagramBatch implements AutoCloseable {
+    private static final int SOCKADDR_STORAGE_SIZE = 128;
+    private static final int SLOT_HEADER_SIZE = MsgHdrOffsets.SIZE + IoVectorOffsets.SIZE + SOCKADDR_STORAGE_SIZE;
+
+    private final int count;
+    private final int bufferSize;
+    private final long address;
+    private final long dataAddress;
+    private final int[] results;
+    private final MsgHdr msgHdr = MsgHdr.at(0);
+    private final IoVector ioVector = IoVector.at(0);
+    private final RawSocketAddressIn addressIn = RawSocketAddressIn.at(0);
+    private final RawSocketAddressIn6 addressIn6 = RawSocketAddressIn6.at(0);
+    private int used;
+    private boolean released = false;
+
+    private DatagramBatch(final int count, final int bufferSize) {
+        this.count = count;
+        this.bufferSize = bufferSize;
+        this.address = RawMemory.allocate((long) count * (SLOT_HEADER_SIZE + bufferSize));
+        this.dataAddress = address + (long) count * SLOT_HEADER_SIZE;
+        this.results = new int[count];
+
+        RawMemory.clear(address, (long) count * SLOT_HEADER_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            msgHdr.reposition(messageAddress(i))
+                  .name(nameAddress(i))
+                  .iov(ioVectorAddress(i))
+                  .iovLen(1);
+            ioVector.reposition(ioVectorAddress(i))
+                    .base(dataAddress(i));
+        }
+    }
+
+    public static DatagramBatch datagramBatch(final int count, final int bufferSize) {
+        if (count <= 0 || bufferSize <= 0) {
+            throw new IllegalArgumentException("Batch size and buffer size must be positive");
+        }
+        return new DatagramBatch(count, bufferSize);
+    }
+
+    /**
+     * Number of slots in the batch.
+     */
+    public int count() {
+        return count;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Number of slots which contain datagrams (added for sending or received).
+     */
+    public int used() {
+        return used;
+    }
+
+    /**
+     * Remove all datagrams from the batch.
+     */
+    public DatagramBatch clear() {
+        used = 0;
+        return this;
+    }
+
+    /**
+     * Add datagram for sending.
+     *
+     * @param data
+     *         Datagram content. If content is longer than buffer size, it is truncated.
+     * @param peer
+     *         Destination address.
+     *
+     * @return {@link NativeFailureType#ENOBUFS} if batch is full or {@link NativeFailureType#EPFNOSUPPORT} if address family is not supported.
+     */
+    public Result<DatagramBatch> add(final byte[] data, final SocketAddress<?> peer) {
+        if (used == count) {
+            return NativeFailureType.ENOBUFS.asResult();
+        }
+
+        final int nameLen;
+
+        if (peer instanceof SocketAddressIn) {
+            addressIn.reposition(nameAddress(used)).assign((SocketAddressIn) peer);
+            nameLen = SocketAddressInOffsets.SIZE;
+        } else if (peer instanceof SocketAddressIn6) {
+            addressIn6.reposition(nameAddress(used)).assign((SocketAddressIn6) peer);
+            nameLen = SocketAddressIn6Offsets.SIZE;
+        } else {
+            return NativeFailureType.EPFNOSUPPORT.asResult();
+        }
+
+        final int length = Math.min(data.length, bufferSize);
+        RawMemory.putByteArray(dataAddress(used), data, length);
+        msgHdr.reposition(messageAddress(used)).nameLen(nameLen).flags(0);
+        ioVector.reposition(ioVectorAddress(used)).len(length);
+        used++;
+
+        return Result.ok(this);
+    }
+
+    /**
+     * Content of the datagram in specified slot.
+     */
+    public byte[] data(final int index) {
+        return RawMemory.getByteArray(dataAddress(index), length(index));
+    }
+
+    /**
+     * Length of the datagram in specified slot.
+     */
+    public int length(final int index) {
+        return (int) ioVector.reposition(ioVectorAddress(index)).len();
+    }
+
+    /**
+     * Address of the peer which sent datagram in specified slot or to which datagram is sent.
+     */
+    public Result<SocketAddress<?>> peer(final int index) {
+        final var family = RawMemory.getShort(nameAddress(index));
+
+        if (family == AddressFamily.INET.familyId()) {
+            return addressIn.reposition(nameAddress(index)).extract().map(v -> v);
+        } else if (family == AddressFamily.INET6.familyId()) {
+            return addressIn6.reposition(nameAddress(index)).extract().map(v -> v);
+        }
+        return NativeFailureType.EPFNOSUPPORT.asResult();
+    }
+
+    /**
+     * Result of the last operation with specified slot.
+     */
+    public Result<SizeT> result(final int index) {
+        return results[index] >= 0 ? Result.ok(sizeT(results[index])) : NativeFailureType.result(results[index]);
+    }
+
+    /**
+     * Message flags returned by kernel for received datagram in specified slot (for example, {@code MSG_TRUNC}).
+     */
+    public int messageFlags(final int index) {
+        return msgHdr.reposition(messageAddress(index)).flags();
+    }
+
+    /**
+     * Prepare all slots for receiving.
+     */
+    public DatagramBatch prepareForReceive() {
+        for (int i = 0; i < count; i++) {
+            msgHdr.reposition(messageAddress(i)).nameLen(SOCKADDR_STORAGE_SIZE).flags(0);
+            ioVector.reposition(ioVectorAddress(i)).len(bufferSize);
+        }
+        used = 0;
+        return this;
+    }
+
+    /**
+     * Record result of the operation with slot. Successfully received datagrams are placed at the beginning of the batch, because
+     * receive requests are linked and chain is broken at first failure.
+     */
+    public void completed(final int index, final int res, final boolean receive) {
+        results[index] = res;
+
+        if (receive) {
+            if (res >= 0) {
+                ioVector.reposition(ioVectorAddress(index)).len(res);
+                used = Math.max(used, index + 1);
+            } else {
+                ioVector.reposition(ioVectorAddress(index)).len(0);
+            }
+        }
+    }
+
+    public long messageAddress(final int index) {
+        return address + (long) index * SLOT_HEADER_SIZE;
+    }
+
+    private long ioVectorAddress(final int index) {
+        return messageAddress(index) + MsgHdrOffsets.SIZE;
+    }
+
+    private long nameAddress(final int index) {
+        return ioVectorAddress(index) + IoVectorOffsets.SIZE;
+    }
+
+    private long dataAddress(final int index) {
+        return dataAddress + (long) index * bufferSize;
+    }
+
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+
+        RawMemory.dispose(address);
+        released = true;
+    }
+}
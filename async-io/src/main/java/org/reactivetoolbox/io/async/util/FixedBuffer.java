@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Buffer which is a part of the memory region registered with the IO_URING instance.
+ * <p>
+ * Such buffers can be used with {@code READ_FIXED}/{@code WRITE_FIXED} operations. Since memory is registered (and pinned) only once, kernel
+ * does not need to map and pin buffer pages on every I/O operation.
+ * <p>
+ * Fixed buffers are obtained from {@link org.reactivetoolbox.io.async.Submitter#fixedBuffer()} and returned back to the pool by
+ * invoking {@link #dispose()} (or {@link #close()}).
+ */
+public class FixedBuffer extends OffHeapBuffer {
+    private final int index;
+    private final Consumer<FixedBuffer> releaser;
+    private volatile boolean inUse;
+
+    private static final VarHandle IN_USE;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            IN_USE = l.findVarHandle(FixedBuffer.class, "inUse", boolean.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private FixedBuffer(final long address, final int size, final int index, final Consumer<FixedBuffer> releaser) {
+        super(address, size);
+        this.index = index;
+        this.releaser = releaser;
+    }
+
+    public static FixedBuffer fixedBuffer(final long address, final int size, final int index, final Consumer<FixedBuffer> releaser) {
+        return new FixedBuffer(address, size, index, releaser);
+    }
+
+    /**
+     * Index of the buffer in the set of buffers registered with the IO_URING instance.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Mark buffer as taken from the pool. This method is intended to be called by pool implementation.
+     */
+    public FixedBuffer acquire() {
+        inUse = true;
+        used(0);
+        return this;
+    }
+
+    /**
+     * Return buffer back to the pool. Repeated invocations are ignored, including concurrent ones.
+     */
+    @Override
+    public void dispose() {
+        if (IN_USE.compareAndSet(this, true, false)) {
+            releaser.accept(this);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.util;
+
+/**
+ * Expected memory usage pattern passed to madvise(2).
+ */
+public enum MemoryAdvice {
+    NORMAL(0),          /* MADV_NORMAL      : No special treatment */
+    RANDOM(1),          /* MADV_RANDOM      : Expect random page references */
+    SEQUENTIAL(2),      /* MADV_SEQUENTIAL  : Expect sequential page references */
+    WILLNEED(3),        /* MADV_WILLNEED    : Pages will be needed soon */
+    DONTNEED(4),        /* MADV_DONTNEED    : Pages will not be needed soon */
+    FREE(8),            /* MADV_FREE        : Pages can be freed lazily */
+    REMOVE(9),          /* MADV_REMOVE      : Free pages and associated backing store */
+    DONTFORK(10),       /* MADV_DONTFORK    : Do not make pages available to child after fork */
+    DOFORK(11),         /* MADV_DOFORK      : Undo DONTFORK */
+    MERGEABLE(12),      /* MADV_MERGEABLE   : Enable Kernel Samepage Merging for pages */
+    UNMERGEABLE(13),    /* MADV_UNMERGEABLE : Undo MERGEABLE */
+    HUGEPAGE(14),       /* MADV_HUGEPAGE    : Enable Transparent Huge Pages for pages */
+    NOHUGEPAGE(15),     /* MADV_NOHUGEPAGE  : Disable Transparent Huge Pages for pages */
+    DONTDUMP(16),       /* MADV_DONTDUMP    : Exclude pages from core dump */
+    DODUMP(17),         /* MADV_DODUMP      : Undo DONTDUMP */
+    COLD(20),           /* MADV_COLD        : Deactivate pages */
+    PAGEOUT(21);        /* MADV_PAGEOUT     : Reclaim pages */
+
+    private final int code;
+
+    MemoryAdvice(final int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.async.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multiple producers/single consumer queue backed by array.
+ * <p>
+ * Unlike {@link StackingCollector}, queue does not allocate memory on insertion and preserves order of elements without additional
+ * processing on the consumer side. The price is fixed capacity: {@link #offer(Object)} fails once queue is full.
+ * <p>
+ * Producers claim slots by incrementing producer index and then publish element into claimed slot. Consumer takes elements in order
+ * of claimed slots and stops at the first slot which is not published yet. Only one thread at a time may consume elements.
+ */
+public final class MpscArrayQueue<T> extends MpscArrayQueuePad3 {
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle PRODUCER_LIMIT;
+    private static final VarHandle CONSUMER_INDEX;
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            PRODUCER_INDEX = l.findVarHandle(MpscArrayQueueProducerIndex.class, "producerIndex", long.class);
+            PRODUCER_LIMIT = l.findVarHandle(MpscArrayQueueProducerIndex.class, "producerLimit", long.class);
+            CONSUMER_INDEX = l.findVarHandle(MpscArrayQueueConsumerIndex.class, "consumerIndex", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MpscArrayQueue(final int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Create queue with at least specified capacity. Actual capacity is rounded up to the nearest power of two.
+     */
+    public static <T> MpscArrayQueue<T> mpscArrayQueue(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive, got " + capacity);
+        }
+
+        return new MpscArrayQueue<>(Math.max(2, Integer.highestOneBit(capacity - 1) << 1));
+    }
+
+    /**
+     * Add element to the queue. Safe to call from any thread.
+     *
+     * @return {@code true} if element is added and {@code false} if queue is full
+     */
+    public boolean offer(final T element) {
+        if (element == null) {
+            throw new NullPointerException("Queue does not accept null elements");
+        }
+
+        long limit = producerLimit;
+        long index;
+
+        do {
+            index = producerIndex;
+
+            if (index >= limit) {
+                limit = consumerIndex + elements.length;
+
+                if (index >= limit) {
+                    return false;
+                }
+
+                PRODUCER_LIMIT.setRelease(this, limit);
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+
+        ELEMENTS.setRelease(elements, (int) index & mask, element);
+        return true;
+    }
+
+    /**
+     * Pass up to {@code limit} elements to the consumer in the order of insertion. Must not be called by more than one thread at a time.
+     *
+     * @return number of processed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        final long index = consumerIndex;
+        int count = 0;
+
+        while (count < limit) {
+            final int offset = (int) (index + count) & mask;
+            final var element = (T) ELEMENTS.getAcquire(elements, offset);
+
+            //Either queue is empty or producer claimed slot but did not publish element yet
+            if (element == null) {
+                break;
+            }
+
+            elements[offset] = null;
+            count++;
+            //Slot is released before element is processed, so failure of the consumer does not break the queue
+            CONSUMER_INDEX.setRelease(this, index + count);
+            consumer.accept(element);
+        }
+
+        return count;
+    }
+
+    /**
+     * Pass all available elements (but no more than capacity of the queue) to the consumer.
+     *
+     * @see #drain(Consumer, int)
+     */
+    public int drain(final Consumer<? super T> consumer) {
+        return drain(consumer, elements.length);
+    }
+
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    /**
+     * Approximate number of elements in the queue. Elements which are claimed but not yet published are also counted.
+     */
+    public int size() {
+        final long consumer = consumerIndex;
+        final long size = producerIndex - consumer;
+
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+}
+
+// Fields are split across class hierarchy, since JVM may reorder fields declared in the same class, but places fields of the
+// superclass before fields of the subclass. Padding classes keep producer and consumer indices at separate cache lines, so producers
+// and consumer do not invalidate each other's cache line.
+abstract class MpscArrayQueueFields {
+    final Object[] elements;
+    final int mask;
+
+    MpscArrayQueueFields(final int capacity) {
+        elements = new Object[capacity];
+        mask = capacity - 1;
+    }
+}
+
+abstract class MpscArrayQueuePad1 extends MpscArrayQueueFields {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    MpscArrayQueuePad1(final int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueProducerIndex extends MpscArrayQueuePad1 {
+    volatile long producerIndex;
+    // Cached lower bound of the consumer index increased by capacity, allows producers to avoid reading consumer index on every offer
+    volatile long producerLimit;
+
+    MpscArrayQueueProducerIndex(final int capacity) {
+        super(capacity);
+        producerLimit = capacity;
+    }
+}
+
+abstract class MpscArrayQueuePad2 extends MpscArrayQueueProducerIndex {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpscArrayQueuePad2(final int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueConsumerIndex extends MpscArrayQueuePad2 {
+    volatile long consumerIndex;
+
+    MpscArrayQueueConsumerIndex(final int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueuePad3 extends MpscArrayQueueConsumerIndex {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    MpscArrayQueuePad3(final int capacity) {
+        super(capacity);
+    }
+}
@@ -33,6 +33,11 @@ public class OffHeapBuffer extends AbstractOffHeapStructure<OffHeapBuffer> {
         used = 0;
     }
 
+    protected OffHeapBuffer(final long address, final int size) {
+        super(address, size);
+        used = 0;
+    }
+
     public static OffHeapBuffer fromBytes(final byte[] input) {
         return new OffHeapBuffer(input);
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.async.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Buffer selected by kernel from the group of buffers provided to IO_URING instance.
+ * <p>
+ * Such buffers are received as a result of read operations which let kernel pick the buffer at the moment when data are available
+ * (see {@link org.reactivetoolbox.io.async.Submitter#readProvided(java.util.function.BiConsumer, org.reactivetoolbox.io.async.file.FileDescriptor,
+ * org.reactivetoolbox.io.async.common.OffsetT, org.reactivetoolbox.core.lang.functional.Option)}). Once buffer is no longer necessary, it
+ * should be returned back to the group by invoking {@link #dispose()} (or {@link #close()}).
+ */
+public class ProvidedBuffer extends OffHeapBuffer {
+    private final int id;
+    private final Consumer<ProvidedBuffer> releaser;
+    private volatile boolean inUse;
+
+    private static final VarHandle IN_USE;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            IN_USE = l.findVarHandle(ProvidedBuffer.class, "inUse", boolean.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ProvidedBuffer(final long address, final int size, final int id, final Consumer<ProvidedBuffer> releaser) {
+        super(address, size);
+        this.id = id;
+        this.releaser = releaser;
+    }
+
+    public static ProvidedBuffer providedBuffer(final long address, final int size, final int id, final Consumer<ProvidedBuffer> releaser) {
+        return new ProvidedBuffer(address, size, id, releaser);
+    }
+
+    /**
+     * Buffer ID within the buffer group.
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Mark buffer as selected by kernel. This method is intended to be called by buffer group implementation.
+     */
+    public ProvidedBuffer acquire(final int used) {
+        inUse = true;
+        used(used);
+        return this;
+    }
+
+    /**
+     * Return buffer back to the group. Repeated invocations are ignored, including concurrent ones.
+     */
+    @Override
+    public void dispose() {
+        if (IN_USE.compareAndSet(this, true, false)) {
+            releaser.accept(this);
+        }
+    }
+}
@@ -47,9 +47,30 @@ public class StackingCollector<T> {
         do {
             oldHead = head;
             newHead.nextNode = oldHead;
+
+            //Only first element of the batch is timestamped, so age of the batch can be estimated without reading clock on each push
+            if (oldHead == null) {
+                newHead.depth = 1;
+                newHead.since = System.nanoTime();
+            } else {
+                newHead.depth = oldHead.depth + 1;
+            }
         } while (!HEAD.compareAndSet(this, oldHead, newHead));
     }
 
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * Number of collected elements.
+     */
+    public int size() {
+        final var current = head;
+
+        return current == null ? 0 : current.depth;
+    }
+
     public Node<T> swapHead() {
         Node<T> head;
 
@@ -74,9 +95,21 @@ public class StackingCollector<T> {
     public static final class Node<T> {
         public T element;
         public Node<T> nextNode;
+        // Number of elements in the collector at the moment when this element was added
+        private int depth;
+        // Time of the push, recorded only for the first element of the batch
+        private long since;
 
         public Node(final T element) {
             this.element = element;
         }
+
+        /**
+         * Time (as returned by {@link System#nanoTime()}) when first element of the batch was added. Valid only for the head
+         * returned by {@link #swapHead()}, which is the first element of the batch.
+         */
+        public long since() {
+            return since;
+        }
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.metrics;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds. Each power of two range is split into 8 equal sub-ranges, so relative error of
+ * reported values does not exceed 12.5%. Recording does not allocate and takes constant time.
+ * <p>
+ * Instances are not thread safe. Histogram is updated by single thread, other threads should work with copies obtained via {@link #copy()}.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+    private long sum;
+    private long max;
+
+    private LatencyHistogram(final long[] counts, final long count, final long sum, final long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public static LatencyHistogram latencyHistogram() {
+        return new LatencyHistogram(new long[BUCKETS], 0, 0, 0);
+    }
+
+    /**
+     * Record single value. Negative values are recorded as zero.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+
+        counts[index(value)]++;
+        count++;
+        sum += value;
+
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Add all values recorded by other histogram to this one.
+     */
+    public LatencyHistogram add(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(Arrays.copyOf(counts, BUCKETS), count, sum, max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    public long mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Get value below which specified percentage of recorded values falls. Returned value is the upper bound of the corresponding range
+     * (but never exceeds maximal recorded value).
+     *
+     * @param percentile
+     *         Percentile in range 0.0 - 100.0
+     */
+    public long percentile(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        final long threshold = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0));
+        long accumulated = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            accumulated += counts[i];
+
+            if (accumulated >= threshold) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKETS;
+
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long upperBound(final int index) {
+        return index + 1 < BUCKETS ? lowerBound(index + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", "LatencyHistogram(", ")")
+                .add("count: " + count)
+                .add("mean: " + mean())
+                .add("p50: " + percentile(50.0))
+                .add("p99: " + percentile(99.0))
+                .add("p99.9: " + percentile(99.9))
+                .add("max: " + max)
+                .toString();
+    }
+}
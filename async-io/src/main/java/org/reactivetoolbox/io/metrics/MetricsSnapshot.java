@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.metrics;
+
+import org.reactivetoolbox.core.lang.functional.Option;
+import org.reactivetoolbox.io.uring.AsyncOperation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Point-in-time copy of {@link ProactorMetrics}. Snapshots taken from different proactors can be combined with {@link #merge(MetricsSnapshot)}.
+ */
+public final class MetricsSnapshot {
+    private final Map<AsyncOperation, LatencyHistogram> latencies;
+    private final LatencyHistogram queueWait;
+    private final long submissionQueueFull;
+    private final long completionQueueOverflow;
+    private final long submissionQueueDropped;
+    private final long staleCompletions;
+    private final int inFlight;
+    private final int queued;
+    private final int peakCompletionBatch;
+
+    MetricsSnapshot(final Map<AsyncOperation, LatencyHistogram> latencies,
+                    final LatencyHistogram queueWait,
+                    final long submissionQueueFull,
+                    final long completionQueueOverflow,
+                    final long submissionQueueDropped,
+                    final long staleCompletions,
+                    final int inFlight,
+                    final int queued,
+                    final int peakCompletionBatch) {
+        this.latencies = latencies;
+        this.queueWait = queueWait;
+        this.submissionQueueFull = submissionQueueFull;
+        this.completionQueueOverflow = completionQueueOverflow;
+        this.submissionQueueDropped = submissionQueueDropped;
+        this.staleCompletions = staleCompletions;
+        this.inFlight = inFlight;
+        this.queued = queued;
+        this.peakCompletionBatch = peakCompletionBatch;
+    }
+
+    /**
+     * Latencies (from submission to completion) of all operations which were completed at least once.
+     */
+    public Map<AsyncOperation, LatencyHistogram> latencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Latency (from submission to completion) of specified operation.
+     */
+    public Option<LatencyHistogram> latency(final AsyncOperation operation) {
+        return Option.option(latencies.get(operation));
+    }
+
+    /**
+     * Time spent by operations in the queue before submission to kernel.
+     */
+    public LatencyHistogram queueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Number of times when submission queue had no free entries for queued operations.
+     */
+    public long submissionQueueFull() {
+        return submissionQueueFull;
+    }
+
+    /**
+     * Number of completions dropped by kernel because completion queue was full.
+     */
+    public long completionQueueOverflow() {
+        return completionQueueOverflow;
+    }
+
+    /**
+     * Number of invalid submission queue entries dropped by kernel.
+     */
+    public long submissionQueueDropped() {
+        return submissionQueueDropped;
+    }
+
+    /**
+     * Number of completions which were dropped because they did not correspond to any pending request.
+     */
+    public long staleCompletions() {
+        return staleCompletions;
+    }
+
+    /**
+     * Number of submitted but not yet completed operations.
+     */
+    public int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Number of operations waiting for submission.
+     */
+    public int queued() {
+        return queued;
+    }
+
+    /**
+     * Maximal number of completions handled at once.
+     */
+    public int peakCompletionBatch() {
+        return peakCompletionBatch;
+    }
+
+    /**
+     * Combine this snapshot with other one. Histograms and counters are summed up, peak values are combined using maximum.
+     */
+    public MetricsSnapshot merge(final MetricsSnapshot other) {
+        final var mergedLatencies = new EnumMap<AsyncOperation, LatencyHistogram>(AsyncOperation.class);
+
+        latencies.forEach((operation, histogram) -> mergedLatencies.put(operation, histogram.copy()));
+        other.latencies.forEach((operation, histogram) -> mergedLatencies.merge(operation, histogram.copy(), LatencyHistogram::add));
+
+        return new MetricsSnapshot(mergedLatencies,
+                                   queueWait.copy().add(other.queueWait),
+                                   submissionQueueFull + other.submissionQueueFull,
+                                   completionQueueOverflow + other.completionQueueOverflow,
+                                   submissionQueueDropped + other.submissionQueueDropped,
+                                   staleCompletions + other.staleCompletions,
+                                   inFlight + other.inFlight,
+                                   queued + other.queued,
+                                   Math.max(peakCompletionBatch, other.peakCompletionBatch));
+    }
+
+    @Override
+    public String toString() {
+        final var joiner = new StringJoiner(", ", "MetricsSnapshot(", ")")
+                .add("in-flight: " + inFlight)
+                .add("queued: " + queued)
+                .add("sq-full: " + submissionQueueFull)
+                .add("cq-overflow: " + completionQueueOverflow)
+                .add("sq-dropped: " + submissionQueueDropped)
+                .add("stale: " + staleCompletions)
+                .add("peak-cq-batch: " + peakCompletionBatch)
+                .add("queue-wait: " + queueWait);
+
+        latencies.forEach((operation, histogram) -> joiner.add(operation.name() + ": " + histogram));
+        return joiner.toString();
+    }
+}
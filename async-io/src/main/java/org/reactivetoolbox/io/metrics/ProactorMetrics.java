@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.metrics;
+
+import org.reactivetoolbox.io.uring.AsyncOperation;
+
+import java.util.EnumMap;
+
+import static org.reactivetoolbox.io.metrics.LatencyHistogram.latencyHistogram;
+
+/**
+ * Instrumentation of the single {@link org.reactivetoolbox.io.Proactor}: per-operation latency (from submission to completion),
+ * time spent by operations in the submission queue and health of the rings shared with kernel.
+ * <p>
+ * Metrics are updated only by the thread which owns {@link org.reactivetoolbox.io.Proactor} instance. Other threads should use
+ * {@link #snapshot()}, which is approximate while owner thread is running.
+ */
+public final class ProactorMetrics {
+    private final LatencyHistogram[] latencies = new LatencyHistogram[AsyncOperation.values().length];
+    private final LatencyHistogram queueWait = latencyHistogram();
+    private volatile long submissionQueueFull;
+    private volatile long completionQueueOverflow;
+    private volatile long submissionQueueDropped;
+    private volatile long staleCompletions;
+    private volatile int inFlight;
+    private volatile int queued;
+    private volatile int peakCompletionBatch;
+
+    private ProactorMetrics() {
+    }
+
+    public static ProactorMetrics proactorMetrics() {
+        return new ProactorMetrics();
+    }
+
+    /**
+     * Record time spent by operation in the queue before submission.
+     */
+    public void onSubmit(final long queuedAt, final long now) {
+        queueWait.record(now - queuedAt);
+    }
+
+    /**
+     * Record time between submission and completion of the operation.
+     */
+    public void onComplete(final AsyncOperation operation, final long submittedAt, final long now) {
+        var histogram = latencies[operation.ordinal()];
+
+        //Histograms are created only for operations which are actually used
+        if (histogram == null) {
+            histogram = latencyHistogram();
+            latencies[operation.ordinal()] = histogram;
+        }
+
+        histogram.record(now - submittedAt);
+    }
+
+    /**
+     * Record batch of completions handled at once.
+     */
+    public void onCompletionBatch(final int size) {
+        if (size > peakCompletionBatch) {
+            peakCompletionBatch = size;
+        }
+    }
+
+    /**
+     * Record attempt to submit operations while submission queue had no free entries.
+     */
+    public void onSubmissionQueueFull() {
+        submissionQueueFull++;
+    }
+
+    /**
+     * Update counters maintained by kernel.
+     *
+     * @param overflow
+     *         Number of completions dropped by kernel because completion queue was full
+     * @param dropped
+     *         Number of invalid submission queue entries dropped by kernel
+     * @param stale
+     *         Number of completions which did not correspond to any pending request
+     */
+    public void ringState(final int overflow, final int dropped, final long stale) {
+        completionQueueOverflow = Integer.toUnsignedLong(overflow);
+        submissionQueueDropped = Integer.toUnsignedLong(dropped);
+        staleCompletions = stale;
+    }
+
+    /**
+     * Update number of queued and in-flight operations.
+     */
+    public void occupancy(final int inFlight, final int queued) {
+        this.inFlight = inFlight;
+        this.queued = queued;
+    }
+
+    public MetricsSnapshot snapshot() {
+        final var latencySnapshot = new EnumMap<AsyncOperation, LatencyHistogram>(AsyncOperation.class);
+
+        for (final var operation : AsyncOperation.values()) {
+            final var histogram = latencies[operation.ordinal()];
+
+            if (histogram != null) {
+                latencySnapshot.put(operation, histogram.copy());
+            }
+        }
+
+        return new MetricsSnapshot(latencySnapshot,
+                                   queueWait.copy(),
+                                   submissionQueueFull,
+                                   completionQueueOverflow,
+                                   submissionQueueDropped,
+                                   staleCompletions,
+                                   inFlight,
+                                   queued,
+                                   peakCompletionBatch);
+    }
+}
@@ -87,6 +87,15 @@ public final class RawMemory {
         instance.copyMemory(input, Unsafe.ARRAY_BYTE_BASE_OFFSET, null, address, len);
     }
 
+    // Ordered access to memory shared with kernel
+    public static int getIntAcquire(final long address) {
+        return instance.getIntAcquire(null, address);
+    }
+
+    public static void putIntRelease(final long address, final int value) {
+        instance.putIntRelease(null, address, value);
+    }
+
     // Memory management
     public static long allocate(final long amount) {
         return instance.allocateMemory(amount);
@@ -103,4 +112,8 @@ public final class RawMemory {
     public static void clear(final long address, final long size) {
         instance.setMemory(address, size, (byte) 0);
     }
+
+    public static int pageSize() {
+        return instance.pageSize();
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.scheduler;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counters collected by {@link IdleStrategy} of the single worker.
+ * <p>
+ * Counters are updated only by the worker thread, but can be read from any thread. Since there is single writer, counters are plain
+ * fields published with opaque stores, so worker loop does not pay for volatile write at every cycle. Readers may observe slightly
+ * stale values.
+ */
+public final class IdleMetrics {
+    private final String strategy;
+    private long busyCycles;
+    private long idleCycles;
+    private long spins;
+    private long yields;
+    private long parks;
+    private long kernelWaits;
+    private long idleNanos;
+
+    private static final VarHandle BUSY_CYCLES;
+    private static final VarHandle IDLE_CYCLES;
+    private static final VarHandle SPINS;
+    private static final VarHandle YIELDS;
+    private static final VarHandle PARKS;
+    private static final VarHandle KERNEL_WAITS;
+    private static final VarHandle IDLE_NANOS;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            BUSY_CYCLES = l.findVarHandle(IdleMetrics.class, "busyCycles", long.class);
+            IDLE_CYCLES = l.findVarHandle(IdleMetrics.class, "idleCycles", long.class);
+            SPINS = l.findVarHandle(IdleMetrics.class, "spins", long.class);
+            YIELDS = l.findVarHandle(IdleMetrics.class, "yields", long.class);
+            PARKS = l.findVarHandle(IdleMetrics.class, "parks", long.class);
+            KERNEL_WAITS = l.findVarHandle(IdleMetrics.class, "kernelWaits", long.class);
+            IDLE_NANOS = l.findVarHandle(IdleMetrics.class, "idleNanos", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    IdleMetrics(final String strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Name of the strategy which collects these metrics.
+     */
+    public String strategy() {
+        return strategy;
+    }
+
+    /**
+     * Number of worker loop cycles which performed some work.
+     */
+    public long busyCycles() {
+        return (long) BUSY_CYCLES.getOpaque(this);
+    }
+
+    /**
+     * Number of worker loop cycles which found no work.
+     */
+    public long idleCycles() {
+        return (long) IDLE_CYCLES.getOpaque(this);
+    }
+
+    /**
+     * Number of idle cycles handled by busy spinning.
+     */
+    public long spins() {
+        return (long) SPINS.getOpaque(this);
+    }
+
+    /**
+     * Number of idle cycles handled by yielding the processor.
+     */
+    public long yields() {
+        return (long) YIELDS.getOpaque(this);
+    }
+
+    /**
+     * Number of idle cycles handled by parking worker thread.
+     */
+    public long parks() {
+        return (long) PARKS.getOpaque(this);
+    }
+
+    /**
+     * Number of idle cycles handled by blocking in kernel while waiting for completions.
+     */
+    public long kernelWaits() {
+        return (long) KERNEL_WAITS.getOpaque(this);
+    }
+
+    /**
+     * Total time in nanoseconds spent parked or blocked in kernel.
+     */
+    public long idleNanos() {
+        return (long) IDLE_NANOS.getOpaque(this);
+    }
+
+    void onBusy() {
+        BUSY_CYCLES.setOpaque(this, busyCycles + 1);
+    }
+
+    void onIdle() {
+        IDLE_CYCLES.setOpaque(this, idleCycles + 1);
+    }
+
+    void onSpin() {
+        SPINS.setOpaque(this, spins + 1);
+    }
+
+    void onYield() {
+        YIELDS.setOpaque(this, yields + 1);
+    }
+
+    void onPark(final long nanos) {
+        PARKS.setOpaque(this, parks + 1);
+        IDLE_NANOS.setOpaque(this, idleNanos + nanos);
+    }
+
+    void onKernelWait(final long nanos) {
+        KERNEL_WAITS.setOpaque(this, kernelWaits + 1);
+        IDLE_NANOS.setOpaque(this, idleNanos + nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "IdleMetrics(" + strategy + ", busy: " + busyCycles() + ", idle: " + idleCycles() + ", spins: " + spins() + ", yields: "
+               + yields() + ", parks: " + parks() + ", kernelWaits: " + kernelWaits() + ", idleNanos: " + idleNanos() + ")";
+    }
+}
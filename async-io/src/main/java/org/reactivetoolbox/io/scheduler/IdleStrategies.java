@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.reactivetoolbox.io.Proactor;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Implementations of the {@link IdleStrategy}.
+ */
+final class IdleStrategies {
+    private IdleStrategies() {
+    }
+
+    static final class BusySpin implements IdleStrategy {
+        private final IdleMetrics metrics = new IdleMetrics("busySpin");
+
+        @Override
+        public void idle(final int workCount, final Proactor proactor) {
+            if (workCount > 0) {
+                metrics.onBusy();
+                return;
+            }
+
+            metrics.onIdle();
+            metrics.onSpin();
+            Thread.onSpinWait();
+        }
+
+        @Override
+        public IdleMetrics metrics() {
+            return metrics;
+        }
+    }
+
+    static final class SpinThenYield implements IdleStrategy {
+        private final IdleMetrics metrics = new IdleMetrics("spinThenYield");
+        private final int maxSpins;
+        private int spins = 0;
+
+        SpinThenYield(final int maxSpins) {
+            this.maxSpins = maxSpins;
+        }
+
+        @Override
+        public void idle(final int workCount, final Proactor proactor) {
+            if (workCount > 0) {
+                metrics.onBusy();
+                spins = 0;
+                return;
+            }
+
+            metrics.onIdle();
+
+            if (++spins < maxSpins) {
+                metrics.onSpin();
+                Thread.onSpinWait();
+            } else {
+                metrics.onYield();
+                spins = 0;
+                Thread.yield();
+            }
+        }
+
+        @Override
+        public IdleMetrics metrics() {
+            return metrics;
+        }
+    }
+
+    static final class BackoffPark implements IdleStrategy {
+        private final IdleMetrics metrics = new IdleMetrics("backoffPark");
+        private final int maxSpins;
+        private final int maxYields;
+        private final long minParkNanos;
+        private final long maxParkNanos;
+        private int spins = 0;
+        private int yields = 0;
+        private long parkNanos;
+
+        BackoffPark(final int maxSpins, final int maxYields, final long minParkNanos, final long maxParkNanos) {
+            this.maxSpins = maxSpins;
+            this.maxYields = maxYields;
+            this.minParkNanos = minParkNanos;
+            this.maxParkNanos = Math.max(minParkNanos, maxParkNanos);
+            this.parkNanos = minParkNanos;
+        }
+
+        @Override
+        public void idle(final int workCount, final Proactor proactor) {
+            if (workCount > 0) {
+                metrics.onBusy();
+                spins = 0;
+                yields = 0;
+                parkNanos = minParkNanos;
+                return;
+            }
+
+            metrics.onIdle();
+
+            if (spins < maxSpins) {
+                spins++;
+                metrics.onSpin();
+                Thread.onSpinWait();
+            } else if (yields < maxYields) {
+                yields++;
+                metrics.onYield();
+                Thread.yield();
+            } else {
+                final var start = System.nanoTime();
+                LockSupport.parkNanos(parkNanos);
+                metrics.onPark(System.nanoTime() - start);
+                parkNanos = Math.min(parkNanos << 1, maxParkNanos);
+            }
+        }
+
+        @Override
+        public IdleMetrics metrics() {
+            return metrics;
+        }
+    }
+
+    static final class BlockInKernel implements IdleStrategy {
+        private final IdleMetrics metrics = new IdleMetrics("blockInKernel");
+        private final int maxSpins;
+        private final Timeout maxWait;
+        private int spins = 0;
+
+        BlockInKernel(final int maxSpins, final Timeout maxWait) {
+            this.maxSpins = maxSpins;
+            this.maxWait = maxWait;
+        }
+
+        @Override
+        public void idle(final int workCount, final Proactor proactor) {
+            if (workCount > 0) {
+                metrics.onBusy();
+                spins = 0;
+                return;
+            }
+
+            metrics.onIdle();
+
+            if (spins < maxSpins) {
+                spins++;
+                metrics.onSpin();
+                Thread.onSpinWait();
+            } else {
+                final var start = System.nanoTime();
+                proactor.waitForCompletions(maxWait);
+                metrics.onKernelWait(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public IdleMetrics metrics() {
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.reactivetoolbox.io.Proactor;
+
+import static org.reactivetoolbox.io.scheduler.Timeout.timeout;
+
+/**
+ * Strategy which defines behavior of the worker thread when there is no work to do.
+ * <p>
+ * Strategies trade latency of reaction to new work for CPU consumption of idle worker. Each worker uses its own instance of the strategy,
+ * so strategy may keep state without synchronization.
+ */
+public interface IdleStrategy {
+    int DEFAULT_SPINS = 2048;
+    int DEFAULT_YIELDS = 64;
+    Timeout DEFAULT_MIN_PARK = timeout(1).micros();
+    Timeout DEFAULT_MAX_PARK = timeout(1).millis();
+    Timeout DEFAULT_MAX_KERNEL_WAIT = timeout(100).millis();
+
+    /**
+     * Invoked by worker after every loop cycle.
+     *
+     * @param workCount
+     *         Amount of work (tasks and completions) performed during the cycle
+     * @param proactor
+     *         Proactor instance which belongs to the worker
+     */
+    void idle(final int workCount, final Proactor proactor);
+
+    /**
+     * Metrics collected by this strategy.
+     */
+    IdleMetrics metrics();
+
+    /**
+     * Never release processor. Provides lowest latency at the cost of one fully loaded core per worker.
+     */
+    static IdleStrategy busySpin() {
+        return new IdleStrategies.BusySpin();
+    }
+
+    /**
+     * Spin for {@link #DEFAULT_SPINS} idle cycles, then yield processor once and start over.
+     */
+    static IdleStrategy spinThenYield() {
+        return spinThenYield(DEFAULT_SPINS);
+    }
+
+    /**
+     * Spin for specified number of idle cycles, then yield processor once and start over.
+     */
+    static IdleStrategy spinThenYield(final int spins) {
+        return new IdleStrategies.SpinThenYield(spins);
+    }
+
+    /**
+     * Spin, then yield, then park worker thread for exponentially growing period of time.
+     */
+    static IdleStrategy backoffPark() {
+        return backoffPark(DEFAULT_SPINS, DEFAULT_YIELDS, DEFAULT_MIN_PARK, DEFAULT_MAX_PARK);
+    }
+
+    /**
+     * Spin for specified number of idle cycles, then yield for specified number of idle cycles, then park worker thread. Park time starts
+     * from {@code minPark} and is doubled on every idle cycle until it reaches {@code maxPark}.
+     */
+    static IdleStrategy backoffPark(final int spins, final int yields, final Timeout minPark, final Timeout maxPark) {
+        return new IdleStrategies.BackoffPark(spins, yields, minPark.asNanos(), maxPark.asNanos());
+    }
+
+    /**
+     * Spin for {@link #DEFAULT_SPINS} idle cycles, then block in kernel until completion arrives, other thread submits task or
+     * {@link #DEFAULT_MAX_KERNEL_WAIT} elapses.
+     */
+    static IdleStrategy blockInKernel() {
+        return blockInKernel(DEFAULT_SPINS, DEFAULT_MAX_KERNEL_WAIT);
+    }
+
+    /**
+     * Spin for specified number of idle cycles, then block in kernel until completion arrives, other thread submits task or specified time
+     * elapses.
+     * <p>
+     * Blocked worker is woken up via event descriptor (see {@link Proactor#wakeup()}), so idle worker consumes almost no CPU while
+     * reaction to new tasks remains fast.
+     */
+    static IdleStrategy blockInKernel(final int spins, final Timeout maxWait) {
+        return new IdleStrategies.BlockInKernel(spins, maxWait);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+/**
+ * Policy applied by {@link TaskScheduler} when task is submitted to the worker whose bounded pipeline is full.
+ *
+ * @see TaskPipeline#boundedRing(int, PipelineOverflowPolicy)
+ */
+public enum PipelineOverflowPolicy {
+    /**
+     * Submitting thread waits until worker frees space in the pipeline. If task is submitted by the target worker itself, task is
+     * executed immediately, since worker can't wait for itself.
+     */
+    WAIT,
+    /**
+     * Plain task is executed by the submitting thread. I/O tasks are bound to the {@link org.reactivetoolbox.io.Proactor} of the target
+     * worker, so for them this policy is equivalent to {@link #WAIT}.
+     */
+    CALLER_RUNS,
+    /**
+     * Submission fails with {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT
+}
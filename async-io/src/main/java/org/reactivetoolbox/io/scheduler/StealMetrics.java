@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.reactivetoolbox.io.metrics.LatencyHistogram;
+
+import static org.reactivetoolbox.io.metrics.LatencyHistogram.latencyHistogram;
+
+/**
+ * Counters of the work stealing performed by the single worker.
+ * <p>
+ * Counters are updated only by the worker thread, but can be read from any thread.
+ */
+public final class StealMetrics {
+    private final LatencyHistogram rebalanceLatency = latencyHistogram();
+    private volatile long steals;
+    private volatile long stolenTasks;
+
+    private StealMetrics() {
+    }
+
+    public static StealMetrics stealMetrics() {
+        return new StealMetrics();
+    }
+
+    /**
+     * Number of batches taken from other workers.
+     */
+    public long steals() {
+        return steals;
+    }
+
+    /**
+     * Total number of tasks taken from other workers.
+     */
+    public long stolenTasks() {
+        return stolenTasks;
+    }
+
+    /**
+     * Age of the stolen batches at the moment of stealing, i.e. how long tasks were waiting before they were rebalanced. Returned
+     * histogram is a copy and can be used by any thread.
+     */
+    public LatencyHistogram rebalanceLatency() {
+        return rebalanceLatency.copy();
+    }
+
+    /**
+     * Record stolen batch.
+     *
+     * @param tasks
+     *         Number of tasks in the batch
+     * @param ageNanos
+     *         Time passed since first task of the batch was submitted
+     */
+    public void onSteal(final int tasks, final long ageNanos) {
+        steals++;
+        stolenTasks += tasks;
+        rebalanceLatency.record(ageNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "StealMetrics(steals: " + steals + ", tasks: " + stolenTasks + ", latency: " + rebalanceLatency + ")";
+    }
+}
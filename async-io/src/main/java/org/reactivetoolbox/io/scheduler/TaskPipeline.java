@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+/**
+ * Queue of tasks waiting for execution by the single worker of the {@link TaskScheduler}.
+ * <p>
+ * Tasks can be added by any thread. Tasks are executed by the owning worker, but idle workers may take them for execution too (see
+ * {@link #steal(StealMetrics)}), so implementations must tolerate concurrent execution attempts.
+ */
+public interface TaskPipeline {
+    int DEFAULT_CAPACITY = 64 * 1024;
+
+    /**
+     * Add task to the pipeline.
+     *
+     * @return {@code false} if bounded pipeline is full and task is not added
+     */
+    boolean offer(final Runnable task);
+
+    boolean isEmpty();
+
+    /**
+     * Approximate number of tasks waiting for execution.
+     */
+    int size();
+
+    /**
+     * Execute available tasks.
+     *
+     * @return number of executed tasks
+     */
+    int run();
+
+    /**
+     * Execute available tasks on behalf of other (idle) worker and record stolen batch.
+     *
+     * @return number of executed tasks
+     */
+    int steal(final StealMetrics metrics);
+
+    /**
+     * Policy applied by scheduler once {@link #offer(Runnable)} fails.
+     */
+    PipelineOverflowPolicy overflowPolicy();
+
+    /**
+     * Unbounded pipeline based on {@link org.reactivetoolbox.io.async.util.StackingCollector}. Never rejects tasks, but allocates
+     * memory for every task.
+     */
+    static TaskPipeline stacking() {
+        return new TaskPipelines.Stacking();
+    }
+
+    /**
+     * Bounded pipeline of {@link #DEFAULT_CAPACITY} tasks based on {@link org.reactivetoolbox.io.async.util.MpscArrayQueue}. Submitter
+     * waits if pipeline is full.
+     */
+    static TaskPipeline boundedRing() {
+        return boundedRing(DEFAULT_CAPACITY, PipelineOverflowPolicy.WAIT);
+    }
+
+    /**
+     * Bounded pipeline based on {@link org.reactivetoolbox.io.async.util.MpscArrayQueue}. Does not allocate memory for tasks, at the cost
+     * of fixed capacity.
+     *
+     * @param capacity
+     *         Pipeline capacity, rounded up to the nearest power of two
+     * @param policy
+     *         Policy applied when pipeline is full
+     */
+    static TaskPipeline boundedRing(final int capacity, final PipelineOverflowPolicy policy) {
+        return new TaskPipelines.BoundedRing(capacity, policy);
+    }
+}
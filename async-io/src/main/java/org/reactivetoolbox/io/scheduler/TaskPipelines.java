@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.reactivetoolbox.io.async.util.MpscArrayQueue;
+import org.reactivetoolbox.io.async.util.StackingCollector;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import static org.reactivetoolbox.io.async.util.MpscArrayQueue.mpscArrayQueue;
+import static org.reactivetoolbox.io.async.util.StackingCollector.stackingCollector;
+
+/**
+ * Implementations of the {@link TaskPipeline}.
+ */
+final class TaskPipelines {
+    private TaskPipelines() {
+    }
+
+    static final class Stacking implements TaskPipeline {
+        private final StackingCollector<Runnable> collector = stackingCollector();
+
+        @Override
+        public boolean offer(final Runnable task) {
+            collector.push(task);
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return collector.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return collector.size();
+        }
+
+        @Override
+        public int run() {
+            return runBatch(collector.swapHead());
+        }
+
+        @Override
+        public int steal(final StealMetrics metrics) {
+            final var batch = collector.swapHead();
+
+            if (batch == null) {
+                return 0;
+            }
+
+            final long age = System.nanoTime() - batch.since();
+            final int count = runBatch(batch);
+
+            metrics.onSteal(count, age);
+            return count;
+        }
+
+        @Override
+        public PipelineOverflowPolicy overflowPolicy() {
+            return PipelineOverflowPolicy.WAIT;
+        }
+
+        private static int runBatch(StackingCollector.Node<Runnable> head) {
+            int count = 0;
+
+            while (head != null) {
+                head.element.run();
+                head = head.nextNode;
+                count++;
+            }
+            return count;
+        }
+    }
+
+    static final class BoundedRing implements TaskPipeline {
+        private final MpscArrayQueue<Runnable> queue;
+        private final PipelineOverflowPolicy policy;
+        // Queue allows single consumer, so owner and stealing worker take turns
+        private volatile int draining;
+        // Last time when pipeline was seen empty, upper bound of the waiting time of the tasks currently in the pipeline
+        private volatile long emptySince = System.nanoTime();
+
+        private static final VarHandle DRAINING;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                DRAINING = l.findVarHandle(BoundedRing.class, "draining", int.class);
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        BoundedRing(final int capacity, final PipelineOverflowPolicy policy) {
+            this.queue = mpscArrayQueue(capacity);
+            this.policy = policy;
+        }
+
+        @Override
+        public boolean offer(final Runnable task) {
+            return queue.offer(task);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        @Override
+        public int run() {
+            if (!DRAINING.compareAndSet(this, 0, 1)) {
+                return 0;
+            }
+
+            try {
+                final int count = queue.drain(Runnable::run);
+
+                if (count == 0) {
+                    emptySince = System.nanoTime();
+                }
+                return count;
+            } finally {
+                draining = 0;
+            }
+        }
+
+        @Override
+        public int steal(final StealMetrics metrics) {
+            final long age = System.nanoTime() - emptySince;
+            final int count = run();
+
+            if (count > 0) {
+                metrics.onSteal(count, age);
+            }
+            return count;
+        }
+
+        @Override
+        public PipelineOverflowPolicy overflowPolicy() {
+            return policy;
+        }
+    }
+}
@@ -17,11 +17,15 @@
 package org.reactivetoolbox.io.scheduler;
 
 import org.reactivetoolbox.core.log.CoreLogger;
+import org.reactivetoolbox.io.ProactorConfiguration;
 import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.metrics.MetricsSnapshot;
 import org.reactivetoolbox.io.scheduler.impl.PipelinedTaskScheduler;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * General purpose task scheduler for executing arbitrary functions.
@@ -33,6 +37,9 @@ import java.util.function.Consumer;
 public interface TaskScheduler extends Executor {
     /**
      * Submit an I/O task.
+     * <p>
+     * If called from the worker thread, task is queued locally and executed by the same worker with its {@link org.reactivetoolbox.io.Proactor},
+     * until number of locally queued tasks reaches {@link ProactorConfiguration.Properties#localQueueLimit}.
      *
      * @param ioAction
      *          The I/O task
@@ -43,6 +50,9 @@ public interface TaskScheduler extends Executor {
 
     /**
      * Submit task which will be executed exactly once and as soon as possible.
+     * <p>
+     * If called from the worker thread, task is queued locally and executed by the same worker, until number of locally queued tasks
+     * reaches {@link ProactorConfiguration.Properties#localQueueLimit}. Locally queued tasks are not subject of work stealing.
      *
      * @param runnable
      *         Task to execute
@@ -51,6 +61,63 @@ public interface TaskScheduler extends Executor {
      */
     TaskScheduler submit(final Runnable runnable);
 
+    /**
+     * Submit task which should be executed by the worker assigned to specified key. All tasks submitted with equal keys are executed
+     * by the same worker in order of submission, so they can access state associated with the key without synchronization.
+     * <p>
+     * Tasks submitted with key are never taken by other workers.
+     *
+     * @param key
+     *         Key which determines worker, for example connection or entity identifier
+     * @param task
+     *         Task to execute
+     *
+     * @return this instance for fluent call chaining.
+     */
+    TaskScheduler submit(final Object key, final Runnable task);
+
+    /**
+     * Submit I/O task which should be executed by the worker assigned to specified key. Refer to {@link #submit(Object, Runnable)} for
+     * more details.
+     *
+     * @param key
+     *         Key which determines worker, for example connection or entity identifier
+     * @param ioAction
+     *         The I/O task
+     *
+     * @return this instance for fluent call chaining.
+     */
+    TaskScheduler submit(final Object key, final Consumer<Submitter> ioAction);
+
+    /**
+     * Submit I/O task which should be executed by specified worker.
+     *
+     * @param worker
+     *         Index of the worker in range from 0 to {@link #parallelism()} - 1
+     * @param ioAction
+     *         The I/O task
+     *
+     * @return this instance for fluent call chaining.
+     */
+    TaskScheduler submitToWorker(final int worker, final Consumer<Submitter> ioAction);
+
+    /**
+     * Get index of the worker assigned to specified key. Assignment is stable for the lifetime of the scheduler.
+     *
+     * @param key
+     *         Key, for example connection or entity identifier
+     *
+     * @return index of the worker
+     */
+    int workerFor(final Object key);
+
+    /**
+     * Get index of the worker which executes calling thread.
+     *
+     * @return index of the worker or -1 if method is called from the thread which does not belong to this scheduler
+     */
+    int currentWorker();
+
     /**
      * Implementation of {@link Executor} interface
      *
@@ -83,6 +150,28 @@ public interface TaskScheduler extends Executor {
 
     int parallelism();
 
+    /**
+     * Metrics of the idle strategy of each worker.
+     *
+     * @return list of metrics, one per worker
+     */
+    List<IdleMetrics> idleMetrics();
+
+    /**
+     * Snapshots of I/O metrics of each worker. Metrics are collected only if enabled with {@link ProactorConfiguration.Properties#collectMetrics}.
+     *
+     * @return list of snapshots, one per worker, or empty list if collection of metrics is disabled
+     */
+    List<MetricsSnapshot> ioMetrics();
+
+    /**
+     * Metrics of the work stealing of each worker. Idle workers take plain {@link Runnable} tasks from the most loaded worker, tasks which
+     * perform I/O always remain at the worker they were submitted to.
+     *
+     * @return list of metrics, one per worker
+     */
+    List<StealMetrics> stealMetrics();
+
     /**
      * Create instance of scheduler with specified execution pool size.
      *
@@ -94,4 +183,37 @@ public interface TaskScheduler extends Executor {
     static TaskScheduler with(final int size) {
         return PipelinedTaskScheduler.with(size);
     }
+
+    /**
+     * Create instance of scheduler with specified execution pool size and configuration of the I/O part of each worker.
+     *
+     * @param size
+     *         Execution pool size
+     * @param configuration
+     *         Configuration for each {@link org.reactivetoolbox.io.Proactor} instance
+     *
+     * @return created scheduler
+     */
+    static TaskScheduler with(final int size, final ProactorConfiguration configuration) {
+        return PipelinedTaskScheduler.with(size, configuration);
+    }
+
+    /**
+     * Create instance of scheduler with specified execution pool size, configuration of the I/O part of each worker and strategy which
+     * defines behavior of idle workers.
+     *
+     * @param size
+     *         Execution pool size
+     * @param configuration
+     *         Configuration for each {@link org.reactivetoolbox.io.Proactor} instance
+     * @param idleStrategyFactory
+     *         Factory which creates {@link IdleStrategy} instance for each worker (for example {@code IdleStrategy::backoffPark})
+     *
+     * @return created scheduler
+     */
+    static TaskScheduler with(final int size,
+                              final ProactorConfiguration configuration,
+                              final Supplier<IdleStrategy> idleStrategyFactory) {
+        return PipelinedTaskScheduler.with(size, configuration, idleStrategyFactory);
+    }
 }
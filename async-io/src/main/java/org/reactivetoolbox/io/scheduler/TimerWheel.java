@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.util.StackingCollector;
+
+import java.util.function.Consumer;
+
+import static org.reactivetoolbox.io.async.util.StackingCollector.stackingCollector;
+import static org.reactivetoolbox.io.scheduler.Timeout.timeout;
+
+/**
+ * Hierarchical timer wheel.
+ * <p>
+ * Time is split into ticks of fixed length. Timers which expire within {@code 256} ticks are kept in the lowest level of the wheel,
+ * each next level covers {@code 256} times longer interval. Once lowest level makes full turn, timers from the corresponding slot of the
+ * next level are redistributed into lower levels. Scheduling and cancellation of the timer take constant time regardless of number of
+ * active timers, expiration of the timer takes amortized constant time.
+ * <p>
+ * Timer expires not earlier than requested and not later than one tick after requested time (provided that wheel is advanced in time).
+ * <p>
+ * <pre>
+ * WARNING!
+ * This class is designed to be used by single thread, usually the one which owns {@link org.reactivetoolbox.io.Proactor} instance.
+ * The only exception is {@link Timer#cancel()}, which can be safely called from any thread. Timers cancelled by other threads are
+ * removed from the wheel by the owning thread during next {@link #advance(Submitter)}.
+ * </pre>
+ */
+public final class TimerWheel {
+    public static final Timeout DEFAULT_TICK = timeout(1).millis();
+
+    private static final int LEVEL_BITS = 8;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = (1L << (LEVEL_BITS * LEVELS)) - 1;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+    private long currentTick = 0;
+    private int size = 0;
+    private volatile Thread owner;
+    private final StackingCollector<Timer> foreignCancels = stackingCollector();
+
+    private TimerWheel(final long tickNanos, final long startNanos) {
+        this.tickNanos = tickNanos;
+        this.startNanos = startNanos;
+    }
+
+    public static TimerWheel timerWheel() {
+        return timerWheel(DEFAULT_TICK);
+    }
+
+    public static TimerWheel timerWheel(final Timeout tick) {
+        if (tick.asNanos() <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        return new TimerWheel(tick.asNanos(), System.nanoTime());
+    }
+
+    /**
+     * Length of the single tick.
+     */
+    public Timeout tick() {
+        return timeout(tickNanos).nanos();
+    }
+
+    /**
+     * Number of active timers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedule action which will be invoked once specified timeout expires.
+     *
+     * @param timeout
+     *         Timeout after which action is invoked
+     * @param action
+     *         Action to invoke
+     *
+     * @return timer instance which can be used to cancel the action
+     */
+    public Timer schedule(final Timeout timeout, final Consumer<Submitter> action) {
+        owner = Thread.currentThread();
+
+        final var elapsed = System.nanoTime() - startNanos + timeout.asNanos();
+        final var deadline = Math.max((elapsed + tickNanos - 1) / tickNanos, currentTick + 1);
+        final var timer = new Timer(this, deadline, action);
+
+        insert(timer);
+        size++;
+
+        return timer;
+    }
+
+    /**
+     * Advance wheel to current time and invoke actions of all expired timers.
+     *
+     * @param submitter
+     *         Submitter passed to expired actions
+     *
+     * @return number of expired timers
+     */
+    public int advance(final Submitter submitter) {
+        return advance(System.nanoTime(), submitter);
+    }
+
+    /**
+     * Advance wheel to specified time and invoke actions of all expired timers.
+     *
+     * @param nowNanos
+     *         Current time as returned by {@link System#nanoTime()}
+     * @param submitter
+     *         Submitter passed to expired actions
+     *
+     * @return number of expired timers
+     */
+    public int advance(final long nowNanos, final Submitter submitter) {
+        if (!foreignCancels.isEmpty()) {
+            removeForeignCancels();
+        }
+
+        final var targetTick = (nowNanos - startNanos) / tickNanos;
+        int expired = 0;
+
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+
+            currentTick++;
+            cascade();
+            expired += expire(submitter);
+        }
+
+        return expired;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (LEVEL_BITS * level)) - 1)) != 0) {
+                return;
+            }
+
+            final var slot = (int) (currentTick >>> (LEVEL_BITS * level)) & SLOT_MASK;
+            Timer timer;
+
+            while ((timer = slots[level][slot]) != null) {
+                unlink(timer);
+                insert(timer);
+            }
+        }
+    }
+
+    private int expire(final Submitter submitter) {
+        final var slot = (int) currentTick & SLOT_MASK;
+        int expired = 0;
+        Timer timer;
+
+        while ((timer = slots[0][slot]) != null) {
+            unlink(timer);
+            size--;
+
+            if (!timer.cancelled) {
+                timer.action.accept(submitter);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private void insert(final Timer timer) {
+        final var span = Math.min(Math.max(timer.deadline - currentTick, 0), MAX_SPAN);
+        final var tick = currentTick + span;
+
+        int level = 0;
+        while (level < LEVELS - 1 && span >= (1L << (LEVEL_BITS * (level + 1)))) {
+            level++;
+        }
+
+        timer.level = level;
+        timer.slot = (int) (tick >>> (LEVEL_BITS * level)) & SLOT_MASK;
+        timer.prev = null;
+        timer.next = slots[level][timer.slot];
+
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        slots[level][timer.slot] = timer;
+        timer.linked = true;
+    }
+
+    private void unlink(final Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+
+        timer.prev = null;
+        timer.next = null;
+        timer.linked = false;
+    }
+
+    private void remove(final Timer timer) {
+        if (Thread.currentThread() != owner) {
+            foreignCancels.push(timer);
+            return;
+        }
+
+        if (timer.linked) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    private void removeForeignCancels() {
+        for (var node = foreignCancels.swapHead(); node != null; node = node.nextNode) {
+            //Timer might be already expired by the time cancellation is noticed
+            if (node.element.linked) {
+                unlink(node.element);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Single timer scheduled with the wheel.
+     */
+    public static final class Timer {
+        private final TimerWheel wheel;
+        private final long deadline;
+        private final Consumer<Submitter> action;
+        private Timer prev;
+        private Timer next;
+        private int level;
+        private int slot;
+        private boolean linked;
+        private volatile boolean cancelled;
+
+        private Timer(final TimerWheel wheel, final long deadline, final Consumer<Submitter> action) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.action = action;
+        }
+
+        /**
+         * Cancel timer. If called by the thread which owns the wheel, timer is immediately removed from the wheel,
+         * otherwise it is marked as cancelled and removed by the owning thread during next {@link TimerWheel#advance(Submitter)}.
+         */
+        public void cancel() {
+            cancelled = true;
+            wheel.remove(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -19,14 +19,30 @@ package org.reactivetoolbox.io.scheduler.impl;
 import org.reactivetoolbox.core.log.CoreLogger;
 import org.reactivetoolbox.core.meta.AppMetaRepository;
 import org.reactivetoolbox.io.Proactor;
+import org.reactivetoolbox.io.ProactorConfiguration;
 import org.reactivetoolbox.io.async.Submitter;
-import org.reactivetoolbox.io.async.util.StackingCollector;
+import org.reactivetoolbox.io.async.file.FileDescriptor;
+import org.reactivetoolbox.io.metrics.MetricsSnapshot;
+import org.reactivetoolbox.io.scheduler.IdleMetrics;
+import org.reactivetoolbox.io.scheduler.IdleStrategy;
+import org.reactivetoolbox.io.scheduler.PipelineOverflowPolicy;
+import org.reactivetoolbox.io.scheduler.StealMetrics;
+import org.reactivetoolbox.io.scheduler.TaskPipeline;
 import org.reactivetoolbox.io.scheduler.TaskScheduler;
+import org.reactivetoolbox.io.uring.ThreadPlacement;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.util.stream.IntStream.range;
 
@@ -34,41 +50,147 @@ import static java.util.stream.IntStream.range;
  * Task scheduler tuned to handle large number of short tasks.
  */
 public class PipelinedTaskScheduler implements TaskScheduler {
+    private static final ThreadLocal<WorkerId> CURRENT_WORKER = new ThreadLocal<>();
+
     private final ExecutorService executor;
-    private final java.util.List<StackingCollector<Runnable>> pipelines = new ArrayList<>();
+    private final java.util.List<TaskPipeline> pipelines = new ArrayList<>();
+    private final java.util.List<TaskPipeline> tasks = new ArrayList<>();
     private final java.util.List<Proactor> proactors = new ArrayList<>();
+    private final java.util.List<IdleStrategy> idleStrategies = new ArrayList<>();
+    private final java.util.List<StealMetrics> stealMetrics = new ArrayList<>();
+    private final java.util.List<ArrayDeque<Runnable>> localTasks = new ArrayList<>();
+    private final int localQueueLimit;
     private int counter = 0;
 
-    private PipelinedTaskScheduler(final int size) {
+    private PipelinedTaskScheduler(final int size,
+                                   final ProactorConfiguration configuration,
+                                   final Supplier<IdleStrategy> idleStrategyFactory,
+                                   final Supplier<TaskPipeline> pipelineFactory) {
         executor = Executors.newFixedThreadPool(size, DaemonThreadFactory.threadFactory("Task Scheduler Thread #%d"));
+        localQueueLimit = configuration.localQueueLimit();
 
         range(0, size).forEach(n -> {
-            final var pipeline = StackingCollector.<Runnable>stackingCollector();
-            final var proactor = Proactor.proactor();
-            pipelines.add(pipeline);
-            proactors.add(proactor);
-            startWorker(pipeline, proactor);
+            pipelines.add(pipelineFactory.get());
+            tasks.add(pipelineFactory.get());
+            localTasks.add(new ArrayDeque<>());
+            stealMetrics.add(StealMetrics.stealMetrics());
+            idleStrategies.add(idleStrategyFactory.get());
         });
+
+        //Workers are started one by one, since remaining rings are attached to the ring of the first worker
+        final var started = new CountDownLatch(1);
+
+        try {
+            range(0, size).forEach(n -> proactors.add(startWorker(n, configuration, started)));
+        } catch (final RuntimeException e) {
+            executor.shutdown();
+            throw e;
+        } finally {
+            started.countDown();
+        }
     }
 
     public static PipelinedTaskScheduler with(final int size) {
-        return new PipelinedTaskScheduler(size);
+        return with(size, ProactorConfiguration.configuration());
     }
 
+    public static PipelinedTaskScheduler with(final int size, final ProactorConfiguration configuration) {
+        return with(size, configuration, IdleStrategy::spinThenYield);
+    }
+
+    public static PipelinedTaskScheduler with(final int size,
+                                              final ProactorConfiguration configuration,
+                                              final Supplier<IdleStrategy> idleStrategyFactory) {
+        return with(size, configuration, idleStrategyFactory, TaskPipeline::stacking);
+    }
+
+    public static PipelinedTaskScheduler with(final int size,
+                                              final ProactorConfiguration configuration,
+                                              final Supplier<IdleStrategy> idleStrategyFactory,
+                                              final Supplier<TaskPipeline> pipelineFactory) {
+        return new PipelinedTaskScheduler(size, configuration, idleStrategyFactory, pipelineFactory);
+    }
+
+    //Tasks submitted by the worker itself are kept at this worker, unless it already has enough of them queued
     @Override
     public TaskScheduler submit(final Runnable runnable) {
+        final var worker = localWorker();
+
+        if (worker != null && worker.localTasks.size() < localQueueLimit) {
+            worker.localTasks.add(runnable);
+            return this;
+        }
+
         final var index = counter = (counter + 1) % pipelines.size();
-        pipelines.get(index).push(runnable);
+        push(index, tasks.get(index), runnable, false);
         return this;
     }
 
+    //I/O tasks submitted by the worker itself are queued locally and later executed with the proactor of this worker. Running them
+    //inline would make submission re-entrant and tasks which resubmit themselves would recurse without limit.
     @Override
     public TaskScheduler submit(final Consumer<Submitter> ioAction) {
+        final var worker = localWorker();
+
+        if (worker != null && worker.localTasks.size() < localQueueLimit) {
+            final var proactor = proactors.get(worker.index);
+            worker.localTasks.add(() -> ioAction.accept(proactor));
+            return this;
+        }
+
         final var index = counter = (counter + 1) % pipelines.size();
-        pipelines.get(index).push(() -> ioAction.accept(proactors.get(index)));
+        push(index, pipelines.get(index), () -> ioAction.accept(proactors.get(index)), true);
+        return this;
+    }
+
+    @Override
+    public TaskScheduler submit(final Object key, final Runnable task) {
+        return submitToWorker(workerFor(key), submitter -> task.run());
+    }
+
+    @Override
+    public TaskScheduler submit(final Object key, final Consumer<Submitter> ioAction) {
+        return submitToWorker(workerFor(key), ioAction);
+    }
+
+    //Pinned tasks go to the pipeline which is never subject of work stealing
+    @Override
+    public TaskScheduler submitToWorker(final int worker, final Consumer<Submitter> ioAction) {
+        final var proactor = proactors.get(worker);
+        push(worker, pipelines.get(worker), () -> ioAction.accept(proactor), true);
         return this;
     }
 
+    @Override
+    public int workerFor(final Object key) {
+        final int hash = Objects.hashCode(key);
+
+        return Math.floorMod(hash ^ (hash >>> 16), pipelines.size());
+    }
+
+    @Override
+    public int currentWorker() {
+        final var worker = localWorker();
+
+        return worker != null ? worker.index : -1;
+    }
+
+    private WorkerId localWorker() {
+        final var worker = CURRENT_WORKER.get();
+
+        return worker != null && worker.scheduler == this ? worker : null;
+    }
+
+    //Fixed descriptor can be removed from the table only by the worker which owns the ring where descriptor is registered
+    private void releaseForeignFile(final FileDescriptor fd) {
+        for (int i = 0; i < proactors.size(); i++) {
+            if (proactors.get(i).ringId() == fd.fixedRing()) {
+                submitToWorker(i, submitter -> submitter.unregisterFile(fd));
+                return;
+            }
+        }
+    }
+
     @Override
     public void shutdown() {
         executor.shutdown();
@@ -84,31 +206,183 @@ public class PipelinedTaskScheduler implements TaskScheduler {
         return pipelines.size();
     }
 
-    private void startWorker(final StackingCollector<Runnable> pipeline, final Proactor proactor) {
+    @Override
+    public java.util.List<IdleMetrics> idleMetrics() {
+        return idleStrategies.stream()
+                             .map(IdleStrategy::metrics)
+                             .collect(Collectors.toList());
+    }
+
+    @Override
+    public java.util.List<MetricsSnapshot> ioMetrics() {
+        final var result = new ArrayList<MetricsSnapshot>();
+
+        proactors.forEach(proactor -> proactor.metrics().whenPresent(result::add));
+        return result;
+    }
+
+    @Override
+    public java.util.List<StealMetrics> stealMetrics() {
+        return java.util.List.copyOf(stealMetrics);
+    }
+
+    // Overloaded worker hands operation over to the least loaded one among remaining workers
+    private void spill(final int source, final Consumer<Submitter> action) {
+        int target = (source + 1) % proactors.size();
+
+        for (int i = 0; i < proactors.size(); i++) {
+            if (i != source && proactors.get(i).overflowCounters().inFlight() < proactors.get(target).overflowCounters().inFlight()) {
+                target = i;
+            }
+        }
+
+        final var proactor = proactors.get(target);
+        push(target, pipelines.get(target), () -> proactor.acceptSpilled(action), true);
+    }
+
+    private void push(final int index, final TaskPipeline pipeline, final Runnable task, final boolean ioTask) {
+        while (!pipeline.offer(task)) {
+            final var policy = pipeline.overflowPolicy();
+
+            if (policy == PipelineOverflowPolicy.REJECT) {
+                throw new RejectedExecutionException("Pipeline of the worker " + index + " is full");
+            }
+
+            //Worker can't wait for itself, I/O task can be executed only by the owner of the proactor
+            if (currentWorker() == index || (policy == PipelineOverflowPolicy.CALLER_RUNS && !ioTask)) {
+                task.run();
+                return;
+            }
+
+            proactors.get(index).wakeup();
+            Thread.onSpinWait();
+        }
+        proactors.get(index).wakeup();
+    }
+
+    // Proactor is created by the worker after pinning, so memory of the ring and buffers is allocated at the NUMA node of the worker
+    private Proactor startWorker(final int index, final ProactorConfiguration configuration, final CountDownLatch started) {
+        final var pipeline = pipelines.get(index);
+        final var taskPipeline = tasks.get(index);
+        final var localPipeline = localTasks.get(index);
+        final var idleStrategy = idleStrategies.get(index);
+        final var workerPoolOwner = index == 0 || !configuration.shareKernelWorkers() ? null : proactors.get(0);
+        final var created = new CompletableFuture<Proactor>();
+
         executor.execute(() -> {
-            int idleRunCount = 0;
+            CURRENT_WORKER.set(new WorkerId(this, index, localPipeline));
+            pin(index, configuration.workerCpu(index));
+
+            final Proactor proactor;
+
+            try {
+                proactor = workerPoolOwner == null
+                           ? Proactor.proactor(configuration.forWorker(index))
+                           : Proactor.proactor(configuration.forWorker(index), workerPoolOwner);
+            } catch (final Throwable e) {
+                created.completeExceptionally(e);
+                return;
+            }
+
+            proactor.worker(index);
+
+            if (pipelines.size() > 1) {
+                proactor.spillHandler(action -> spill(index, action));
+                proactor.foreignFileHandler(this::releaseForeignFile);
+            }
+            proactor.pendingWorkProbe(() -> !pipeline.isEmpty() || !taskPipeline.isEmpty() || !localPipeline.isEmpty());
+
+            //Kernel applies worker limits per submitting thread, so they are set from within the worker
+            if (configuration.boundedKernelWorkers() > 0 || configuration.unboundedKernelWorkers() > 0) {
+                proactor.limitKernelWorkers(configuration.boundedKernelWorkers(), configuration.unboundedKernelWorkers())
+                        .onFailure(f -> logger().warn("Unable to limit number of kernel workers: {0}", f.message()));
+            }
+
+            created.complete(proactor);
+            awaitStart(started);
 
             while (!executor.isShutdown()) {
-                var head = pipeline.swapHead();
-
-                if (head == null) {
-                    idleRunCount++;
-
-                    if (idleRunCount == 2048) {
-                        Thread.yield();
-                        idleRunCount = 0;
-                    }
-                } else {
-                    final int cnt = 0;
-                    while (head != null) {
-                        head.element.run();
-                        head = head.nextNode;
-                    }
+                int workCount = pipeline.run() + taskPipeline.run() + runLocal(localPipeline);
+
+                if (workCount == 0 && tasks.size() > 1) {
+                    workCount = steal(index);
                 }
+
                 proactor.processIO();
+                idleStrategy.idle(workCount + proactor.lastCompletions(), proactor);
             }
             proactor.close();
         });
+
+        try {
+            return created.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private void pin(final int index, final int cpu) {
+        if (cpu < 0) {
+            return;
+        }
+
+        ThreadPlacement.pinCurrentThread(cpu)
+                       .onSuccess(unit -> ThreadPlacement.numaNode()
+                                                         .onSuccess(node -> logger().debug("Worker {0} pinned to CPU {1}, node {2}", index, cpu, node)))
+                       .onFailure(f -> logger().warn("Unable to pin worker {0} to CPU {1}: {2}", index, cpu, f.message()));
+    }
+
+    // Worker waits until all proactors are created, as it may hand operations over to other workers
+    private static void awaitStart(final CountDownLatch started) {
+        try {
+            started.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Idle worker takes whole batch of plain tasks from the most loaded worker. I/O tasks are never stolen, since they are bound to proactor.
+    private int steal(final int thief) {
+        int victim = -1;
+        int maxSize = 0;
+
+        for (int i = 0; i < tasks.size(); i++) {
+            final int size = tasks.get(i).size();
+
+            if (i != thief && size > maxSize) {
+                maxSize = size;
+                victim = i;
+            }
+        }
+
+        if (victim < 0) {
+            return 0;
+        }
+
+        return tasks.get(victim).steal(stealMetrics.get(thief));
+    }
+
+    // Only tasks queued before the call are executed, so tasks which resubmit themselves do not delay I/O processing
+    private static int runLocal(final ArrayDeque<Runnable> queue) {
+        final int count = queue.size();
+
+        for (int i = 0; i < count; i++) {
+            queue.poll().run();
+        }
+        return count;
+    }
+
+    private static final class WorkerId {
+        private final PipelinedTaskScheduler scheduler;
+        private final int index;
+        // Accessed only by the worker thread, hence no synchronization
+        private final ArrayDeque<Runnable> localTasks;
+
+        private WorkerId(final PipelinedTaskScheduler scheduler, final int index, final ArrayDeque<Runnable> localTasks) {
+            this.scheduler = scheduler;
+            this.index = index;
+            this.localTasks = localTasks;
+        }
     }
 
     private static final class SingletonHolder {
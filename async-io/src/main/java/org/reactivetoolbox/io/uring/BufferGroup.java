@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
+import org.reactivetoolbox.io.raw.RawMemory;
+import org.reactivetoolbox.io.uring.utils.ConcurrentObjectPool;
+import org.reactivetoolbox.io.uring.utils.Poolable;
+
+/**
+ * Group of buffers provided to the IO_URING instance with {@link AsyncOperation#IORING_OP_PROVIDE_BUFFERS}.
+ * <p>
+ * Buffers are owned by kernel until it selects one of them for the read operation which is submitted with
+ * {@link org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags#IOSQE_BUFFER_SELECT} flag. Once application releases selected
+ * buffer, it is queued for returning to the kernel. Buffers can be released from any thread, but returning them to the kernel is performed by
+ * the thread which serves the ring (see {@link #nextReleased()}).
+ */
+public class BufferGroup implements AutoCloseable {
+    public static final int DEFAULT_GROUP_ID = 1;
+    // Buffer ID is a 16-bit value
+    private static final int MAX_BUFFERS = 65536;
+
+    private final int groupId;
+    private final long region;
+    private final int bufferSize;
+    private final ProvidedBuffer[] buffers;
+    private final Slot[] slots;
+    private final ConcurrentObjectPool<Slot> released = new ConcurrentObjectPool<>(() -> null);
+    private boolean closed = false;
+
+    private BufferGroup(final int groupId, final int count, final int bufferSize) {
+        this.groupId = groupId;
+        this.bufferSize = bufferSize;
+        region = RawMemory.allocate((long) count * bufferSize);
+        //Pages are touched by the creating thread, so they are placed at the NUMA node of this thread rather than of the kernel worker
+        //which fills buffer first
+        RawMemory.clear(region, (long) count * bufferSize);
+        buffers = new ProvidedBuffer[count];
+        slots = new Slot[count];
+
+        for (int i = 0; i < count; i++) {
+            buffers[i] = ProvidedBuffer.providedBuffer(region + (long) i * bufferSize, bufferSize, i, this::release);
+            slots[i] = new Slot(i);
+        }
+    }
+
+    static Result<BufferGroup> create(final int groupId, final int count, final int bufferSize) {
+        if (count <= 0 || count > MAX_BUFFERS || bufferSize <= 0) {
+            return NativeFailureType.EINVAL.asResult();
+        }
+
+        return Result.ok(new BufferGroup(groupId, count, bufferSize));
+    }
+
+    public int groupId() {
+        return groupId;
+    }
+
+    public long address() {
+        return region;
+    }
+
+    public int count() {
+        return buffers.length;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Obtain buffer selected by kernel.
+     *
+     * @param id
+     *         Buffer ID reported by kernel in completion flags
+     * @param used
+     *         Number of bytes put into buffer by kernel
+     */
+    public ProvidedBuffer selected(final int id, final int used) {
+        return buffers[id].acquire(used);
+    }
+
+    /**
+     * Get next buffer released by application, if any.
+     *
+     * @return released buffer or {@code null} if there are no released buffers.
+     */
+    public ProvidedBuffer nextReleased() {
+        final var slot = released.alloc();
+
+        return slot == null ? null : buffers[slot.index];
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        RawMemory.dispose(region);
+        closed = true;
+    }
+
+    private void release(final ProvidedBuffer buffer) {
+        released.release(slots[buffer.id()]);
+    }
+
+    private static final class Slot implements Poolable<Slot> {
+        private final int index;
+        private Slot next;
+
+        private Slot(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Slot next() {
+            return next;
+        }
+
+        @Override
+        public Slot next(final Slot next) {
+            this.next = next;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.io.raw.RawMemory;
+import org.reactivetoolbox.io.uring.struct.shape.CompletionQueueEntryOffsets;
+
+/**
+ * Direct view of the completion ring shared with kernel. Completions are read in place, without copying pointers to them into
+ * intermediate buffer, and consumed by publishing new head to kernel.
+ * <p>
+ * Instances are not thread safe and must be used only by the thread which owns the ring.
+ * <p>
+ * Ring layout block (see {@link Uring#ringLayout(long, long)}) contains following 64-bit values, starting from offset 40:
+ * <ul>
+ *     <li>address of the head</li>
+ *     <li>address of the tail</li>
+ *     <li>address of the array of entries</li>
+ *     <li>ring mask</li>
+ *     <li>number of entries</li>
+ * </ul>
+ * Address of the counter of overflown completions is stored at offset 88.
+ */
+final class CompletionQueue {
+    private static final long OFFSET = 40;
+
+    private final long head;
+    private final long tail;
+    private final long entries;
+    private final int mask;
+    private final long overflow;
+
+    private CompletionQueue(final long head, final long tail, final long entries, final int mask, final long overflow) {
+        this.head = head;
+        this.tail = tail;
+        this.entries = entries;
+        this.mask = mask;
+        this.overflow = overflow;
+    }
+
+    static CompletionQueue completionQueue(final long layoutAddress) {
+        return new CompletionQueue(RawMemory.getLong(layoutAddress + OFFSET),
+                                   RawMemory.getLong(layoutAddress + OFFSET + 8),
+                                   RawMemory.getLong(layoutAddress + OFFSET + 16),
+                                   (int) RawMemory.getLong(layoutAddress + OFFSET + 24),
+                                   RawMemory.getLong(layoutAddress + 88));
+    }
+
+    /**
+     * Current head of the ring. Head is modified only by application, so plain read is sufficient.
+     */
+    int head() {
+        return RawMemory.getInt(head);
+    }
+
+    /**
+     * Number of completions available starting from specified head.
+     */
+    int ready(final int currentHead) {
+        //Tail is advanced by kernel, acquire ensures that content of entries is visible once new tail is observed
+        return RawMemory.getIntAcquire(tail) - currentHead;
+    }
+
+    /**
+     * Address of the entry at specified (unmasked) position.
+     */
+    long entryAt(final int position) {
+        return entries + (long) (position & mask) * CompletionQueueEntryOffsets.SIZE;
+    }
+
+    /**
+     * Number of completions dropped by kernel because ring was full.
+     */
+    int overflow() {
+        return RawMemory.getInt(overflow);
+    }
+
+    /**
+     * Return consumed entries to kernel. Release ensures that entries are not reused by kernel before they are read.
+     */
+    void advance(final int newHead) {
+        RawMemory.putIntRelease(head, newHead);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.core.lang.functional.Option;
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.util.FixedBuffer;
+import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.raw.RawMemory;
+import org.reactivetoolbox.io.uring.struct.raw.IoVector;
+import org.reactivetoolbox.io.uring.struct.shape.IoVectorOffsets;
+import org.reactivetoolbox.io.uring.utils.ConcurrentObjectPool;
+import org.reactivetoolbox.io.uring.utils.Poolable;
+
+/**
+ * Pool of buffers registered with IO_URING instance.
+ * <p>
+ * All buffers are allocated as one contiguous memory region which is split into equally sized buffers. The region is registered with the
+ * ring once, at the pool creation. Buffers can be released from any thread.
+ */
+public class FixedBufferPool implements AutoCloseable {
+    private final long ringBase;
+    private final long region;
+    private final long iovecs;
+    private final int bufferSize;
+    private final FixedBuffer[] buffers;
+    private final Slot[] slots;
+    private final ConcurrentObjectPool<Slot> freeSlots = new ConcurrentObjectPool<>(() -> null);
+    private boolean closed = false;
+
+    private FixedBufferPool(final long ringBase, final int count, final int bufferSize) {
+        this.ringBase = ringBase;
+        this.bufferSize = bufferSize;
+        region = RawMemory.allocate((long) count * bufferSize);
+        iovecs = RawMemory.allocate((long) count * IoVectorOffsets.SIZE);
+        buffers = new FixedBuffer[count];
+        slots = new Slot[count];
+
+        final var ioVector = IoVector.at(iovecs);
+
+        for (int i = count - 1; i >= 0; i--) {
+            final long address = region + (long) i * bufferSize;
+
+            buffers[i] = FixedBuffer.fixedBuffer(address, bufferSize, i, this::release);
+            slots[i] = new Slot(i);
+            freeSlots.release(slots[i]);
+
+            ioVector.reposition(iovecs + (long) i * IoVectorOffsets.SIZE);
+            ioVector.base(address)
+                    .len(bufferSize);
+        }
+    }
+
+    static Result<FixedBufferPool> register(final long ringBase, final int count, final int bufferSize) {
+        if (count <= 0 || bufferSize <= 0) {
+            return NativeFailureType.EINVAL.asResult();
+        }
+
+        final var pool = new FixedBufferPool(ringBase, count, bufferSize);
+        final int rc = Uring.registerBuffers(ringBase, pool.iovecs, count);
+
+        if (rc != 0) {
+            pool.releaseMemory();
+            return NativeFailureType.fromCode(rc).asResult();
+        }
+
+        return Result.ok(pool);
+    }
+
+    /**
+     * Take free buffer from the pool.
+     *
+     * @return buffer if there are free buffers and empty {@link Option} otherwise.
+     */
+    public Option<FixedBuffer> alloc() {
+        final var slot = freeSlots.alloc();
+
+        return slot == null ? Option.empty()
+                            : Option.option(buffers[slot.index].acquire());
+    }
+
+    /**
+     * Check if provided buffer belongs to this pool.
+     */
+    public boolean owns(final OffHeapBuffer buffer) {
+        return buffer instanceof FixedBuffer fixedBuffer
+               && fixedBuffer.index() < buffers.length
+               && buffers[fixedBuffer.index()] == fixedBuffer;
+    }
+
+    public int count() {
+        return buffers.length;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        Uring.unregisterBuffers(ringBase);
+        releaseMemory();
+        closed = true;
+    }
+
+    private void releaseMemory() {
+        RawMemory.dispose(iovecs);
+        RawMemory.dispose(region);
+    }
+
+    private void release(final FixedBuffer buffer) {
+        freeSlots.release(slots[buffer.index()]);
+    }
+
+    private static final class Slot implements Poolable<Slot> {
+        private final int index;
+        private Slot next;
+
+        private Slot(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Slot next() {
+            return next;
+        }
+
+        @Override
+        public Slot next(final Slot next) {
+            this.next = next;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.file.FileDescriptor;
+import org.reactivetoolbox.io.raw.RawMemory;
+
+/**
+ * Table of files registered with IO_URING instance.
+ * <p>
+ * Table is registered as sparse one, i.e. all slots are initially empty and filled as descriptors are registered.
+ * <p>
+ * Table is owned by the {@link UringHolder} of the ring and, as the ring itself, must be used only by the thread which owns the ring.
+ * Descriptors registered in other rings must be released by the threads which own those rings.
+ */
+public class FixedFileTable implements AutoCloseable {
+    private static final int EMPTY_SLOT = -1;
+    private static final int SLOT_SIZE = 4;
+
+    private final long ringBase;
+    private final int ringId;
+    private final int[] freeSlots;
+    private final long scratch;
+    private int freeCount;
+    private boolean closed = false;
+
+    private FixedFileTable(final long ringBase, final int ringId, final int count) {
+        this.ringBase = ringBase;
+        this.ringId = ringId;
+        freeSlots = new int[count];
+        scratch = RawMemory.allocate(SLOT_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            freeSlots[i] = count - 1 - i;
+        }
+        freeCount = count;
+    }
+
+    static Result<FixedFileTable> register(final long ringBase, final int ringId, final int count) {
+        if (count <= 0) {
+            return NativeFailureType.EINVAL.asResult();
+        }
+
+        final long descriptors = RawMemory.allocate((long) count * SLOT_SIZE);
+
+        try {
+            for (int i = 0; i < count; i++) {
+                RawMemory.putInt(descriptors + (long) i * SLOT_SIZE, EMPTY_SLOT);
+            }
+
+            final int rc = Uring.registerFiles(ringBase, descriptors, count);
+
+            if (rc != 0) {
+                return NativeFailureType.fromCode(rc).asResult();
+            }
+        } finally {
+            RawMemory.dispose(descriptors);
+        }
+
+        return Result.ok(new FixedFileTable(ringBase, ringId, count));
+    }
+
+    /**
+     * Put descriptor into the free slot of the table.
+     *
+     * @return copy of the input descriptor which refers allocated slot.
+     */
+    public Result<FileDescriptor> register(final FileDescriptor descriptor) {
+        if (closed) {
+            return NativeFailureType.EBADF.asResult();
+        }
+
+        if (descriptor.isFixed()) {
+            return NativeFailureType.EEXIST.asResult();
+        }
+
+        if (freeCount == 0) {
+            return NativeFailureType.ENFILE.asResult();
+        }
+
+        final int slot = freeSlots[--freeCount];
+        final int rc = update(slot, descriptor.descriptor());
+
+        if (rc < 0) {
+            freeSlots[freeCount++] = slot;
+            return NativeFailureType.fromCode(rc).asResult();
+        }
+
+        return Result.ok(descriptor.fixed(ringId, slot));
+    }
+
+    /**
+     * Reserve free slot of the table for the file which will be opened directly into the table.
+     *
+     * @return descriptor which refers reserved slot (see {@link FileDescriptor#direct(int, int)}).
+     */
+    public Result<FileDescriptor> reserve() {
+        if (closed) {
+            return NativeFailureType.EBADF.asResult();
+        }
+
+        if (freeCount == 0) {
+            return NativeFailureType.ENFILE.asResult();
+        }
+
+        return Result.ok(FileDescriptor.direct(ringId, freeSlots[--freeCount]));
+    }
+
+    /**
+     * Remove descriptor from the table. Removal of the file opened directly into the table closes the file.
+     *
+     * @return copy of the input descriptor which is not associated with the table.
+     */
+    public Result<FileDescriptor> unregister(final FileDescriptor descriptor) {
+        if (!descriptor.isFixedIn(ringId)) {
+            return NativeFailureType.EINVAL.asResult();
+        }
+
+        if (!closed) {
+            final int rc = update(descriptor.fixedSlot(), EMPTY_SLOT);
+
+            if (rc < 0) {
+                return NativeFailureType.fromCode(rc).asResult();
+            }
+
+            freeSlots[freeCount++] = descriptor.fixedSlot();
+        }
+
+        return Result.ok(descriptor.plain());
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        Uring.unregisterFiles(ringBase);
+        RawMemory.dispose(scratch);
+        closed = true;
+    }
+
+    private int update(final int slot, final int descriptor) {
+        RawMemory.putInt(scratch, descriptor);
+        return Uring.updateFiles(ringBase, slot, scratch, 1);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.io.raw.RawMemory;
+import org.reactivetoolbox.io.uring.struct.shape.SubmitQueueEntryOffsets;
+
+/**
+ * Direct view of the submission ring shared with kernel. Entries are obtained exactly as {@code io_uring_get_sqe()} does it: by advancing
+ * local tail stored in {@code struct io_uring}. Publishing of the tail to kernel is left to {@code io_uring_submit()}, which is invoked
+ * anyway to enter kernel.
+ * <p>
+ * Instances are not thread safe and must be used only by the thread which owns the ring.
+ * <p>
+ * Ring layout block (see {@link Uring#ringLayout(long, long)}) contains following 64-bit values, starting from offset 0:
+ * <ul>
+ *     <li>address of the kernel-side head</li>
+ *     <li>address of the local tail in {@code struct io_uring}</li>
+ *     <li>address of the array of entries</li>
+ *     <li>ring mask</li>
+ *     <li>number of entries</li>
+ * </ul>
+ * Address of the counter of dropped entries is stored at offset 80.
+ */
+final class SubmissionQueue {
+    private final long head;
+    private final long tail;
+    private final long entries;
+    private final int mask;
+    private final int size;
+    private final long dropped;
+
+    private SubmissionQueue(final long head, final long tail, final long entries, final int mask, final int size, final long dropped) {
+        this.head = head;
+        this.tail = tail;
+        this.entries = entries;
+        this.mask = mask;
+        this.size = size;
+        this.dropped = dropped;
+    }
+
+    static SubmissionQueue submissionQueue(final long layoutAddress) {
+        return new SubmissionQueue(RawMemory.getLong(layoutAddress),
+                                   RawMemory.getLong(layoutAddress + 8),
+                                   RawMemory.getLong(layoutAddress + 16),
+                                   (int) RawMemory.getLong(layoutAddress + 24),
+                                   (int) RawMemory.getLong(layoutAddress + 32),
+                                   RawMemory.getLong(layoutAddress + 80));
+    }
+
+    /**
+     * Number of free entries in the ring.
+     */
+    int spaceLeft() {
+        //Head is advanced by kernel (possibly by poller thread), so it must be read with acquire semantics
+        return size - (RawMemory.getInt(tail) - RawMemory.getIntAcquire(head));
+    }
+
+    /**
+     * Number of invalid entries dropped by kernel.
+     */
+    int dropped() {
+        return RawMemory.getInt(dropped);
+    }
+
+    /**
+     * Obtain address of the next free entry.
+     *
+     * @return address of the entry or 0 if ring is full
+     */
+    long nextEntry() {
+        final int current = RawMemory.getInt(tail);
+
+        if (current - RawMemory.getIntAcquire(head) >= size) {
+            return 0L;
+        }
+
+        RawMemory.putInt(tail, current + 1);
+        return entries + (long) (current & mask) * SubmitQueueEntryOffsets.SIZE;
+    }
+
+    /**
+     * Return specified number of most recently obtained entries back to the ring. Entries are not visible to kernel until tail is published,
+     * so this is safe to do before submission.
+     */
+    void rewind(final int count) {
+        RawMemory.putInt(tail, RawMemory.getInt(tail) - count);
+    }
+}
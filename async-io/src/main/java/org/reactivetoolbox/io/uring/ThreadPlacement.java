@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
+import org.reactivetoolbox.io.NativeFailureType;
+
+import static org.reactivetoolbox.io.uring.exchange.AbstractExchangeEntry.UNIT_RESULT;
+
+/**
+ * Control of the placement of the calling thread.
+ * <p>
+ * Memory is allocated by the kernel at the NUMA node of the thread which touches it first, so pinned thread which allocates and
+ * initializes its own off-heap memory gets it from the local node.
+ */
+public final class ThreadPlacement {
+    private ThreadPlacement() {
+    }
+
+    /**
+     * Restrict calling thread to specified CPU.
+     */
+    public static Result<Unit> pinCurrentThread(final int cpu) {
+        final int rc = Uring.pinCurrentThread(cpu);
+
+        return rc < 0 ? NativeFailureType.fromCode(rc).asResult() : UNIT_RESULT;
+    }
+
+    /**
+     * Get NUMA node on which calling thread is running at the moment.
+     */
+    public static Result<Integer> numaNode() {
+        return NativeFailureType.result(Uring.numaNode(), node -> node);
+    }
+}
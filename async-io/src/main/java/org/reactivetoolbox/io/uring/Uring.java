@@ -32,6 +32,9 @@ final class Uring {
     // Actual size of struct io_uring is 160 bytes at the moment of writing: May 2020
     public static final long SIZE = 256;
 
+    // Size of the ring layout filled by ringLayout(): 12 64-bit values
+    public static final long RING_LAYOUT_SIZE = 96;
+
     static {
         try {
             LibraryLoader.fromJar("/liburingnative.so");
@@ -44,8 +47,22 @@ final class Uring {
     // Start/Stop
     public static native int init(int numEntries, long baseAddress, int flags);
 
+    public static native int initWithParams(int numEntries, long baseAddress, int flags, int sqThreadCpu, int sqThreadIdle, int cqEntries,
+                                            int wqFd);
+
     public static native void close(long baseAddress);
 
+    public static native int ringFd(long baseAddress);
+
+    /**
+     * Store addresses and sizes of the submission and completion rings into provided memory block. Refer to {@link SubmissionQueue} and
+     * {@link CompletionQueue} for the layout of the block.
+     */
+    public static native void ringLayout(long baseAddress, long layoutAddress);
+
+    // Kernel async workers
+    public static native int registerIoWqMaxWorkers(long baseAddress, int bounded, int unbounded);
+
     // Completion
     public static native int peekCQ(long baseAddress, long completionsAddress, long count);
 
@@ -61,6 +78,20 @@ final class Uring {
 
     public static native long submitAndWait(long baseAddress, int waitNr);
 
+    public static native long submit(long baseAddress);
+
+    // Registered (fixed) buffers
+    public static native int registerBuffers(long baseAddress, long iovecs, int count);
+
+    public static native int unregisterBuffers(long baseAddress);
+
+    // Registered (fixed) files
+    public static native int registerFiles(long baseAddress, long descriptors, int count);
+
+    public static native int updateFiles(long baseAddress, int offset, long descriptors, int count);
+
+    public static native int unregisterFiles(long baseAddress);
+
     // Socket API
 
     /**
@@ -78,6 +109,7 @@ final class Uring {
 
     /**
      * Configure socket for listening at specified address, port and with specified depth of backlog queue. It's a combination of bind(2) and listen(2) calls.
+     * Datagram sockets are only bound, since listen(2) is not applicable to them.
      *
      * @param socket
      *         Socket to configure.
@@ -91,6 +123,65 @@ final class Uring {
      */
     public static native int prepareForListen(int socket, long address, int len, int queueDepth);
 
+    /**
+     * Retrieve address of the peer connected to the socket. This is a wrapper for getpeername(2) call.
+     *
+     * @param socket
+     *         Connected socket.
+     * @param address
+     *         Memory address of the socket address structure where peer address will be stored.
+     * @param lenAddress
+     *         Memory address of the {@code socklen_t} value which on input contains size of the socket address structure and on output
+     *         contains actual size of the peer address.
+     * @return 0 for success and negative value of error code in case of error.
+     */
+    public static native int peerName(int socket, long address, long lenAddress);
+
+    // Wakeup API
+
+    /**
+     * Create event descriptor which is used to wake up thread blocked while waiting for completions. This is a wrapper for eventfd(2) call.
+     *
+     * @return event descriptor (>0) or error (<0)
+     */
+    public static native int eventFd();
+
+    /**
+     * Increment counter of the event descriptor, which completes pending read from this descriptor.
+     *
+     * @param fd
+     *         Event descriptor.
+     * @return 0 for success and negative value of error code in case of error.
+     */
+    public static native int eventFdWrite(int fd);
+
+    /**
+     * Synchronously close descriptor which is not associated with any pending operation.
+     *
+     * @param fd
+     *         Descriptor to close.
+     * @return 0 for success and negative value of error code in case of error.
+     */
+    public static native int closeFd(int fd);
+
+    // Thread placement API
+
+    /**
+     * Restrict calling thread to specified CPU. This is a wrapper for sched_setaffinity(2) call.
+     *
+     * @param cpu
+     *         CPU index.
+     * @return 0 for success and negative value of error code in case of error.
+     */
+    public static native int pinCurrentThread(int cpu);
+
+    /**
+     * Get NUMA node of the CPU on which calling thread is running. This is a wrapper for getcpu(2) call.
+     *
+     * @return NUMA node index (>=0) or error (<0)
+     */
+    public static native int numaNode();
+
     private static final class SingletonHolder {
         private static final CoreLogger LOGGER = AppMetaRepository.instance().get(CoreLogger.class);
 
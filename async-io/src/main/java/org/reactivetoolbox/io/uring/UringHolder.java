@@ -17,7 +17,9 @@
 package org.reactivetoolbox.io.uring;
 
 import org.reactivetoolbox.core.lang.Tuple.Tuple3;
+import org.reactivetoolbox.core.lang.functional.Option;
 import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
 import org.reactivetoolbox.io.Bitmask;
 import org.reactivetoolbox.io.CompletionHandler;
 import org.reactivetoolbox.io.NativeFailureType;
@@ -32,21 +34,31 @@ import org.reactivetoolbox.io.async.net.SocketFlag;
 import org.reactivetoolbox.io.async.net.SocketOption;
 import org.reactivetoolbox.io.async.net.SocketType;
 import org.reactivetoolbox.io.async.net.context.ServerContext;
+import org.reactivetoolbox.io.async.util.FixedBuffer;
+import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.metrics.ProactorMetrics;
 import org.reactivetoolbox.io.raw.RawMemory;
 import org.reactivetoolbox.io.uring.exchange.ExchangeEntry;
+import org.reactivetoolbox.io.uring.struct.offheap.OffHeapSocketAddress;
 import org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntry;
 import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
 import org.reactivetoolbox.io.uring.utils.ObjectHeap;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.reactivetoolbox.core.lang.Tuple.tuple;
 import static org.reactivetoolbox.io.NativeFailureType.ENOTSOCK;
 import static org.reactivetoolbox.io.NativeFailureType.EPFNOSUPPORT;
 import static org.reactivetoolbox.io.NativeFailureType.result;
+import static org.reactivetoolbox.io.uring.exchange.AbstractExchangeEntry.UNIT_RESULT;
 import static org.reactivetoolbox.io.uring.struct.offheap.OffHeapSocketAddress.addressIn;
 import static org.reactivetoolbox.io.uring.struct.offheap.OffHeapSocketAddress.addressIn6;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_F_MORE;
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_IO_HARDLINK;
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_IO_LINK;
 
 public class UringHolder implements AutoCloseable {
 //    public static final int DEFAULT_QUEUE_SIZE = 32;
@@ -54,26 +66,48 @@ public class UringHolder implements AutoCloseable {
 //    public static final int DEFAULT_QUEUE_SIZE = 1024;
     public static final int DEFAULT_QUEUE_SIZE = 8192;
 
-    private static final int ENTRY_SIZE = 8;    // each entry is a 64-bit pointer
+    private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final int LINK_MASK = IOSQE_IO_LINK | IOSQE_IO_HARDLINK;
+
+    private final int id = ID_GENERATOR.incrementAndGet();
 
     private final long ringBase;
     private final int submissionEntries;
-    private final long submissionBuffer;
+    private final SubmissionQueue submissionQueue;
 
     private final int completionEntries;
-    private final long completionBuffer;
+    private final CompletionQueue completionQueue;
 
     private final CompletionQueueEntry cqEntry;
     private final SubmitQueueEntry sqEntry;
 
+    private final boolean sqPoll;
+
+    //Entries of the linked chain which is being placed into submission queue
+    private final Deque<ExchangeEntry<?>> chain = new ArrayDeque<>();
+
+    private FixedBufferPool fixedBufferPool;
+    private FixedFileTable fixedFileTable;
+    private BufferGroup bufferGroup;
+    private volatile int wakeupFd = -1;
+    private ProactorMetrics metrics;
+    private long staleCompletions = 0;
+    private long internalCompletions = 0;
     private boolean closed = false;
 
-    private UringHolder(final int numEntries, final long ringBase) {
+    private UringHolder(final int numEntries, final int numCompletions, final long ringBase, final boolean sqPoll) {
         submissionEntries = numEntries;
-        completionEntries = numEntries * 2;
+        completionEntries = numCompletions;
         this.ringBase = ringBase;
-        submissionBuffer = RawMemory.allocate(submissionEntries * ENTRY_SIZE);
-        completionBuffer = RawMemory.allocate(completionEntries * ENTRY_SIZE);
+        this.sqPoll = sqPoll;
+
+        //Rings are accessed directly, so their layout is obtained only once
+        final long layout = RawMemory.allocate(Uring.RING_LAYOUT_SIZE);
+        Uring.ringLayout(ringBase, layout);
+        submissionQueue = SubmissionQueue.submissionQueue(layout);
+        completionQueue = CompletionQueue.completionQueue(layout);
+        RawMemory.dispose(layout);
+
         cqEntry = CompletionQueueEntry.at(0);
         sqEntry = SubmitQueueEntry.at(0);
     }
@@ -84,52 +118,229 @@ public class UringHolder implements AutoCloseable {
             return;
         }
 
+        if (fixedBufferPool != null) {
+            fixedBufferPool.close();
+        }
+
+        if (fixedFileTable != null) {
+            fixedFileTable.close();
+        }
+
         Uring.close(ringBase);
-        RawMemory.dispose(submissionBuffer);
-        RawMemory.dispose(completionBuffer);
+
+        //Descriptor can be closed only once ring is closed, since ring may still have pending read from it
+        if (wakeupFd >= 0) {
+            Uring.closeFd(wakeupFd);
+            wakeupFd = -1;
+        }
+
+        //Memory of provided buffers can be released only when kernel does not reference it anymore
+        if (bufferGroup != null) {
+            bufferGroup.close();
+        }
+
         RawMemory.dispose(ringBase);
         closed = true;
     }
 
-    public void processCompletions(final ObjectHeap<CompletionHandler> pendingCompletions, final Submitter submitter) {
-        final long ready = Uring.peekCQ(ringBase, completionBuffer, completionEntries);
+    /**
+     * Get event descriptor used to wake up thread blocked in kernel while waiting for completions. Descriptor is created on first call.
+     */
+    public Result<FileDescriptor> wakeupDescriptor() {
+        if (wakeupFd < 0) {
+            final var rc = Uring.eventFd();
+
+            if (rc < 0) {
+                return result(rc);
+            }
+            wakeupFd = rc;
+        }
+
+        return Result.ok(FileDescriptor.file(wakeupFd));
+    }
+
+    /**
+     * Wake up thread blocked in kernel. This method can be called from any thread. Call has no effect if wakeup descriptor is not created.
+     */
+    public void wakeup() {
+        final var fd = wakeupFd;
+
+        if (fd >= 0) {
+            Uring.eventFdWrite(fd);
+        }
+    }
+
+    /**
+     * Enable collection of metrics. Once enabled, entries passed to {@link #processSubmissions(Deque, int)} must be stamped with the time
+     * of queueing (see {@link ExchangeEntry#timestamp(long)}).
+     */
+    public UringHolder metrics(final ProactorMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Number of completions which were dropped because they did not correspond to any pending request.
+     */
+    public long staleCompletions() {
+        return staleCompletions;
+    }
+
+    /**
+     * Total number of internal requests (see {@link ExchangeEntry#internal()}) which are finally completed.
+     */
+    public long internalCompletions() {
+        return internalCompletions;
+    }
+
+    public int processCompletions(final ObjectHeap<CompletionHandler> pendingCompletions, final Submitter submitter) {
+        final int head = completionQueue.head();
+        final int ready = Math.min(completionQueue.ready(head), completionEntries);
+
+        if (metrics != null) {
+            recordCompletions(pendingCompletions, head, ready);
+        }
+
+        for (int i = 0; i < ready; i++) {
+            cqEntry.reposition(completionQueue.entryAt(head + i));
+
+            //Multishot requests remain registered until last completion arrives
+            final var last = (cqEntry.flags() & IORING_CQE_F_MORE) == 0;
+            final var handler = last
+                                ? pendingCompletions.releaseUnsafe(cqEntry.userData())
+                                : pendingCompletions.get(cqEntry.userData());
 
-        for (long i = 0, address = completionBuffer; i < ready; i++, address += ENTRY_SIZE) {
-            cqEntry.reposition(RawMemory.getLong(address));
+            //Stale completion (key with outdated generation) must not be dispatched to the entry which reuses the slot
+            if (handler == null) {
+                staleCompletions++;
+                continue;
+            }
 
-            pendingCompletions.releaseUnsafe((int) cqEntry.userData())
-                              .accept(cqEntry.res(), cqEntry.flags(), submitter);
+            //Counted before handler is invoked, since handler releases entry and may submit new requests
+            if (last && handler instanceof ExchangeEntry<?> entry && entry.internal()) {
+                internalCompletions++;
+            }
+
+            handler.accept(cqEntry.res(), cqEntry.flags(), submitter);
         }
 
         if (ready > 0) {
-            Uring.advanceCQ(ringBase, ready);
+            completionQueue.advance(head + ready);
+        }
+
+        return ready;
+    }
+
+    //Latencies are recorded before handlers are invoked, since handlers release entries back to pool
+    private void recordCompletions(final ObjectHeap<CompletionHandler> pendingCompletions, final int head, final int ready) {
+        final long now = System.nanoTime();
+
+        for (int i = 0; i < ready; i++) {
+            cqEntry.reposition(completionQueue.entryAt(head + i));
+
+            if (pendingCompletions.get(cqEntry.userData()) instanceof ExchangeEntry<?> entry) {
+                metrics.onComplete(entry.operation(), entry.timestamp(), now);
+            }
+        }
+
+        metrics.onCompletionBatch(ready);
+        metrics.ringState(completionQueue.overflow(), submissionQueue.dropped(), staleCompletions);
+    }
+
+    public void processSubmissions(final Deque<ExchangeEntry<?>> queue) {
+        processSubmissions(queue, 0);
+    }
+
+    /**
+     * Submit queued entries and wait until at least specified number of completions is available.
+     */
+    public void processSubmissions(final Deque<ExchangeEntry<?>> queue, final int waitNr) {
+        //If submission queue is full (possible only when kernel-side poller lags behind), remaining entries stay in the queue and are
+        //submitted during next cycle. Waiting for completion here would not help, since completions do not free submission queue entries.
+        final long now = metrics != null ? System.nanoTime() : 0L;
+
+        while (!queue.isEmpty()) {
+            final long address = submissionQueue.nextEntry();
+
+            if (address == 0L) {
+                if (metrics != null) {
+                    metrics.onSubmissionQueueFull();
+                }
+                rollbackChain(queue);
+                break;
+            }
+
+            sqEntry.reposition(address);
+
+            final var entry = queue.removeFirst();
+            entry.apply(sqEntry.clear());
+            entry.descriptor(sqEntry.fd());
+            chain.addLast(entry);
+
+            if ((sqEntry.flags() & LINK_MASK) == 0) {
+                commitChain(now);
+            }
+        }
+
+        //Chains are always queued as a whole, so this is just a safety net
+        commitChain(now);
+
+        //With kernel-side polling submission just publishes new SQ tail, syscall is performed only if poller thread needs wakeup
+        if (sqPoll && waitNr == 0) {
+            Uring.submit(ringBase);
+        } else {
+            Uring.submitAndWait(ringBase, waitNr);
         }
     }
 
-    public void processSubmissions(final Deque<ExchangeEntry> queue) {
-        final int available = Uring.peekSQEntries(ringBase,
-                                                  submissionBuffer,
-                                                  Math.min(queue.size(), submissionEntries));
+    private void commitChain(final long now) {
+        //Same timestamp field is reused to track time of submission
+        if (metrics != null) {
+            for (final var entry : chain) {
+                metrics.onSubmit(entry.timestamp(), now);
+                entry.timestamp(now);
+            }
+        }
+
+        chain.clear();
+    }
 
-        for (long i = 0, address = submissionBuffer; i < available; i++, address += ENTRY_SIZE) {
-            sqEntry.reposition(RawMemory.getLong(address));
-            queue.removeFirst().apply(sqEntry.clear());
+    //Kernel truncates linked chain at the end of the submitted batch, so partially placed chain is returned back to queue and submitted
+    //during next cycle. Chain which does not fit even into empty queue is submitted as is, producers are expected to reject such chains.
+    private void rollbackChain(final Deque<ExchangeEntry<?>> queue) {
+        if (chain.size() >= submissionEntries) {
+            return;
         }
 
-        Uring.submitAndWait(ringBase, 0);
+        submissionQueue.rewind(chain.size());
+
+        while (!chain.isEmpty()) {
+            queue.addFirst(chain.removeLast());
+        }
     }
 
     public static Result<UringHolder> create(final int requestedEntries, final Set<UringSetupFlags> openFlags) {
+        return create(requestedEntries, UringSetupParams.setupParams(openFlags));
+    }
+
+    public static Result<UringHolder> create(final int requestedEntries, final UringSetupParams params) {
         final long ringBase = RawMemory.allocate(Uring.SIZE);
         final int numEntries = calculateNumEntries(requestedEntries);
-        final int rc = Uring.init(numEntries, ringBase, Bitmask.combine(openFlags));
+        final int numCompletions = params.cqEntries() > 0 ? calculateNumEntries(params.cqEntries()) : numEntries * 2;
+        final int rc = Uring.initWithParams(numEntries,
+                                            ringBase,
+                                            params.flagsMask(),
+                                            params.sqThreadCpu(),
+                                            params.sqThreadIdle(),
+                                            params.cqEntries(),
+                                            params.wqFd());
 
         if (rc != 0) {
             RawMemory.dispose(ringBase);
             return NativeFailureType.fromCode(rc).asResult();
         }
 
-        return Result.ok(new UringHolder(numEntries, ringBase));
+        return Result.ok(new UringHolder(numEntries, Math.max(numCompletions, numEntries * 2), ringBase, params.isSqPoll()));
     }
 
     private static int calculateNumEntries(final int size) {
@@ -144,6 +355,130 @@ public class UringHolder implements AutoCloseable {
         return submissionEntries;
     }
 
+    /**
+     * File descriptor of the ring. Can be passed to {@link UringSetupParams#withAttachWq(int)} to attach other rings to this one.
+     */
+    public int ringFd() {
+        return Uring.ringFd(ringBase);
+    }
+
+    /**
+     * Limit number of kernel async workers. Bounded workers handle requests with bounded execution time (for example, regular file
+     * I/O), unbounded workers handle requests which may block indefinitely (for example, socket I/O). Zero value leaves
+     * corresponding limit unchanged.
+     * <p>
+     * Kernel applies limits to the worker pool which serves the calling thread, so this method should be invoked from the thread which
+     * submits requests to the ring.
+     */
+    public Result<Unit> ioWqMaxWorkers(final int bounded, final int unbounded) {
+        final int rc = Uring.registerIoWqMaxWorkers(ringBase, Math.max(bounded, 0), Math.max(unbounded, 0));
+
+        return rc < 0 ? NativeFailureType.fromCode(rc).asResult() : UNIT_RESULT;
+    }
+
+    /**
+     * Check if ring is set up with kernel-side submission queue polling.
+     */
+    public boolean isSqPoll() {
+        return sqPoll;
+    }
+
+    /**
+     * Allocate and register with the ring set of fixed buffers. Only one set of fixed buffers can be registered with the ring.
+     *
+     * @param count
+     *         Number of buffers
+     * @param size
+     *         Size of each buffer
+     */
+    public Result<FixedBufferPool> registerBuffers(final int count, final int size) {
+        if (fixedBufferPool != null) {
+            return NativeFailureType.EBUSY.asResult();
+        }
+
+        return FixedBufferPool.register(ringBase, count, size)
+                              .onSuccess(pool -> fixedBufferPool = pool);
+    }
+
+    public Option<FixedBuffer> fixedBuffer() {
+        return fixedBufferPool == null ? Option.empty() : fixedBufferPool.alloc();
+    }
+
+    /**
+     * Check if buffer belongs to the set of fixed buffers registered with this ring.
+     */
+    public boolean isFixedBuffer(final OffHeapBuffer buffer) {
+        return fixedBufferPool != null && fixedBufferPool.owns(buffer);
+    }
+
+    /**
+     * Unique (within VM) identifier of the ring. Used to distinguish fixed files registered with different rings.
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Register with the ring sparse table of fixed files of specified size.
+     *
+     * @param count
+     *         Number of slots in the table
+     */
+    public Result<FixedFileTable> registerFiles(final int count) {
+        if (fixedFileTable != null) {
+            return NativeFailureType.EBUSY.asResult();
+        }
+
+        return FixedFileTable.register(ringBase, id, count)
+                             .onSuccess(table -> fixedFileTable = table);
+    }
+
+    /**
+     * Create group of buffers which can be provided to the kernel for buffer selection. Buffers still need to be provided to kernel with
+     * {@link AsyncOperation#IORING_OP_PROVIDE_BUFFERS} operation.
+     *
+     * @param count
+     *         Number of buffers
+     * @param size
+     *         Size of each buffer
+     */
+    public Result<BufferGroup> createBufferGroup(final int count, final int size) {
+        if (bufferGroup != null) {
+            return NativeFailureType.EBUSY.asResult();
+        }
+
+        return BufferGroup.create(BufferGroup.DEFAULT_GROUP_ID, count, size)
+                          .onSuccess(group -> bufferGroup = group);
+    }
+
+    public Result<FileDescriptor> registerFile(final FileDescriptor descriptor) {
+        return fixedFileTable == null ? NativeFailureType.ENXIO.asResult() : fixedFileTable.register(descriptor);
+    }
+
+    /**
+     * Reserve slot in the table of fixed files of this ring for the file which will be opened directly into the table.
+     */
+    public Result<FileDescriptor> reserveFile() {
+        return fixedFileTable == null ? NativeFailureType.ENXIO.asResult() : fixedFileTable.reserve();
+    }
+
+    /**
+     * Remove descriptor from the table of fixed files of this ring.
+     *
+     * @return copy of the input descriptor which is not associated with the table or failure if descriptor is registered in other ring.
+     */
+    public Result<FileDescriptor> unregisterFile(final FileDescriptor descriptor) {
+        if (!descriptor.isFixed()) {
+            return Result.ok(descriptor);
+        }
+
+        if (!descriptor.isFixedIn(id)) {
+            return NativeFailureType.EXDEV.asResult();
+        }
+
+        return fixedFileTable == null ? Result.ok(descriptor.plain()) : fixedFileTable.unregister(descriptor);
+    }
+
     public static Result<FileDescriptor> socket(final AddressFamily addressFamily,
                                                 final SocketType socketType,
                                                 final Set<SocketFlag> openFlags,
@@ -165,6 +500,16 @@ public class UringHolder implements AutoCloseable {
                 .map(tuple -> tuple.map(ServerContext::connector));
     }
 
+    /**
+     * Retrieve address of the peer connected to the socket.
+     *
+     * @return 0 for success and negative value of error code in case of error.
+     */
+    public static int peerName(final int socket, final OffHeapSocketAddress<?, ?> address) {
+        address.reset();
+        return Uring.peerName(socket, address.sockAddrPtr(), address.sizePtr());
+    }
+
     private static Result<Tuple3<FileDescriptor, SocketAddress<?>, Integer>> configureForListen(final FileDescriptor fileDescriptor,
                                                                                                 final SocketAddress<?> socketAddress,
                                                                                                 final int queueDepth) {
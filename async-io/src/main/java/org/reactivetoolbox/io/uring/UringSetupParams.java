@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring;
+
+import org.reactivetoolbox.io.Bitmask;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Parameters of the ring setup. Mirrors relevant part of the {@code struct io_uring_params}.
+ * <p>
+ * Instances are immutable, each {@code with...} method returns new instance.
+ */
+public final class UringSetupParams {
+    public static final int NO_CPU = -1;
+    public static final int DEFAULT_SQ_THREAD_IDLE = 1000;
+    public static final int NO_WQ = -1;
+
+    private final EnumSet<UringSetupFlags> flags;
+    private final int sqThreadCpu;
+    private final int sqThreadIdle;
+    private final int cqEntries;
+    private final int wqFd;
+
+    private UringSetupParams(final EnumSet<UringSetupFlags> flags, final int sqThreadCpu, final int sqThreadIdle, final int cqEntries,
+                             final int wqFd) {
+        this.flags = flags;
+        this.sqThreadCpu = sqThreadCpu;
+        this.sqThreadIdle = sqThreadIdle;
+        this.cqEntries = cqEntries;
+        this.wqFd = wqFd;
+    }
+
+    public static UringSetupParams setupParams() {
+        return new UringSetupParams(EnumSet.copyOf(UringSetupFlags.defaultFlags()), NO_CPU, 0, 0, NO_WQ);
+    }
+
+    public static UringSetupParams setupParams(final Set<UringSetupFlags> flags) {
+        return setupParams().withFlags(flags);
+    }
+
+    /**
+     * Add setup flags.
+     */
+    public UringSetupParams withFlags(final Set<UringSetupFlags> additionalFlags) {
+        final var newFlags = EnumSet.copyOf(flags);
+        newFlags.addAll(additionalFlags);
+        return new UringSetupParams(newFlags, sqThreadCpu, sqThreadIdle, cqEntries, wqFd);
+    }
+
+    /**
+     * Enable kernel-side submission queue polling. Kernel thread picks up new submissions without {@code io_uring_enter} call. If there
+     * are no submissions during specified idle time, thread goes to sleep and must be woken up by application.
+     *
+     * @param idleMillis
+     *         Poller thread idle time in milliseconds. Non-positive value selects {@link #DEFAULT_SQ_THREAD_IDLE}.
+     */
+    public UringSetupParams withSqPoll(final int idleMillis) {
+        final var newFlags = EnumSet.copyOf(flags);
+        newFlags.add(UringSetupFlags.SQPOLL);
+        return new UringSetupParams(newFlags, sqThreadCpu, idleMillis > 0 ? idleMillis : DEFAULT_SQ_THREAD_IDLE, cqEntries, wqFd);
+    }
+
+    /**
+     * Pin kernel poller thread to specified CPU. Has effect only when submission queue polling is enabled.
+     *
+     * @param cpu
+     *         CPU index or {@link #NO_CPU} to let scheduler choose.
+     */
+    public UringSetupParams withSqPollCpu(final int cpu) {
+        final var newFlags = EnumSet.copyOf(flags);
+
+        if (cpu < 0) {
+            newFlags.remove(UringSetupFlags.SQ_AFF);
+        } else {
+            newFlags.add(UringSetupFlags.SQ_AFF);
+        }
+        return new UringSetupParams(newFlags, cpu < 0 ? NO_CPU : cpu, sqThreadIdle, cqEntries, wqFd);
+    }
+
+    /**
+     * Request completion queue of specified size instead of default (which is twice the size of submission queue).
+     */
+    public UringSetupParams withCqEntries(final int entries) {
+        final var newFlags = EnumSet.copyOf(flags);
+
+        if (entries > 0) {
+            newFlags.add(UringSetupFlags.CQSIZE);
+        } else {
+            newFlags.remove(UringSetupFlags.CQSIZE);
+        }
+        return new UringSetupParams(newFlags, sqThreadCpu, sqThreadIdle, Math.max(entries, 0), wqFd);
+    }
+
+    /**
+     * Attach new ring to the existing one (IORING_SETUP_ATTACH_WQ). On kernels 5.6 to 5.11 attached ring shares kernel async worker
+     * pool of the existing ring. Since 5.12 worker pool is kept per submitting thread, so attaching affects only sharing of the
+     * submission queue poller thread, if any.
+     *
+     * @param ringFd
+     *         File descriptor of the existing ring or {@link #NO_WQ} to create own worker pool.
+     */
+    public UringSetupParams withAttachWq(final int ringFd) {
+        final var newFlags = EnumSet.copyOf(flags);
+
+        if (ringFd < 0) {
+            newFlags.remove(UringSetupFlags.ATTACH_WQ);
+        } else {
+            newFlags.add(UringSetupFlags.ATTACH_WQ);
+        }
+        return new UringSetupParams(newFlags, sqThreadCpu, sqThreadIdle, cqEntries, ringFd < 0 ? NO_WQ : ringFd);
+    }
+
+    public Set<UringSetupFlags> flags() {
+        return flags;
+    }
+
+    public int flagsMask() {
+        return Bitmask.combine(flags);
+    }
+
+    public boolean isSqPoll() {
+        return flags.contains(UringSetupFlags.SQPOLL);
+    }
+
+    public int sqThreadCpu() {
+        return sqThreadCpu;
+    }
+
+    public int sqThreadIdle() {
+        return sqThreadIdle;
+    }
+
+    public int cqEntries() {
+        return cqEntries;
+    }
+
+    public int wqFd() {
+        return wqFd;
+    }
+
+    public boolean isAttachWq() {
+        return flags.contains(UringSetupFlags.ATTACH_WQ);
+    }
+
+    @Override
+    public String toString() {
+        return "UringSetupParams(" + flags + ", cpu: " + sqThreadCpu + ", idle: " + sqThreadIdle + ", cq: " + cqEntries + ", wq: " + wqFd + ")";
+    }
+}
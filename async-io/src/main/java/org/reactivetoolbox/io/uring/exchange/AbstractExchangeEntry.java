@@ -19,8 +19,11 @@ package org.reactivetoolbox.io.uring.exchange;
 import org.reactivetoolbox.core.lang.functional.Result;
 import org.reactivetoolbox.core.lang.functional.Unit;
 import org.reactivetoolbox.io.CompletionHandler;
+import org.reactivetoolbox.io.async.Promise;
 import org.reactivetoolbox.io.async.Submitter;
 import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.impl.PromiseCompletion;
+import org.reactivetoolbox.io.async.impl.PromiseImpl;
 import org.reactivetoolbox.io.uring.AsyncOperation;
 import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
 import org.reactivetoolbox.io.uring.utils.ObjectHeap;
@@ -31,6 +34,7 @@ import java.util.function.BiConsumer;
 import static org.reactivetoolbox.core.lang.functional.Result.ok;
 import static org.reactivetoolbox.core.lang.functional.Unit.unit;
 import static org.reactivetoolbox.io.async.common.SizeT.sizeT;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_F_MORE;
 
 @SuppressWarnings("rawtypes")
 public abstract class AbstractExchangeEntry<T extends AbstractExchangeEntry<T, R>, R> implements ExchangeEntry<T> {
@@ -51,7 +55,10 @@ public abstract class AbstractExchangeEntry<T extends AbstractExchangeEntry<T, R
     private final PlainObjectPool pool;
     private final AsyncOperation operation;
     private T next;
-    private int key;
+    private long key;
+    private long timestamp;
+    private boolean internal;
+    private int descriptor = -1;
     protected BiConsumer<Result<R>, Submitter> completion;
 
     protected AbstractExchangeEntry(final AsyncOperation operation, final PlainObjectPool pool) {
@@ -62,6 +69,8 @@ public abstract class AbstractExchangeEntry<T extends AbstractExchangeEntry<T, R
     @SuppressWarnings("unchecked")
     public void release() {
         cleanup();
+        internal = false;
+        descriptor = -1;
         pool.release(this);
     }
 
@@ -72,7 +81,11 @@ public abstract class AbstractExchangeEntry<T extends AbstractExchangeEntry<T, R
     @Override
     public final void accept(final int result, final int flags, final Submitter submitter) {
         doAccept(result, flags, submitter);
-        release();
+
+        //Multishot request is still active and will produce more completions
+        if ((flags & IORING_CQE_F_MORE) == 0) {
+            release();
+        }
     }
 
     protected abstract void doAccept(final int result, final int flags, final Submitter submitter);
@@ -99,12 +112,74 @@ public abstract class AbstractExchangeEntry<T extends AbstractExchangeEntry<T, R
         return (T) this;
     }
 
+    @Override
+    public AsyncOperation operation() {
+        return operation;
+    }
+
+    @Override
+    public long timestamp() {
+        return timestamp;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T timestamp(final long nanos) {
+        timestamp = nanos;
+        return (T) this;
+    }
+
+    @Override
+    public boolean internal() {
+        return internal;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T internal(final boolean internal) {
+        this.internal = internal;
+        return (T) this;
+    }
+
+    @Override
+    public int descriptor() {
+        return descriptor;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T descriptor(final int descriptor) {
+        this.descriptor = descriptor;
+        return (T) this;
+    }
+
+    @Override
+    public void track(final int worker) {
+        if (completion instanceof PromiseCompletion<?> promiseCompletion && promiseCompletion.promise() instanceof PromiseImpl<?> promise) {
+            promise.operationSubmitted(key, worker);
+        }
+    }
+
+    /**
+     * Key of the entry in the heap of pending completions.
+     */
+    protected long key() {
+        return key;
+    }
+
     @Override
     public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
         return entry.userData(key)
                     .opcode(operation.opcode());
     }
 
+    /**
+     * Check if this entry resolves specified {@link Promise} upon completion.
+     */
+    public boolean resolves(final Promise<?> promise) {
+        return completion instanceof PromiseCompletion<?> promiseCompletion && promiseCompletion.promise() == promise;
+    }
+
     public T prepare(final BiConsumer<Result<R>, Submitter> completion) {
         this.completion = completion;
         return (T) this;
@@ -51,6 +51,7 @@ public class AcceptExchangeEntry extends AbstractExchangeEntry<AcceptExchangeEnt
     protected void doAccept(final int res, final int flags, final Submitter submitter) {
         if (res <= 0) {
             completion.accept(NativeFailureType.result(res), submitter);
+            return;
         }
 
         completion.accept(clientAddress.extract()
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.common.SizeT;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.async.common.SizeT.sizeT;
+
+/**
+ * Completion for the batch of datagram operations.
+ * <p>
+ * Collects results of all operations in the batch and invokes final completion once last operation is finished. If at least one
+ * datagram was transferred successfully, then number of transferred datagrams is reported. Otherwise first received failure is reported.
+ */
+public class BatchCompletion implements BiConsumer<Result<SizeT>, Submitter> {
+    private final BiConsumer<Result<SizeT>, Submitter> completion;
+    private int remaining;
+    private long transferred;
+    private Result<SizeT> failure;
+
+    private BatchCompletion(final BiConsumer<Result<SizeT>, Submitter> completion, final int operations) {
+        this.completion = completion;
+        this.remaining = operations;
+    }
+
+    public static BatchCompletion batchCompletion(final BiConsumer<Result<SizeT>, Submitter> completion, final int operations) {
+        return new BatchCompletion(completion, operations);
+    }
+
+    @Override
+    public void accept(final Result<SizeT> result, final Submitter submitter) {
+        result.onSuccess(size -> transferred++)
+              .onFailureDo(() -> recordFailure(result));
+
+        if (--remaining == 0) {
+            completion.accept(transferred > 0 ? Result.ok(sizeT(transferred)) : failure, submitter);
+        }
+    }
+
+    private void recordFailure(final Result<SizeT> result) {
+        if (failure == null) {
+            failure = result;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_ASYNC_CANCEL;
+
+/**
+ * Cancellation of all pending requests which use specified file descriptor. Completion receives number of cancelled requests.
+ */
+public class CancelAllExchangeEntry extends AbstractExchangeEntry<CancelAllExchangeEntry, SizeT> {
+    private static final int IORING_ASYNC_CANCEL_ALL = 1 << 0;
+    private static final int IORING_ASYNC_CANCEL_FD = 1 << 1;
+
+    private int descriptor;
+    private byte flags;
+
+    protected CancelAllExchangeEntry(final PlainObjectPool<CancelAllExchangeEntry> pool) {
+        super(IORING_OP_ASYNC_CANCEL, pool);
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        if (completion != null) {
+            completion.accept(res >= 0 ? sizeResult(res) : NativeFailureType.result(res), submitter);
+        }
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(descriptor)
+                    .flags(flags)
+                    .cancelFlags(IORING_ASYNC_CANCEL_ALL | IORING_ASYNC_CANCEL_FD);
+    }
+
+    public CancelAllExchangeEntry prepare(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                          final int descriptor,
+                                          final byte flags) {
+        this.descriptor = descriptor;
+        this.flags = flags;
+        return super.prepare(completion);
+    }
+}
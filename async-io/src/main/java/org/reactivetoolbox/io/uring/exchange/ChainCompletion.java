@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.async.ChainResult;
+import org.reactivetoolbox.io.async.Submitter;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Completion for the chain of linked operations. Collects results of all steps and invokes final completion once last step is finished.
+ */
+public class ChainCompletion {
+    private final BiConsumer<Result<ChainResult>, Submitter> completion;
+    private final Result<?>[] results;
+    private int remaining;
+
+    private ChainCompletion(final BiConsumer<Result<ChainResult>, Submitter> completion, final int steps) {
+        this.completion = completion;
+        this.results = new Result<?>[steps];
+        this.remaining = steps;
+    }
+
+    public static ChainCompletion chainCompletion(final BiConsumer<Result<ChainResult>, Submitter> completion, final int steps) {
+        return new ChainCompletion(completion, steps);
+    }
+
+    /**
+     * Create completion for the step with specified index.
+     */
+    public <T> BiConsumer<Result<T>, Submitter> step(final int index) {
+        return (result, submitter) -> {
+            results[index] = result;
+
+            if (--remaining == 0) {
+                completion.accept(Result.ok(ChainResult.chainResult(Arrays.asList(results))), submitter);
+            }
+        };
+    }
+}
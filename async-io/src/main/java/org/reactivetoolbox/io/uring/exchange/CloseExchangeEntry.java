@@ -29,6 +29,7 @@ import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_CLOSE;
 
 public class CloseExchangeEntry extends AbstractExchangeEntry<CloseExchangeEntry, Unit> {
     private int descriptor;
+    private int fileIndex;
     private byte flags;
 
     protected CloseExchangeEntry(final PlainObjectPool<CloseExchangeEntry> pool) {
@@ -42,8 +43,10 @@ public class CloseExchangeEntry extends AbstractExchangeEntry<CloseExchangeEntry
 
     public CloseExchangeEntry prepare(final BiConsumer<Result<Unit>, Submitter> completion,
                                       final int descriptor,
+                                      final int fileIndex,
                                       final byte flags) {
         this.descriptor = descriptor;
+        this.fileIndex = fileIndex;
         this.flags = flags;
         return super.prepare(completion);
     }
@@ -52,6 +55,7 @@ public class CloseExchangeEntry extends AbstractExchangeEntry<CloseExchangeEntry
     public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
         return super.apply(entry)
                     .flags(flags)
-                    .fd(descriptor);
+                    .fd(descriptor)
+                    .fileIndex(fileIndex);
     }
 }
@@ -17,6 +17,7 @@
 package org.reactivetoolbox.io.uring.exchange;
 
 import org.reactivetoolbox.io.CompletionHandler;
+import org.reactivetoolbox.io.uring.AsyncOperation;
 import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
 import org.reactivetoolbox.io.uring.utils.ObjectHeap;
 import org.reactivetoolbox.io.uring.utils.Poolable;
@@ -30,4 +31,36 @@ public interface ExchangeEntry<T extends ExchangeEntry<T> & Poolable<T>> extends
     SubmitQueueEntry apply(final SubmitQueueEntry entry);
 
     T register(final ObjectHeap<CompletionHandler> heap);
+
+    AsyncOperation operation();
+
+    /**
+     * Time (as returned by {@link System#nanoTime()}) of the last state change of the entry: queueing or submission. Maintained only
+     * when metrics collection is enabled.
+     */
+    long timestamp();
+
+    T timestamp(final long nanos);
+
+    /**
+     * Internal entries (wakeup and timer requests, linked timeouts, multishot requests, etc.) are not counted as in-flight operations.
+     */
+    boolean internal();
+
+    T internal(final boolean internal);
+
+    /**
+     * Descriptor (plain or fixed slot) used by the entry, as it was placed into submission queue, or -1 if entry is not submitted yet.
+     */
+    int descriptor();
+
+    T descriptor(final int descriptor);
+
+    /**
+     * Let promise resolved by this entry (if any) know where operation is pending, so it can be located once promise is cancelled.
+     *
+     * @param worker
+     *         Index of the scheduler worker which owns the ring or -1 if ring is not owned by scheduler
+     */
+    void track(final int worker);
 }
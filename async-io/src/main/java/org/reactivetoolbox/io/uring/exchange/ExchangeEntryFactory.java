@@ -20,27 +20,38 @@ import org.reactivetoolbox.core.lang.functional.Option;
 import org.reactivetoolbox.core.lang.functional.Result;
 import org.reactivetoolbox.core.lang.functional.Unit;
 import org.reactivetoolbox.io.Bitmask;
+import org.reactivetoolbox.io.async.Promise;
 import org.reactivetoolbox.io.async.Submitter;
 import org.reactivetoolbox.io.async.common.OffsetT;
 import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.file.FallocateMode;
+import org.reactivetoolbox.io.async.file.FileAdvice;
 import org.reactivetoolbox.io.async.file.FileDescriptor;
 import org.reactivetoolbox.io.async.file.FilePermission;
 import org.reactivetoolbox.io.async.file.OpenFlags;
 import org.reactivetoolbox.io.async.file.SpliceDescriptor;
+import org.reactivetoolbox.io.async.file.SyncRangeFlags;
 import org.reactivetoolbox.io.async.file.stat.FileStat;
 import org.reactivetoolbox.io.async.net.AddressFamily;
 import org.reactivetoolbox.io.async.net.ClientConnection;
+import org.reactivetoolbox.io.async.net.MessageFlags;
 import org.reactivetoolbox.io.async.net.SocketAddress;
 import org.reactivetoolbox.io.async.net.SocketFlag;
 import org.reactivetoolbox.io.async.net.SocketOption;
 import org.reactivetoolbox.io.async.net.SocketType;
 import org.reactivetoolbox.io.async.net.context.ServerContext;
+import org.reactivetoolbox.io.async.util.DatagramBatch;
+import org.reactivetoolbox.io.async.util.FixedBuffer;
+import org.reactivetoolbox.io.async.util.MemoryAdvice;
 import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
 import org.reactivetoolbox.io.scheduler.Timeout;
+import org.reactivetoolbox.io.uring.BufferGroup;
 import org.reactivetoolbox.io.uring.struct.ExternalRawStructure;
 import org.reactivetoolbox.io.uring.struct.offheap.OffHeapCString;
 import org.reactivetoolbox.io.uring.struct.offheap.OffHeapIoVector;
 import org.reactivetoolbox.io.uring.struct.offheap.OffHeapSocketAddress;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
 import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
 
 import java.nio.file.Path;
@@ -48,9 +59,11 @@ import java.time.Duration;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_FIXED_FILE;
 import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_IO_LINK;
 
 public class ExchangeEntryFactory {
+    private final int ringId;
     private final PlainObjectPool<NopExchangeEntry> nopPool = new PlainObjectPool<>(NopExchangeEntry::new);
     private final PlainObjectPool<DelayExchangeEntry> delayPool = new PlainObjectPool<>(DelayExchangeEntry::new);
     private final PlainObjectPool<CloseExchangeEntry> closePool = new PlainObjectPool<>(CloseExchangeEntry::new);
@@ -66,15 +79,45 @@ public class ExchangeEntryFactory {
     private final PlainObjectPool<StatExchangeEntry> statPool = new PlainObjectPool<>(StatExchangeEntry::new);
     private final PlainObjectPool<ReadVectorExchangeEntry> readVectorPool = new PlainObjectPool<>(ReadVectorExchangeEntry::new);
     private final PlainObjectPool<WriteVectorExchangeEntry> writeVectorPool = new PlainObjectPool<>(WriteVectorExchangeEntry::new);
+    private final PlainObjectPool<ReadFixedExchangeEntry> readFixedPool = new PlainObjectPool<>(ReadFixedExchangeEntry::new);
+    private final PlainObjectPool<WriteFixedExchangeEntry> writeFixedPool = new PlainObjectPool<>(WriteFixedExchangeEntry::new);
+    private final PlainObjectPool<ProvideBuffersExchangeEntry> provideBuffersPool = new PlainObjectPool<>(ProvideBuffersExchangeEntry::new);
+    private final PlainObjectPool<ReadProvidedExchangeEntry> readProvidedPool = new PlainObjectPool<>(ReadProvidedExchangeEntry::new);
+    private final PlainObjectPool<MultishotAcceptExchangeEntry> multishotAcceptPool = new PlainObjectPool<>(MultishotAcceptExchangeEntry::new);
+    private final PlainObjectPool<RecvMultishotExchangeEntry> recvMultishotPool = new PlainObjectPool<>(RecvMultishotExchangeEntry::new);
+    private final PlainObjectPool<SendExchangeEntry> sendPool = new PlainObjectPool<>(SendExchangeEntry::new);
+    private final PlainObjectPool<RecvExchangeEntry> recvPool = new PlainObjectPool<>(RecvExchangeEntry::new);
+    private final PlainObjectPool<FsyncExchangeEntry> fsyncPool = new PlainObjectPool<>(FsyncExchangeEntry::new);
+    private final PlainObjectPool<SyncFileRangeExchangeEntry> syncFileRangePool = new PlainObjectPool<>(SyncFileRangeExchangeEntry::new);
+    private final PlainObjectPool<FallocateExchangeEntry> fallocatePool = new PlainObjectPool<>(FallocateExchangeEntry::new);
+    private final PlainObjectPool<FadviseExchangeEntry> fadvisePool = new PlainObjectPool<>(FadviseExchangeEntry::new);
+    private final PlainObjectPool<MadviseExchangeEntry> madvisePool = new PlainObjectPool<>(MadviseExchangeEntry::new);
+    private final PlainObjectPool<SendMsgExchangeEntry> sendMsgPool = new PlainObjectPool<>(SendMsgExchangeEntry::new);
+    private final PlainObjectPool<RecvMsgExchangeEntry> recvMsgPool = new PlainObjectPool<>(RecvMsgExchangeEntry::new);
+    private final PlainObjectPool<CancelExchangeEntry> cancelPool = new PlainObjectPool<>(CancelExchangeEntry::new);
+    private final PlainObjectPool<CancelAllExchangeEntry> cancelAllPool = new PlainObjectPool<>(CancelAllExchangeEntry::new);
+
+    public ExchangeEntryFactory(final int ringId) {
+        this.ringId = ringId;
+    }
 
     public NopExchangeEntry forNop(final BiConsumer<Result<Unit>, Submitter> completion) {
         return nopPool.alloc()
                       .prepare(completion);
     }
 
+    public NopExchangeEntry forNop(final BiConsumer<Result<Unit>, Submitter> completion, final byte linkFlags) {
+        return nopPool.alloc()
+                      .prepare(completion, linkFlags);
+    }
+
     public TimeoutExchangeEntry forTimeout(final Timeout timeout) {
+        return forTimeout(timeout, false);
+    }
+
+    public TimeoutExchangeEntry forTimeout(final Timeout timeout, final boolean linked) {
         return timeoutPool.alloc()
-                          .prepare(timeout);
+                          .prepare(timeout, linked ? IOSQE_IO_LINK : 0);
     }
 
     public DelayExchangeEntry forDelay(final BiConsumer<Result<Duration>, Submitter> completion, final Timeout timeout) {
@@ -86,20 +129,49 @@ public class ExchangeEntryFactory {
                                        final FileDescriptor fd,
                                        final Option<Timeout> timeout) {
         return closePool.alloc()
-                        .prepare(completion, fd.descriptor(), calculateFlags(timeout));
+                        .prepare(completion, closeDescriptor(fd), closeFileIndex(fd), calculateFlags(timeout));
+    }
+
+    public CloseExchangeEntry forClose(final BiConsumer<Result<Unit>, Submitter> completion,
+                                       final FileDescriptor fd,
+                                       final byte linkFlags) {
+        return closePool.alloc()
+                        .prepare(completion, closeDescriptor(fd), closeFileIndex(fd), linkFlags);
+    }
+
+    //File opened directly into the table of fixed files is closed by the index of the slot, descriptor field then must be zero
+    private static int closeDescriptor(final FileDescriptor fd) {
+        return fd.isDirect() ? 0 : fd.descriptor();
+    }
+
+    private static int closeFileIndex(final FileDescriptor fd) {
+        return fd.isDirect() ? fd.fixedSlot() + 1 : 0;
     }
 
     private byte calculateFlags(final Option<Timeout> timeout) {
         return timeout.equals(Option.empty()) ? 0 : IOSQE_IO_LINK;
     }
 
+    private byte calculateFlags(final Option<Timeout> timeout, final boolean linked) {
+        return linked ? IOSQE_IO_LINK : calculateFlags(timeout);
+    }
+
+    // Descriptors registered with this ring are referenced by slot index
+    private int descriptor(final FileDescriptor fd) {
+        return fd.isFixedIn(ringId) ? fd.fixedSlot() : fd.descriptor();
+    }
+
+    private byte calculateFlags(final FileDescriptor fd, final byte flags) {
+        return fd.isFixedIn(ringId) ? (byte) (flags | IOSQE_FIXED_FILE) : flags;
+    }
+
     public ReadExchangeEntry forRead(final BiConsumer<Result<SizeT>, Submitter> completion,
                                      final FileDescriptor fd,
                                      final OffHeapBuffer buffer,
                                      final OffsetT offset,
                                      final Option<Timeout> timeout) {
         return readPool.alloc()
-                       .prepare(completion, fd.descriptor(), buffer, offset.value(), calculateFlags(timeout));
+                       .prepare(completion, descriptor(fd), buffer, offset.value(), calculateFlags(fd, calculateFlags(timeout)));
     }
 
     public WriteExchangeEntry forWrite(final BiConsumer<Result<SizeT>, Submitter> completion,
@@ -108,7 +180,154 @@ public class ExchangeEntryFactory {
                                        final OffsetT offset,
                                        final Option<Timeout> timeout) {
         return writePool.alloc()
-                        .prepare(completion, fd.descriptor(), buffer, offset.value(), calculateFlags(timeout));
+                        .prepare(completion, descriptor(fd), buffer, offset.value(), calculateFlags(fd, calculateFlags(timeout)));
+    }
+
+    public ReadExchangeEntry forRead(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                     final FileDescriptor fd,
+                                     final OffHeapBuffer buffer,
+                                     final OffsetT offset,
+                                     final byte linkFlags) {
+        return readPool.alloc()
+                       .prepare(completion, descriptor(fd), buffer, offset.value(), calculateFlags(fd, linkFlags));
+    }
+
+    public WriteExchangeEntry forWrite(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                       final FileDescriptor fd,
+                                       final OffHeapBuffer buffer,
+                                       final OffsetT offset,
+                                       final byte linkFlags) {
+        return writePool.alloc()
+                        .prepare(completion, descriptor(fd), buffer, offset.value(), calculateFlags(fd, linkFlags));
+    }
+
+    public FsyncExchangeEntry forFsync(final BiConsumer<Result<Unit>, Submitter> completion,
+                                       final FileDescriptor fd,
+                                       final boolean dataOnly,
+                                       final Option<Timeout> timeout) {
+        return fsyncPool.alloc()
+                        .prepare(completion, descriptor(fd), fsyncFlags(dataOnly), calculateFlags(fd, calculateFlags(timeout)));
+    }
+
+    public FsyncExchangeEntry forFsync(final BiConsumer<Result<Unit>, Submitter> completion,
+                                       final FileDescriptor fd,
+                                       final boolean dataOnly,
+                                       final byte linkFlags) {
+        return fsyncPool.alloc()
+                        .prepare(completion, descriptor(fd), fsyncFlags(dataOnly), calculateFlags(fd, linkFlags));
+    }
+
+    private static int fsyncFlags(final boolean dataOnly) {
+        return dataOnly ? SubmitQueueEntry.IORING_FSYNC_DATASYNC : 0;
+    }
+
+    public SyncFileRangeExchangeEntry forSyncFileRange(final BiConsumer<Result<Unit>, Submitter> completion,
+                                                       final FileDescriptor fd,
+                                                       final OffsetT offset,
+                                                       final SizeT length,
+                                                       final Set<SyncRangeFlags> syncFlags,
+                                                       final Option<Timeout> timeout) {
+        return syncFileRangePool.alloc()
+                                .prepare(completion,
+                                         descriptor(fd),
+                                         offset.value(),
+                                         (int) length.value(),
+                                         Bitmask.combine(syncFlags),
+                                         calculateFlags(fd, calculateFlags(timeout)));
+    }
+
+    public FallocateExchangeEntry forFallocate(final BiConsumer<Result<Unit>, Submitter> completion,
+                                               final FileDescriptor fd,
+                                               final Set<FallocateMode> mode,
+                                               final OffsetT offset,
+                                               final SizeT length,
+                                               final Option<Timeout> timeout) {
+        return fallocatePool.alloc()
+                            .prepare(completion,
+                                     descriptor(fd),
+                                     Bitmask.combine(mode),
+                                     offset.value(),
+                                     length.value(),
+                                     calculateFlags(fd, calculateFlags(timeout)));
+    }
+
+    public FadviseExchangeEntry forFadvise(final BiConsumer<Result<Unit>, Submitter> completion,
+                                           final FileDescriptor fd,
+                                           final OffsetT offset,
+                                           final SizeT length,
+                                           final FileAdvice advice,
+                                           final Option<Timeout> timeout) {
+        return fadvisePool.alloc()
+                          .prepare(completion,
+                                   descriptor(fd),
+                                   offset.value(),
+                                   (int) length.value(),
+                                   advice.code(),
+                                   calculateFlags(fd, calculateFlags(timeout)));
+    }
+
+    public MadviseExchangeEntry forMadvise(final BiConsumer<Result<Unit>, Submitter> completion,
+                                           final long address,
+                                           final int length,
+                                           final MemoryAdvice advice,
+                                           final Option<Timeout> timeout) {
+        return madvisePool.alloc()
+                          .prepare(completion, address, length, advice.code(), calculateFlags(timeout));
+    }
+
+    public SendExchangeEntry forSend(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                     final FileDescriptor socket,
+                                     final OffHeapBuffer buffer,
+                                     final Set<MessageFlags> msgFlags,
+                                     final Option<Timeout> timeout) {
+        return sendPool.alloc()
+                       .prepare(completion, descriptor(socket), buffer, Bitmask.combine(msgFlags), calculateFlags(socket, calculateFlags(timeout)));
+    }
+
+    public RecvExchangeEntry forRecv(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                     final FileDescriptor socket,
+                                     final OffHeapBuffer buffer,
+                                     final Set<MessageFlags> msgFlags,
+                                     final Option<Timeout> timeout) {
+        return recvPool.alloc()
+                       .prepare(completion, descriptor(socket), buffer, Bitmask.combine(msgFlags), calculateFlags(socket, calculateFlags(timeout)));
+    }
+
+    public SendExchangeEntry forSend(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                     final FileDescriptor socket,
+                                     final OffHeapBuffer buffer,
+                                     final Set<MessageFlags> msgFlags,
+                                     final byte linkFlags) {
+        return sendPool.alloc()
+                       .prepare(completion, descriptor(socket), buffer, Bitmask.combine(msgFlags), calculateFlags(socket, linkFlags));
+    }
+
+    public RecvExchangeEntry forRecv(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                     final FileDescriptor socket,
+                                     final OffHeapBuffer buffer,
+                                     final Set<MessageFlags> msgFlags,
+                                     final byte linkFlags) {
+        return recvPool.alloc()
+                       .prepare(completion, descriptor(socket), buffer, Bitmask.combine(msgFlags), calculateFlags(socket, linkFlags));
+    }
+
+    public SendMsgExchangeEntry forSendMsg(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                           final FileDescriptor socket,
+                                           final DatagramBatch batch,
+                                           final int index,
+                                           final int msgFlags) {
+        return sendMsgPool.alloc()
+                          .prepare(completion, descriptor(socket), batch, index, msgFlags, calculateFlags(socket, (byte) 0));
+    }
+
+    public RecvMsgExchangeEntry forRecvMsg(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                           final FileDescriptor socket,
+                                           final DatagramBatch batch,
+                                           final int index,
+                                           final int msgFlags,
+                                           final byte linkFlags) {
+        return recvMsgPool.alloc()
+                          .prepare(completion, descriptor(socket), batch, index, msgFlags, calculateFlags(socket, linkFlags));
     }
 
     public SpliceExchangeEntry forSplice(final BiConsumer<Result<SizeT>, Submitter> completion,
@@ -124,7 +343,20 @@ public class ExchangeEntryFactory {
                                      final Set<FilePermission> mode,
                                      final Option<Timeout> timeout) {
         return openPool.alloc()
-                       .prepare(completion, path, Bitmask.combine(openFlags), Bitmask.combine(mode), calculateFlags(timeout));
+                       .prepare(completion, path, Bitmask.combine(openFlags), Bitmask.combine(mode), null, calculateFlags(timeout));
+    }
+
+    /**
+     * Open file directly into the slot of the table of fixed files referred by provided descriptor.
+     */
+    public OpenExchangeEntry forOpen(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
+                                     final Path path,
+                                     final Set<OpenFlags> openFlags,
+                                     final Set<FilePermission> mode,
+                                     final FileDescriptor direct,
+                                     final byte linkFlags) {
+        return openPool.alloc()
+                       .prepare(completion, path, Bitmask.combine(openFlags), Bitmask.combine(mode), direct, linkFlags);
     }
 
     public SocketExchangeEntry forSocket(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
@@ -153,6 +385,14 @@ public class ExchangeEntryFactory {
                          .prepare(completion, socket.descriptor(), Bitmask.combine(flags));
     }
 
+    public MultishotAcceptExchangeEntry forMultishotAccept(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
+                                                           final Promise<Unit> stop,
+                                                           final FileDescriptor socket,
+                                                           final Set<SocketFlag> flags) {
+        return multishotAcceptPool.alloc()
+                                  .prepare(completion, stop, socket, flags, Bitmask.combine(flags));
+    }
+
     public ConnectExchangeEntry forConnect(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
                                            final FileDescriptor socket,
                                            final OffHeapSocketAddress<SocketAddress<?>, ExternalRawStructure<?>> clientAddress,
@@ -176,7 +416,7 @@ public class ExchangeEntryFactory {
                                                  final Option<Timeout> timeout,
                                                  final OffHeapIoVector ioVector) {
         return readVectorPool.alloc()
-                             .prepare(completion, fileDescriptor.descriptor(), offset.value(), calculateFlags(timeout), ioVector);
+                             .prepare(completion, descriptor(fileDescriptor), offset.value(), calculateFlags(fileDescriptor, calculateFlags(timeout)), ioVector);
     }
 
     public WriteVectorExchangeEntry forWriteVector(final BiConsumer<Result<SizeT>, Submitter> completion,
@@ -185,7 +425,73 @@ public class ExchangeEntryFactory {
                                                    final Option<Timeout> timeout,
                                                    final OffHeapIoVector ioVector) {
         return writeVectorPool.alloc()
-                              .prepare(completion, fileDescriptor.descriptor(), offset.value(), calculateFlags(timeout), ioVector);
+                              .prepare(completion, descriptor(fileDescriptor), offset.value(), calculateFlags(fileDescriptor, calculateFlags(timeout)), ioVector);
+    }
+
+    public ReadFixedExchangeEntry forReadFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                               final FileDescriptor fd,
+                                               final FixedBuffer buffer,
+                                               final int length,
+                                               final long offset,
+                                               final Option<Timeout> timeout,
+                                               final boolean linked) {
+        return readFixedPool.alloc()
+                            .prepare(completion, descriptor(fd), buffer, length, offset, calculateFlags(fd, calculateFlags(timeout, linked)));
+    }
+
+    public WriteFixedExchangeEntry forWriteFixed(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                                 final FileDescriptor fd,
+                                                 final FixedBuffer buffer,
+                                                 final long offset,
+                                                 final Option<Timeout> timeout,
+                                                 final boolean linked) {
+        return writeFixedPool.alloc()
+                             .prepare(completion, descriptor(fd), buffer, offset, calculateFlags(fd, calculateFlags(timeout, linked)));
+    }
+
+    public ProvideBuffersExchangeEntry forProvideBuffers(final BiConsumer<Result<Unit>, Submitter> completion, final BufferGroup group) {
+        return provideBuffersPool.alloc()
+                                 .prepare(completion, group.address(), group.bufferSize(), group.count(), 0, group.groupId());
+    }
+
+    public ProvideBuffersExchangeEntry forProvideBuffer(final BiConsumer<Result<Unit>, Submitter> completion,
+                                                        final BufferGroup group,
+                                                        final ProvidedBuffer buffer) {
+        return provideBuffersPool.alloc()
+                                 .prepare(completion, buffer.address(), group.bufferSize(), 1, buffer.id(), group.groupId());
+    }
+
+    public ReadProvidedExchangeEntry forReadProvided(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                                                     final FileDescriptor fd,
+                                                     final BufferGroup group,
+                                                     final OffsetT offset,
+                                                     final Option<Timeout> timeout) {
+        return readProvidedPool.alloc()
+                               .prepare(completion, descriptor(fd), group, offset.value(), calculateFlags(fd, calculateFlags(timeout)));
+    }
+
+    public RecvMultishotExchangeEntry forRecvMultishot(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                                                       final Promise<Unit> stop,
+                                                       final FileDescriptor socket,
+                                                       final BufferGroup group) {
+        return recvMultishotPool.alloc()
+                                .prepare(completion, stop, socket, descriptor(socket), group, calculateFlags(socket, (byte) 0));
+    }
+
+    public CancelExchangeEntry forCancel(final BiConsumer<Result<Unit>, Submitter> completion, final long target) {
+        return cancelPool.alloc()
+                         .prepare(completion, target);
+    }
+
+    /**
+     * Cancellation matches requests by file, so raw descriptor is used even if descriptor is registered as fixed file. This enables
+     * cancellation of requests which used fixed slot after slot is released.
+     */
+    public CancelAllExchangeEntry forCancelAll(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                               final FileDescriptor fd,
+                                               final byte linkFlags) {
+        return cancelAllPool.alloc()
+                            .prepare(completion, fd.descriptor(), linkFlags);
     }
 
     public void clear() {
@@ -204,5 +510,22 @@ public class ExchangeEntryFactory {
         statPool.clear();
         readVectorPool.clear();
         writeVectorPool.clear();
+        readFixedPool.clear();
+        writeFixedPool.clear();
+        provideBuffersPool.clear();
+        readProvidedPool.clear();
+        multishotAcceptPool.clear();
+        recvMultishotPool.clear();
+        sendPool.clear();
+        recvPool.clear();
+        fsyncPool.clear();
+        syncFileRangePool.clear();
+        fallocatePool.clear();
+        fadvisePool.clear();
+        madvisePool.clear();
+        sendMsgPool.clear();
+        recvMsgPool.clear();
+        cancelPool.clear();
+        cancelAllPool.clear();
     }
 }
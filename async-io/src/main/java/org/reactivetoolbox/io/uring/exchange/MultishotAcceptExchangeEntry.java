@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Promise;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.file.FileDescriptor;
+import org.reactivetoolbox.io.async.impl.PromiseImpl;
+import org.reactivetoolbox.io.async.net.ClientConnection;
+import org.reactivetoolbox.io.async.net.SocketAddress;
+import org.reactivetoolbox.io.async.net.SocketFlag;
+import org.reactivetoolbox.io.uring.UringHolder;
+import org.reactivetoolbox.io.uring.struct.offheap.OffHeapSocketAddress;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_ACCEPT;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_F_MORE;
+
+/**
+ * Multishot accept. Single submission produces completion for every accepted connection.
+ * <p>
+ * Since all completions share the same submission, kernel can't safely write client address into the single buffer, so address is
+ * obtained with getpeername(2) only when application asks for it (see {@link ClientConnection#address()}). If kernel terminates
+ * multishot request without error (for example, because completion queue was overflown), request is transparently re-armed, unless
+ * stop handle is already resolved. Failure is reported only when kernel terminates request with error (including cancellation via stop
+ * handle), so every failure passed to the completion means that no more connections will be accepted by this request.
+ */
+public class MultishotAcceptExchangeEntry extends AbstractExchangeEntry<MultishotAcceptExchangeEntry, ClientConnection<?>> {
+    private static final short IORING_ACCEPT_MULTISHOT = 1;
+    private static final BiConsumer<Result<Unit>, Submitter> IGNORE_CANCEL_RESULT = (result, submitter) -> {};
+
+    private FileDescriptor socket;
+    private Set<SocketFlag> socketFlags;
+    private int acceptFlags;
+    private Promise<Unit> stop;
+    private boolean cancelIssued;
+
+    protected MultishotAcceptExchangeEntry(final PlainObjectPool<MultishotAcceptExchangeEntry> pool) {
+        super(IORING_OP_ACCEPT, pool);
+    }
+
+    @Override
+    protected void cleanup() {
+        stop = null;
+        cancelIssued = false;
+        super.cleanup();
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        if (res < 0) {
+            completion.accept(NativeFailureType.result(res), submitter);
+            stop.syncResolve(NativeFailureType.result(res), submitter);
+            return;
+        }
+
+        if ((flags & IORING_CQE_F_MORE) == 0) {
+            if (!stop.isResolved()) {
+                submitter.acceptMultishot(completion, stop, socket, socketFlags);
+            }
+        } else if (stop.isResolved() && !cancelIssued) {
+            //Stop handle was resolved before request was submitted, so request could not be located at that moment
+            cancelIssued = true;
+            submitter.cancel(IGNORE_CANCEL_RESULT, stop);
+        }
+
+        final boolean socket6 = socket.isSocket6();
+        final var connection = ClientConnection.connection(socket6 ? FileDescriptor.socket6(res) : FileDescriptor.socket(res),
+                                                           () -> peerAddress(res, socket6));
+
+        completion.accept(Result.ok(connection), submitter);
+    }
+
+    @Override
+    public boolean resolves(final Promise<?> promise) {
+        return stop == promise;
+    }
+
+    //Re-armed request replaces the previous one, so its key is recorded unconditionally
+    @Override
+    public void track(final int worker) {
+        if (stop instanceof PromiseImpl<Unit> promise) {
+            promise.operationRearmed(key(), worker);
+        }
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(socket.descriptor())
+                    .ioprio(IORING_ACCEPT_MULTISHOT)
+                    .addr(0)
+                    .off(0)
+                    .acceptFlags(acceptFlags);
+    }
+
+    public MultishotAcceptExchangeEntry prepare(final BiConsumer<Result<ClientConnection<?>>, Submitter> completion,
+                                                final Promise<Unit> stop,
+                                                final FileDescriptor socket,
+                                                final Set<SocketFlag> socketFlags,
+                                                final int acceptFlags) {
+        this.stop = stop;
+        this.socket = socket;
+        this.socketFlags = socketFlags;
+        this.acceptFlags = acceptFlags;
+        return super.prepare(completion);
+    }
+
+    private static SocketAddress<?> peerAddress(final int descriptor, final boolean socket6) {
+        return socket6
+               ? peerAddress(descriptor, OffHeapSocketAddress.addressIn6())
+               : peerAddress(descriptor, OffHeapSocketAddress.addressIn());
+    }
+
+    private static <T extends SocketAddress<?>> T peerAddress(final int descriptor, final OffHeapSocketAddress<T, ?> address) {
+        try {
+            return UringHolder.peerName(descriptor, address) == 0
+                   ? address.extract().fold(failure -> null, value -> value)
+                   : null;
+        } finally {
+            address.dispose();
+        }
+    }
+}
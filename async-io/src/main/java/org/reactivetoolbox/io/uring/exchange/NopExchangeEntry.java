@@ -16,13 +16,19 @@
 
 package org.reactivetoolbox.io.uring.exchange;
 
+import org.reactivetoolbox.core.lang.functional.Result;
 import org.reactivetoolbox.core.lang.functional.Unit;
 import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
 import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
 
+import java.util.function.BiConsumer;
+
 import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_NOP;
 
 public class NopExchangeEntry extends AbstractExchangeEntry<NopExchangeEntry, Unit> {
+    private byte flags;
+
     protected NopExchangeEntry(final PlainObjectPool<NopExchangeEntry> pool) {
         super(IORING_OP_NOP, pool);
     }
@@ -31,4 +37,20 @@ public class NopExchangeEntry extends AbstractExchangeEntry<NopExchangeEntry, Un
     protected void doAccept(final int result, final int flags, final Submitter submitter) {
         completion.accept(UNIT_RESULT, submitter);
     }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .flags(flags);
+    }
+
+    @Override
+    public NopExchangeEntry prepare(final BiConsumer<Result<Unit>, Submitter> completion) {
+        return prepare(completion, (byte) 0);
+    }
+
+    public NopExchangeEntry prepare(final BiConsumer<Result<Unit>, Submitter> completion, final byte flags) {
+        this.flags = flags;
+        return super.prepare(completion);
+    }
 }
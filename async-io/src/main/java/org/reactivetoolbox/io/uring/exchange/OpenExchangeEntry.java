@@ -36,6 +36,7 @@ public class OpenExchangeEntry extends AbstractExchangeEntry<OpenExchangeEntry,
     private byte flags;
     private int openFlags;
     private int mode;
+    private FileDescriptor direct;
 
     protected OpenExchangeEntry(final PlainObjectPool<OpenExchangeEntry> pool) {
         super(IORING_OP_OPENAT, pool);
@@ -46,8 +47,9 @@ public class OpenExchangeEntry extends AbstractExchangeEntry<OpenExchangeEntry,
         rawPath.dispose();
         rawPath = null;
 
+        //File opened directly into the table of fixed files has no plain descriptor
         final var result = res < 0 ? NativeFailureType.<FileDescriptor>result(res)
-                                   : Result.ok(FileDescriptor.file(res));
+                                   : Result.ok(direct != null ? direct : FileDescriptor.file(res));
         completion.accept(result, submitter);
     }
 
@@ -58,16 +60,19 @@ public class OpenExchangeEntry extends AbstractExchangeEntry<OpenExchangeEntry,
                     .fd(AT_FDCWD)
                     .addr(rawPath.address())
                     .len(mode)
-                    .openFlags(openFlags);
+                    .openFlags(openFlags)
+                    .fileIndex(direct != null ? direct.fixedSlot() + 1 : 0);
     }
 
     public OpenExchangeEntry prepare(final BiConsumer<Result<FileDescriptor>, Submitter> completion,
                                      final Path path,
                                      final int openFlags,
                                      final int mode,
+                                     final FileDescriptor direct,
                                      final byte flags) {
         rawPath = OffHeapCString.cstring(path.toString());
 
+        this.direct = direct;
         this.flags = flags;
         this.openFlags = openFlags;
         this.mode = mode;
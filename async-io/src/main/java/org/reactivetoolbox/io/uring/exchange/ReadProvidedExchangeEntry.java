@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
+import org.reactivetoolbox.io.uring.BufferGroup;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_READ;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_BUFFER_SHIFT;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_F_BUFFER;
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_BUFFER_SELECT;
+
+public class ReadProvidedExchangeEntry extends AbstractExchangeEntry<ReadProvidedExchangeEntry, ProvidedBuffer> {
+    private static final Result<ProvidedBuffer> EOF_RESULT = Result.fail(NativeFailureType.ENODATA.asFailure());
+
+    private int descriptor;
+    private byte flags;
+    private BufferGroup group;
+    private long offset;
+
+    protected ReadProvidedExchangeEntry(final PlainObjectPool<ReadProvidedExchangeEntry> pool) {
+        super(IORING_OP_READ, pool);
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        if ((flags & IORING_CQE_F_BUFFER) == 0) {
+            completion.accept(res == 0 ? EOF_RESULT : NativeFailureType.result(res), submitter);
+            group = null;
+            return;
+        }
+
+        final var buffer = group.selected(flags >>> IORING_CQE_BUFFER_SHIFT, Math.max(res, 0));
+        group = null;
+
+        if (res <= 0) {
+            //Buffer is consumed, but there is no data in it
+            buffer.dispose();
+            completion.accept(res == 0 ? EOF_RESULT : NativeFailureType.result(res), submitter);
+            return;
+        }
+
+        completion.accept(Result.ok(buffer), submitter);
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(descriptor)
+                    .flags((byte) (flags | IOSQE_BUFFER_SELECT))
+                    .addr(0)
+                    .len(group.bufferSize())
+                    .off(offset)
+                    .bufGroup((short) group.groupId());
+    }
+
+    public ReadProvidedExchangeEntry prepare(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                                             final int descriptor,
+                                             final BufferGroup group,
+                                             final long offset,
+                                             final byte flags) {
+        this.descriptor = descriptor;
+        this.flags = flags;
+        this.group = group;
+        this.offset = offset;
+        return super.prepare(completion);
+    }
+}
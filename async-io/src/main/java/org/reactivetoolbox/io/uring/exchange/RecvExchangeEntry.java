@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_RECV;
+
+public class RecvExchangeEntry extends AbstractExchangeEntry<RecvExchangeEntry, SizeT> {
+    private static final Result<SizeT> EOF_RESULT = Result.fail(NativeFailureType.ENODATA.asFailure());
+
+    private int descriptor;
+    private byte flags;
+    private int msgFlags;
+    private OffHeapBuffer buffer;
+
+    protected RecvExchangeEntry(final PlainObjectPool<RecvExchangeEntry> pool) {
+        super(IORING_OP_RECV, pool);
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        if (res > 0) {
+            buffer.used(res);
+        }
+
+        completion.accept(res == 0 ? EOF_RESULT
+                                   : res > 0 ? sizeResult(res)
+                                             : NativeFailureType.result(res),
+                          submitter);
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(descriptor)
+                    .flags(flags)
+                    .addr(buffer.address())
+                    .len(buffer.size())
+                    .msgFlags(msgFlags);
+    }
+
+    public RecvExchangeEntry prepare(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                     final int descriptor,
+                                     final OffHeapBuffer buffer,
+                                     final int msgFlags,
+                                     final byte flags) {
+        this.descriptor = descriptor;
+        this.flags = flags;
+        this.msgFlags = msgFlags;
+        this.buffer = buffer;
+        return super.prepare(completion);
+    }
+}
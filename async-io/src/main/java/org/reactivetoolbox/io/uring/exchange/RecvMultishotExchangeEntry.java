@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Promise;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.file.FileDescriptor;
+import org.reactivetoolbox.io.async.impl.PromiseImpl;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
+import org.reactivetoolbox.io.uring.BufferGroup;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_RECV;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_BUFFER_SHIFT;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_F_BUFFER;
+import static org.reactivetoolbox.io.uring.struct.raw.CompletionQueueEntryFlags.IORING_CQE_F_MORE;
+import static org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntryFlags.IOSQE_BUFFER_SELECT;
+
+/**
+ * Multishot receive. Single submission produces completion for every chunk of data received from the socket. Data are put into buffers
+ * selected by kernel from the group of provided buffers.
+ * <p>
+ * Operation is terminated by EOF, error, cancellation via stop handle or when there are no free buffers in the group. Stop handle is
+ * resolved with the same failure as passed to the completion upon termination. If kernel terminates request after successful
+ * completion, request is transparently re-armed, unless stop handle is already resolved.
+ */
+public class RecvMultishotExchangeEntry extends AbstractExchangeEntry<RecvMultishotExchangeEntry, ProvidedBuffer> {
+    private static final Result<ProvidedBuffer> EOF_RESULT = Result.fail(NativeFailureType.ENODATA.asFailure());
+    private static final Result<Unit> EOF_STOP_RESULT = Result.fail(NativeFailureType.ENODATA.asFailure());
+    private static final short IORING_RECV_MULTISHOT = 2;
+    private static final BiConsumer<Result<Unit>, Submitter> IGNORE_CANCEL_RESULT = (result, submitter) -> {};
+
+    private FileDescriptor socket;
+    private int descriptor;
+    private byte flags;
+    private BufferGroup group;
+    private Promise<Unit> stop;
+    private boolean cancelIssued;
+
+    protected RecvMultishotExchangeEntry(final PlainObjectPool<RecvMultishotExchangeEntry> pool) {
+        super(IORING_OP_RECV, pool);
+    }
+
+    @Override
+    protected void cleanup() {
+        stop = null;
+        cancelIssued = false;
+        super.cleanup();
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        final var buffer = (flags & IORING_CQE_F_BUFFER) != 0
+                           ? group.selected(flags >>> IORING_CQE_BUFFER_SHIFT, Math.max(res, 0))
+                           : null;
+
+        if (res <= 0) {
+            if (buffer != null) {
+                buffer.dispose();
+            }
+            completion.accept(res == 0 ? EOF_RESULT : NativeFailureType.result(res), submitter);
+            stop.syncResolve(res == 0 ? EOF_STOP_RESULT : NativeFailureType.result(res), submitter);
+            return;
+        }
+
+        if ((flags & IORING_CQE_F_MORE) == 0) {
+            if (!stop.isResolved()) {
+                submitter.receiveMultishot(completion, stop, socket);
+            }
+        } else if (stop.isResolved() && !cancelIssued) {
+            //Stop handle was resolved before request was submitted, so request could not be located at that moment
+            cancelIssued = true;
+            submitter.cancel(IGNORE_CANCEL_RESULT, stop);
+        }
+
+        completion.accept(Result.ok(buffer), submitter);
+    }
+
+    @Override
+    public boolean resolves(final Promise<?> promise) {
+        return stop == promise;
+    }
+
+    //Re-armed request replaces the previous one, so its key is recorded unconditionally
+    @Override
+    public void track(final int worker) {
+        if (stop instanceof PromiseImpl<Unit> promise) {
+            promise.operationRearmed(key(), worker);
+        }
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(descriptor)
+                    .flags((byte) (flags | IOSQE_BUFFER_SELECT))
+                    .ioprio(IORING_RECV_MULTISHOT)
+                    .addr(0)
+                    .len(0)
+                    .bufGroup((short) group.groupId());
+    }
+
+    public RecvMultishotExchangeEntry prepare(final BiConsumer<Result<ProvidedBuffer>, Submitter> completion,
+                                              final Promise<Unit> stop,
+                                              final FileDescriptor socket,
+                                              final int descriptor,
+                                              final BufferGroup group,
+                                              final byte flags) {
+        this.stop = stop;
+        this.socket = socket;
+        this.descriptor = descriptor;
+        this.group = group;
+        this.flags = flags;
+        return super.prepare(completion);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_SYNC_FILE_RANGE;
+
+public class SyncFileRangeExchangeEntry extends AbstractExchangeEntry<SyncFileRangeExchangeEntry, Unit> {
+    private int descriptor;
+    private byte flags;
+    private long offset;
+    private int length;
+    private int syncRangeFlags;
+
+    protected SyncFileRangeExchangeEntry(final PlainObjectPool<SyncFileRangeExchangeEntry> pool) {
+        super(IORING_OP_SYNC_FILE_RANGE, pool);
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        completion.accept(res == 0 ? UNIT_RESULT : NativeFailureType.result(res), submitter);
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(descriptor)
+                    .flags(flags)
+                    .off(offset)
+                    .len(length)
+                    .syncRangeFlags(syncRangeFlags);
+    }
+
+    public SyncFileRangeExchangeEntry prepare(final BiConsumer<Result<Unit>, Submitter> completion,
+                                              final int descriptor,
+                                              final long offset,
+                                              final int length,
+                                              final int syncRangeFlags,
+                                              final byte flags) {
+        this.descriptor = descriptor;
+        this.offset = offset;
+        this.length = length;
+        this.syncRangeFlags = syncRangeFlags;
+        this.flags = flags;
+        return super.prepare(completion);
+    }
+}
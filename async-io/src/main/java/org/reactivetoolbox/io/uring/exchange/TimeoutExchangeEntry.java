@@ -27,6 +27,7 @@ import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_LINK_TIMEOUT
 
 public class TimeoutExchangeEntry extends AbstractExchangeEntry<TimeoutExchangeEntry, Unit> {
     private final OffHeapTimeSpec timeSpec = OffHeapTimeSpec.uninitialized();
+    private byte flags;
 
     protected TimeoutExchangeEntry(final PlainObjectPool<TimeoutExchangeEntry> pool) {
         super(IORING_OP_LINK_TIMEOUT, pool);
@@ -41,9 +42,10 @@ public class TimeoutExchangeEntry extends AbstractExchangeEntry<TimeoutExchangeE
     protected void doAccept(final int res, final int flags, final Submitter submitter) {
     }
 
-    public TimeoutExchangeEntry prepare(final Timeout timeout) {
+    public TimeoutExchangeEntry prepare(final Timeout timeout, final byte flags) {
         timeout.asSecondsAndNanos()
                .map(timeSpec::setSecondsNanos);
+        this.flags = flags;
 
         return this;
     }
@@ -51,6 +53,7 @@ public class TimeoutExchangeEntry extends AbstractExchangeEntry<TimeoutExchangeE
     @Override
     public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
         return super.apply(entry)
+                    .flags(flags)
                     .addr(timeSpec.address())
                     .fd(-1)
                     .len(1);
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.exchange;
+
+import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.io.NativeFailureType;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.util.FixedBuffer;
+import org.reactivetoolbox.io.uring.struct.raw.SubmitQueueEntry;
+import org.reactivetoolbox.io.uring.utils.PlainObjectPool;
+
+import java.util.function.BiConsumer;
+
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_WRITE_FIXED;
+
+public class WriteFixedExchangeEntry extends AbstractExchangeEntry<WriteFixedExchangeEntry, SizeT> {
+    private int descriptor;
+    private byte flags;
+    private FixedBuffer buffer;
+    private long offset;
+
+    protected WriteFixedExchangeEntry(final PlainObjectPool<WriteFixedExchangeEntry> pool) {
+        super(IORING_OP_WRITE_FIXED, pool);
+    }
+
+    @Override
+    protected void doAccept(final int res, final int flags, final Submitter submitter) {
+        completion.accept(byteCountToResult(res), submitter);
+        buffer = null;
+    }
+
+    @Override
+    public SubmitQueueEntry apply(final SubmitQueueEntry entry) {
+        return super.apply(entry)
+                    .fd(descriptor)
+                    .flags(flags)
+                    .addr(buffer.address())
+                    .len(buffer.used())
+                    .off(offset)
+                    .bufIndex((short) buffer.index());
+    }
+
+    public WriteFixedExchangeEntry prepare(final BiConsumer<Result<SizeT>, Submitter> completion,
+                                           final int descriptor,
+                                           final FixedBuffer buffer,
+                                           final long offset,
+                                           final byte flags) {
+        this.descriptor = descriptor;
+        this.flags = flags;
+        this.buffer = buffer;
+        this.offset = offset;
+        return super.prepare(completion);
+    }
+
+    private Result<SizeT> byteCountToResult(final int res) {
+        return res > 0
+               ? sizeResult(res)
+               : NativeFailureType.result(res);
+    }
+}
@@ -22,15 +22,25 @@ import org.reactivetoolbox.io.uring.struct.OffHeapStructure;
 
 public abstract class AbstractOffHeapStructure<T extends AbstractOffHeapStructure<?>> extends AbstractRawStructure<T>
         implements OffHeapStructure<T>, AutoCloseable {
+    private final boolean owned;
     private boolean released = false;
 
     protected AbstractOffHeapStructure(final int size) {
         super(RawMemory.allocate(size), size);
+        owned = true;
+    }
+
+    /**
+     * Create structure on top of memory owned by someone else. Memory is not released on {@link #dispose()}.
+     */
+    protected AbstractOffHeapStructure(final long address, final int size) {
+        super(address, size);
+        owned = false;
     }
 
     @Override
     public void dispose() {
-        if (released) {
+        if (released || !owned) {
             return;
         }
 
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.struct.raw;
+
+public class CompletionQueueEntryFlags {
+    public static final int IORING_CQE_F_BUFFER = 0x001; /* upper 16 bits are the buffer ID */
+    public static final int IORING_CQE_F_MORE   = 0x002; /* parent SQE will generate more CQE entries */
+    public static final int IORING_CQE_BUFFER_SHIFT = 16;
+}
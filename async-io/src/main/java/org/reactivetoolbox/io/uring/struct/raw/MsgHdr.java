@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.uring.struct.raw;
+
+import org.reactivetoolbox.io.uring.struct.AbstractExternalRawStructure;
+import org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets;
+
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_control;
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_controllen;
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_flags;
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_iov;
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_iovlen;
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_name;
+import static org.reactivetoolbox.io.uring.struct.shape.MsgHdrOffsets.msg_namelen;
+
+public class MsgHdr extends AbstractExternalRawStructure<MsgHdr> {
+    private MsgHdr(final long address) {
+        super(address, MsgHdrOffsets.SIZE);
+    }
+
+    public static MsgHdr at(final long address) {
+        return new MsgHdr(address);
+    }
+
+    public long name() {
+        return getLong(msg_name);
+    }
+
+    public MsgHdr name(final long data) {
+        return putLong(msg_name, data);
+    }
+
+    public int nameLen() {
+        return getInt(msg_namelen);
+    }
+
+    public MsgHdr nameLen(final int data) {
+        return putInt(msg_namelen, data);
+    }
+
+    public long iov() {
+        return getLong(msg_iov);
+    }
+
+    public MsgHdr iov(final long data) {
+        return putLong(msg_iov, data);
+    }
+
+    public long iovLen() {
+        return getLong(msg_iovlen);
+    }
+
+    public MsgHdr iovLen(final long data) {
+        return putLong(msg_iovlen, data);
+    }
+
+    public long control() {
+        return getLong(msg_control);
+    }
+
+    public MsgHdr control(final long data) {
+        return putLong(msg_control, data);
+    }
+
+    public long controlLen() {
+        return getLong(msg_controllen);
+    }
+
+    public MsgHdr controlLen(final long data) {
+        return putLong(msg_controllen, data);
+    }
+
+    public int flags() {
+        return getInt(msg_flags);
+    }
+
+    public MsgHdr flags(final int data) {
+        return putInt(msg_flags, data);
+    }
+}
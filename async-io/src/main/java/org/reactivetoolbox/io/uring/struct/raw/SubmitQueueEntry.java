@@ -75,6 +75,10 @@ public class SubmitQueueEntry extends AbstractExternalRawStructure<SubmitQueueEn
         return putByte(flags, data);
     }
 
+    public byte flags() {
+        return getByte(flags);
+    }
+
     public SubmitQueueEntry ioprio(final short data) {
         return putShort(ioprio, data);
     }
@@ -99,6 +103,10 @@ public class SubmitQueueEntry extends AbstractExternalRawStructure<SubmitQueueEn
         return putInt(fd, data);
     }
 
+    public int fd() {
+        return getInt(fd);
+    }
+
     public SubmitQueueEntry len(final int data) {
         return putInt(len, data);
     }
@@ -151,6 +159,11 @@ public class SubmitQueueEntry extends AbstractExternalRawStructure<SubmitQueueEn
         return putInt(splice_fd_in, data);
     }
 
+    //Shares the field with splice_fd_in: 1-based index of the slot in the table of fixed files or 0 for plain descriptor
+    public SubmitQueueEntry fileIndex(final int data) {
+        return putInt(splice_fd_in, data);
+    }
+
     public SubmitQueueEntry off(final long data) {
         return putLong(off, data);
     }
@@ -17,13 +17,18 @@
 package org.reactivetoolbox.io.uring.utils;
 
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 /**
  * Temporary storage for objects.
  * Main use case - storing object corresponding to in-flight requests
- * and obtaining integer index which can be passed instead of the whole object
+ * and obtaining key which can be passed instead of the whole object
  * to external entity. Upon request completion object then is released from the
- * heap by using corresponding integer index.
+ * heap by using corresponding key.
+ * <p>
+ * Key consists of the slot index (lower 32 bits) and generation of the slot (upper 32 bits). Generation is incremented every time
+ * slot is released, so keys which outlived their objects (for example, duplicate or late completions) are not resolved to the
+ * objects which reuse the same slot.
  *
  * @param <T>
  */
@@ -32,6 +37,7 @@ public class ObjectHeap<T> {
 
     private Object[] elements;
     private int[] indexes;
+    private int[] generations;
     private int firstFree = -1;
     private int nextFree = 0;
     private int count = 0;
@@ -39,6 +45,7 @@ public class ObjectHeap<T> {
     private ObjectHeap(final int initialCapacity) {
         elements = new Object[initialCapacity];
         indexes = new int[initialCapacity];
+        generations = new int[initialCapacity];
     }
 
     public static <T> ObjectHeap<T> objectHeap() {
@@ -49,20 +56,46 @@ public class ObjectHeap<T> {
         return new ObjectHeap<>(initialCapacity);
     }
 
-    public T releaseUnsafe(final int key) {
-        if (key < 0 || key >= nextFree || elements[key] == null || key == firstFree) {
+    /**
+     * Release object stored under specified key.
+     *
+     * @return stored object or {@code null} if key does not correspond to live object
+     */
+    @SuppressWarnings("unchecked")
+    public T releaseUnsafe(final long key) {
+        final int index = (int) key;
+
+        if (!isLive(index, key)) {
             return null;
         }
 
-        indexes[key] = firstFree;
-        firstFree = key;
-        final T result = (T) elements[key];
-        elements[key] = null;
+        generations[index]++;
+        indexes[index] = firstFree;
+        firstFree = index;
+        final T result = (T) elements[index];
+        elements[index] = null;
         count--;
         return result;
     }
 
-    public int allocKey(final T value) {
+    /**
+     * Get object stored under specified key without releasing it.
+     *
+     * @return stored object or {@code null} if key does not correspond to live object
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final long key) {
+        final int index = (int) key;
+
+        return isLive(index, key) ? (T) elements[index] : null;
+    }
+
+    //Released slots have their generation advanced, so no separate check for free slots is necessary
+    private boolean isLive(final int index, final long key) {
+        return Integer.compareUnsigned(index, nextFree) < 0 && generations[index] == (int) (key >>> 32);
+    }
+
+    public long allocKey(final T value) {
         // There are some free elements
         if (firstFree >= 0) {
             return allocInFreeChain(value);
@@ -76,26 +109,44 @@ public class ObjectHeap<T> {
         // No free elements and no free space, realloc everything
         indexes = Arrays.copyOf(indexes, indexes.length * 2);
         elements = Arrays.copyOf(elements, elements.length * 2);
+        generations = Arrays.copyOf(generations, generations.length * 2);
 
         return allocNew(value);
     }
 
-    private int allocNew(final T value) {
+    private long allocNew(final T value) {
         final int index = nextFree++;
         indexes[index] = firstFree;
         firstFree = index;
         return allocInFreeChain(value);
     }
 
-    private int allocInFreeChain(final T value) {
+    private long allocInFreeChain(final T value) {
         final int result = firstFree;
         elements[result] = value;
         firstFree = indexes[result];
         count++;
-        return result;
+        return key(result);
+    }
+
+    private long key(final int index) {
+        return ((long) generations[index] << 32) | index;
+    }
+
+    /**
+     * Check if any of stored objects matches specified predicate.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean anyMatch(final Predicate<T> predicate) {
+        for (int i = 0; i < nextFree; i++) {
+            if (elements[i] != null && predicate.test((T) elements[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public int count() {
         return count;
     }
-}
\ No newline at end of file
+}
@@ -7,14 +7,26 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
+#undef org_reactivetoolbox_io_uring_Uring_SIZE
+#define org_reactivetoolbox_io_uring_Uring_SIZE 256LL
+#undef org_reactivetoolbox_io_uring_Uring_RING_LAYOUT_SIZE
+#define org_reactivetoolbox_io_uring_Uring_RING_LAYOUT_SIZE 96LL
 /*
  * Class:     org_reactivetoolbox_io_uring_Uring
  * Method:    init
- * Signature: (IJJ)I
+ * Signature: (IJI)I
  */
 JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_init
   (JNIEnv *, jclass, jint, jlong, jint);
 
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    initWithParams
+ * Signature: (IJIIIII)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_initWithParams
+  (JNIEnv *, jclass, jint, jlong, jint, jint, jint, jint, jint);
+
 /*
  * Class:     org_reactivetoolbox_io_uring_Uring
  * Method:    close
@@ -23,6 +35,30 @@ JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_init
 JNIEXPORT void JNICALL Java_org_reactivetoolbox_io_uring_Uring_close
   (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    ringFd
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_ringFd
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    ringLayout
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_reactivetoolbox_io_uring_Uring_ringLayout
+  (JNIEnv *, jclass, jlong, jlong);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    registerIoWqMaxWorkers
+ * Signature: (JII)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_registerIoWqMaxWorkers
+  (JNIEnv *, jclass, jlong, jint, jint);
+
 /*
  * Class:     org_reactivetoolbox_io_uring_Uring
  * Method:    peekCQ
@@ -71,7 +107,6 @@ JNIEXPORT jlong JNICALL Java_org_reactivetoolbox_io_uring_Uring_nextSQEntry
 JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_peekSQEntries
   (JNIEnv *, jclass, jlong, jlong, jlong);
 
-
 /*
  * Class:     org_reactivetoolbox_io_uring_Uring
  * Method:    submitAndWait
@@ -80,6 +115,54 @@ JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_peekSQEntries
 JNIEXPORT jlong JNICALL Java_org_reactivetoolbox_io_uring_Uring_submitAndWait
   (JNIEnv *, jclass, jlong, jint);
 
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    submit
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_reactivetoolbox_io_uring_Uring_submit
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    registerBuffers
+ * Signature: (JJI)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_registerBuffers
+  (JNIEnv *, jclass, jlong, jlong, jint);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    unregisterBuffers
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_unregisterBuffers
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    registerFiles
+ * Signature: (JJI)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_registerFiles
+  (JNIEnv *, jclass, jlong, jlong, jint);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    updateFiles
+ * Signature: (JIJI)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_updateFiles
+  (JNIEnv *, jclass, jlong, jint, jlong, jint);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    unregisterFiles
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_unregisterFiles
+  (JNIEnv *, jclass, jlong);
+
 /*
  * Class:     org_reactivetoolbox_io_uring_Uring
  * Method:    socket
@@ -96,6 +179,54 @@ JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_socket
 JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_prepareForListen
   (JNIEnv *, jclass, jint, jlong, jint, jint);
 
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    peerName
+ * Signature: (IJJ)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_peerName
+  (JNIEnv *, jclass, jint, jlong, jlong);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    eventFd
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_eventFd
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    eventFdWrite
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_eventFdWrite
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    closeFd
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_closeFd
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    pinCurrentThread
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_pinCurrentThread
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     org_reactivetoolbox_io_uring_Uring
+ * Method:    numaNode
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_numaNode
+  (JNIEnv *, jclass);
+
 #ifdef __cplusplus
 }
 #endif
@@ -1,9 +1,14 @@
+#define _GNU_SOURCE
 #include <liburing.h>
 #include <stdlib.h>
 #include <string.h>
 #include <errno.h>
 #include <arpa/inet.h>
 #include <sys/socket.h>
+#include <sys/eventfd.h>
+#include <unistd.h>
+#include <sched.h>
+#include <sys/syscall.h>
 #include <netinet/in.h>
 #include <linux/stat.h>
 #include "include/org_reactivetoolbox_io_uring_Uring.h"
@@ -16,10 +21,56 @@ JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_init(JNIEnv *env,
     return (jint) io_uring_queue_init((unsigned) num_entries, RING_PTR, (unsigned) flags);
 }
 
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_initWithParams(JNIEnv *env, jclass clazz, jint num_entries, jlong base_address, jint flags,
+                                                                            jint sq_thread_cpu, jint sq_thread_idle, jint cq_entries,
+                                                                            jint wq_fd) {
+    struct io_uring_params params;
+
+    memset(&params, 0, sizeof(params));
+    params.flags = (unsigned) flags;
+    params.sq_thread_cpu = (unsigned) sq_thread_cpu;
+    params.sq_thread_idle = (unsigned) sq_thread_idle;
+    params.cq_entries = (unsigned) cq_entries;
+
+    if (wq_fd >= 0) {
+        params.wq_fd = (unsigned) wq_fd;
+    }
+
+    return (jint) io_uring_queue_init_params((unsigned) num_entries, RING_PTR, &params);
+}
+
 JNIEXPORT void JNICALL Java_org_reactivetoolbox_io_uring_Uring_close(JNIEnv *env, jclass clazz, jlong base_address) {
     io_uring_queue_exit(RING_PTR);
 }
 
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_ringFd(JNIEnv *env, jclass clazz, jlong base_address) {
+    return (jint) RING_PTR->ring_fd;
+}
+
+JNIEXPORT void JNICALL Java_org_reactivetoolbox_io_uring_Uring_ringLayout(JNIEnv *env, jclass clazz, jlong base_address, jlong layout_address) {
+    jlong *layout = (jlong *) layout_address;
+
+    layout[0] = (jlong) RING_PTR->sq.khead;
+    layout[1] = (jlong) &RING_PTR->sq.sqe_tail;
+    layout[2] = (jlong) RING_PTR->sq.sqes;
+    layout[3] = (jlong) *RING_PTR->sq.kring_mask;
+    layout[4] = (jlong) *RING_PTR->sq.kring_entries;
+    layout[5] = (jlong) RING_PTR->cq.khead;
+    layout[6] = (jlong) RING_PTR->cq.ktail;
+    layout[7] = (jlong) RING_PTR->cq.cqes;
+    layout[8] = (jlong) *RING_PTR->cq.kring_mask;
+    layout[9] = (jlong) *RING_PTR->cq.kring_entries;
+    layout[10] = (jlong) RING_PTR->sq.kdropped;
+    layout[11] = (jlong) RING_PTR->cq.koverflow;
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_registerIoWqMaxWorkers(JNIEnv *env, jclass clazz, jlong base_address,
+                                                                                    jint bounded, jint unbounded) {
+    unsigned int values[2] = {(unsigned int) bounded, (unsigned int) unbounded};
+
+    return (jint) io_uring_register_iowq_max_workers(RING_PTR, values);
+}
+
 JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_peekCQ(JNIEnv *env, jclass clazz, jlong base_address, jlong completions_address, jlong count) {
     return (jint) io_uring_peek_batch_cqe(RING_PTR, CQE_BATCH_PTR, COUNT);
 }
@@ -69,6 +120,37 @@ JNIEXPORT jlong JNICALL Java_org_reactivetoolbox_io_uring_Uring_submitAndWait(JN
     return (jlong) io_uring_submit_and_wait(RING_PTR, COUNT);
 }
 
+// In SQPOLL mode this call only publishes new SQ tail and enters kernel only if poller thread is asleep (IORING_SQ_NEED_WAKEUP is set)
+JNIEXPORT jlong JNICALL Java_org_reactivetoolbox_io_uring_Uring_submit(JNIEnv *env, jclass clazz, jlong base_address) {
+    return (jlong) io_uring_submit(RING_PTR);
+}
+
+//-----------------------------------------------------
+// Registered buffers
+//-----------------------------------------------------
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_registerBuffers(JNIEnv *env, jclass clazz, jlong base_address, jlong iovecs_address, jint count) {
+    return (jint) io_uring_register_buffers(RING_PTR, (const struct iovec *) iovecs_address, (unsigned) count);
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_unregisterBuffers(JNIEnv *env, jclass clazz, jlong base_address) {
+    return (jint) io_uring_unregister_buffers(RING_PTR);
+}
+
+//-----------------------------------------------------
+// Registered files
+//-----------------------------------------------------
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_registerFiles(JNIEnv *env, jclass clazz, jlong base_address, jlong descriptors_address, jint count) {
+    return (jint) io_uring_register_files(RING_PTR, (const int *) descriptors_address, (unsigned) count);
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_updateFiles(JNIEnv *env, jclass clazz, jlong base_address, jint offset, jlong descriptors_address, jint count) {
+    return (jint) io_uring_register_files_update(RING_PTR, (unsigned) offset, (int *) descriptors_address, (unsigned) count);
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_unregisterFiles(JNIEnv *env, jclass clazz, jlong base_address) {
+    return (jint) io_uring_unregister_files(RING_PTR);
+}
+
 //-----------------------------------------------------
 // Socket API
 //-----------------------------------------------------
@@ -124,9 +206,79 @@ JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_prepareForListen(
         return get_errno();
     }
 
+    int type;
+    socklen_t type_len = sizeof(type);
+
+    if (getsockopt((int) sock, SOL_SOCKET, SO_TYPE, &type, &type_len)) {
+        return get_errno();
+    }
+
+    // Datagram sockets are ready to receive once bound
+    if (type == SOCK_DGRAM) {
+        return 0;
+    }
+
     if (listen((int) sock, (int) queue_depth)) {
         return get_errno();
     }
 
     return 0;
 }
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_peerName(JNIEnv *env, jclass clazz, jint sock, jlong address, jlong len_address) {
+    if (getpeername((int) sock, (struct sockaddr *) address, (socklen_t *) len_address)) {
+        return get_errno();
+    }
+
+    return 0;
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_eventFd(JNIEnv *env, jclass clazz) {
+    int fd = eventfd(0, EFD_CLOEXEC);
+
+    return fd < 0 ? get_errno() : (jint) fd;
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_eventFdWrite(JNIEnv *env, jclass clazz, jint fd) {
+    if (eventfd_write((int) fd, 1)) {
+        return get_errno();
+    }
+
+    return 0;
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_closeFd(JNIEnv *env, jclass clazz, jint fd) {
+    if (close((int) fd)) {
+        return get_errno();
+    }
+
+    return 0;
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_pinCurrentThread(JNIEnv *env, jclass clazz, jint cpu) {
+    cpu_set_t set;
+
+    if (cpu < 0 || cpu >= CPU_SETSIZE) {
+        return -EINVAL;
+    }
+
+    CPU_ZERO(&set);
+    CPU_SET((int) cpu, &set);
+
+    if (sched_setaffinity(0, sizeof(set), &set)) {
+        return get_errno();
+    }
+
+    return 0;
+}
+
+JNIEXPORT jint JNICALL Java_org_reactivetoolbox_io_uring_Uring_numaNode(JNIEnv *env, jclass clazz) {
+    unsigned cpu;
+    unsigned node;
+
+    if (syscall(SYS_getcpu, &cpu, &node, NULL)) {
+        return get_errno();
+    }
+
+    return (jint) node;
+}
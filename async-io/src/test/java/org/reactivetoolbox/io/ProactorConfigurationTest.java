@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io;
+
+import org.junit.jupiter.api.Test;
+import org.reactivetoolbox.io.uring.UringSetupParams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ProactorConfigurationTest {
+    @Test
+    void workersAreNotPinnedByDefault() {
+        final var configuration = ProactorConfiguration.configuration();
+
+        assertEquals(UringSetupParams.NO_CPU, configuration.workerCpu(0));
+        assertEquals(UringSetupParams.NO_CPU, configuration.workerCpu(5));
+        assertSame(configuration, configuration.forWorker(3));
+    }
+
+    @Test
+    void workerCpusAreAssignedRoundRobin() {
+        final var configuration = ProactorConfiguration.configuration()
+                                                       .and(props -> props.workerCpus = new int[]{2, 4, 6});
+
+        assertEquals(2, configuration.workerCpu(0));
+        assertEquals(6, configuration.workerCpu(2));
+        assertEquals(2, configuration.workerCpu(3));
+    }
+
+    @Test
+    void pollerCpuIsSelectedPerWorker() {
+        final var configuration = ProactorConfiguration.configuration()
+                                                       .and(props -> {
+                                                           props.sqPoll = true;
+                                                           props.sqPollCpus = new int[]{1, 3};
+                                                       });
+
+        assertEquals(1, configuration.forWorker(0).setupParams().sqThreadCpu());
+        assertEquals(3, configuration.forWorker(1).setupParams().sqThreadCpu());
+        assertEquals(1, configuration.forWorker(2).setupParams().sqThreadCpu());
+    }
+
+    @Test
+    void cpuListsAreNotSharedBetweenCopies() {
+        final var configuration = ProactorConfiguration.configuration()
+                                                       .and(props -> props.workerCpus = new int[]{1, 2});
+        final var modified = configuration.and(props -> props.workerCpus[0] = 7);
+
+        assertEquals(1, configuration.workerCpu(0));
+        assertEquals(7, modified.workerCpu(0));
+    }
+}
@@ -19,34 +19,55 @@ package org.reactivetoolbox.io;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.reactivetoolbox.core.lang.functional.Result;
+import org.reactivetoolbox.core.lang.functional.Unit;
+import org.reactivetoolbox.io.async.ChainResult;
+import org.reactivetoolbox.io.async.OperationChain;
 import org.reactivetoolbox.io.async.Promise;
 import org.reactivetoolbox.io.async.common.OffsetT;
+import org.reactivetoolbox.io.async.common.SizeT;
+import org.reactivetoolbox.io.async.file.FallocateMode;
+import org.reactivetoolbox.io.async.file.FileAdvice;
+import org.reactivetoolbox.io.async.file.FileDescriptor;
 import org.reactivetoolbox.io.async.file.FilePermission;
 import org.reactivetoolbox.io.async.file.OpenFlags;
+import org.reactivetoolbox.io.async.file.SyncRangeFlags;
 import org.reactivetoolbox.io.async.net.AddressFamily;
+import org.reactivetoolbox.io.async.net.ClientConnection;
 import org.reactivetoolbox.io.async.net.InetPort;
+import org.reactivetoolbox.io.async.net.MessageFlags;
 import org.reactivetoolbox.io.async.net.SocketAddressIn;
 import org.reactivetoolbox.io.async.net.SocketFlag;
 import org.reactivetoolbox.io.async.net.SocketOption;
 import org.reactivetoolbox.io.async.net.SocketType;
+import org.reactivetoolbox.io.async.net.context.ServerContext;
+import org.reactivetoolbox.io.async.util.DatagramBatch;
+import org.reactivetoolbox.io.async.util.MemoryAdvice;
 import org.reactivetoolbox.io.async.util.OffHeapBuffer;
+import org.reactivetoolbox.io.async.util.ProvidedBuffer;
 
+import java.io.IOException;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.reactivetoolbox.core.lang.Tuple.tuple;
 import static org.reactivetoolbox.core.lang.functional.Option.empty;
 import static org.reactivetoolbox.core.lang.functional.Option.option;
 import static org.reactivetoolbox.io.async.Promise.promise;
+import static org.reactivetoolbox.io.async.common.SizeT.sizeT;
 import static org.reactivetoolbox.io.async.net.Inet4Address.inet4Address;
 import static org.reactivetoolbox.io.scheduler.Timeout.timeout;
+import static org.reactivetoolbox.io.uring.AsyncOperation.IORING_OP_NOP;
 
 //TODO: remaining tests
 class ProactorTest {
@@ -63,6 +84,214 @@ class ProactorTest {
         finalResult.get().onFailure($ -> fail());
     }
 
+    @Test
+    void nopCanBeSubmittedWithSqPoll() {
+        final var sqPollProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                          .and(props -> props.sqPoll = true));
+        try {
+            final var finalResult = new AtomicReference<Result<?>>();
+            final var promise = sqPollProactor.nop(promise())
+                                              .onResult(finalResult::set);
+            waitForResult(sqPollProactor, promise);
+            finalResult.get().onFailure($ -> fail());
+        } finally {
+            sqPollProactor.close();
+        }
+    }
+
+    @Test
+    void metricsAreCollectedWhenEnabled() {
+        assertEquals(empty(), proactor.metrics());
+
+        final var measuredProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                            .and(props -> props.collectMetrics = true));
+        try {
+            final var finalResult = new AtomicReference<Result<?>>();
+            final var promise = measuredProactor.nop(promise())
+                                                .onResult(finalResult::set);
+            waitForResult(measuredProactor, promise);
+            finalResult.get().onFailure($ -> fail());
+
+            measuredProactor.metrics()
+                            .whenEmpty(Assertions::fail)
+                            .whenPresent(snapshot -> {
+                                assertEquals(1, snapshot.queueWait().count());
+                                assertEquals(0, snapshot.completionQueueOverflow());
+                                snapshot.latency(IORING_OP_NOP)
+                                        .whenEmpty(Assertions::fail)
+                                        .whenPresent(histogram -> assertEquals(1, histogram.count()));
+                            });
+        } finally {
+            measuredProactor.close();
+        }
+    }
+
+    @Test
+    void fileCanBeReadByAttachedProactor() {
+        final var sharedProactor = Proactor.proactor(ProactorConfiguration.configuration(), proactor);
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fixedSize(1024 * 1024)) {
+            final var finalResult = new AtomicReference<Result<?>>();
+            final var promise = sharedProactor.open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                                    EnumSet.of(OpenFlags.READ_ONLY),
+                                                    EnumSet.noneOf(FilePermission.class),
+                                                    empty())
+                                              .flatMap(fd -> sharedProactor.read(fd, buffer, OffsetT.ZERO, empty())
+                                                                           .onResult(v -> v.onSuccess(sz -> assertTrue(sz.value() > 0)))
+                                                                           .flatMap($ -> sharedProactor.closeFileDescriptor(fd, empty())))
+                                              .onResult(finalResult::set);
+
+            waitForResult(sharedProactor, promise);
+            finalResult.get().onFailure($ -> fail());
+            assertTrue(sharedProactor.ringFd() != proactor.ringFd());
+        } finally {
+            sharedProactor.close();
+        }
+    }
+
+    @Test
+    void memoryAdviceIsAppliedToUnalignedBuffer() {
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fixedSize(1024 * 1024 + 17)) {
+            final var finalResult = new AtomicReference<Result<?>>();
+            final var promise = proactor.madvise(buffer, MemoryAdvice.WILLNEED, empty())
+                                        .onResult(finalResult::set);
+            waitForResult(promise);
+            finalResult.get().onFailure($ -> fail());
+        }
+    }
+
+    @Test
+    void memoryAdviceForBufferWithoutWholePageCompletesImmediately() {
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fixedSize(64)) {
+            final var promise = proactor.madvise(buffer, MemoryAdvice.DONTNEED, empty());
+
+            assertTrue(promise.isResolved());
+            promise.onResult(result -> result.onFailure($ -> fail()));
+        }
+    }
+
+    @Test
+    void operationIsRejectedWhenInFlightLimitIsReached() {
+        final var limitedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                           .and(props -> props.inFlightLimit = 1));
+        try {
+            final var firstResult = new AtomicReference<Result<?>>();
+            final var secondResult = new AtomicReference<Result<?>>();
+            final var first = limitedProactor.nop(promise()).onResult(firstResult::set);
+            final var second = limitedProactor.nop(promise()).onResult(secondResult::set);
+
+            waitForResult(limitedProactor, first);
+            waitForResult(limitedProactor, second);
+
+            firstResult.get().onFailure($ -> fail());
+            secondResult.get()
+                        .onSuccess($ -> fail())
+                        .onFailure(failure -> assertEquals(NativeFailureType.EAGAIN.asFailure(), failure));
+            assertEquals(1, limitedProactor.overflowCounters().rejected());
+        } finally {
+            limitedProactor.close();
+        }
+    }
+
+    @Test
+    void batchIsCountedAsSeveralInFlightOperations() {
+        final var limitedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                           .and(props -> props.inFlightLimit = 2));
+        final var loopback = inet4Address(new byte[]{127, 0, 0, 1}).fold($ -> fail(), v -> v);
+        final var address = SocketAddressIn.create(InetPort.inetPort(13007), loopback);
+        final var server = new AtomicReference<Result<ServerContext<?>>>();
+
+        try (final var batch = DatagramBatch.datagramBatch(2, 64)) {
+            waitForResult(limitedProactor, limitedProactor.server(address, SocketType.DGRAM, SocketFlag.none(), SizeT.ZERO, SocketOption.reuseAll())
+                                                          .onResult(server::set));
+
+            final var socket = server.get().fold($ -> fail(), ServerContext::socket);
+
+            batch.add("first".getBytes(StandardCharsets.US_ASCII), address).onFailure($ -> fail());
+            batch.add("second".getBytes(StandardCharsets.US_ASCII), address).onFailure($ -> fail());
+
+            final var sent = new AtomicReference<Result<SizeT>>();
+            final var nop = limitedProactor.nop(promise());
+            final var send = limitedProactor.sendBatch(socket, batch, MessageFlags.none()).onResult(sent::set);
+
+            waitForResult(limitedProactor, nop);
+            waitForResult(limitedProactor, send);
+
+            assertEquals(NativeFailureType.EAGAIN.asResult(), sent.get());
+
+            waitForResult(limitedProactor, limitedProactor.sendBatch(socket, batch, MessageFlags.none()).onResult(sent::set));
+
+            assertEquals(Result.ok(sizeT(2)), sent.get());
+            waitForResult(limitedProactor, limitedProactor.closeFileDescriptor(socket, empty()));
+        } finally {
+            limitedProactor.close();
+        }
+    }
+
+    @Test
+    void operationIsDeferredWhenInFlightLimitIsReached() {
+        final var limitedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                           .and(props -> props.inFlightLimit = 1)
+                                                                           .and(props -> props.overflowPolicy = OverflowPolicy.DEFER));
+        try {
+            final var firstResult = new AtomicReference<Result<?>>();
+            final var secondResult = new AtomicReference<Result<?>>();
+            final var first = limitedProactor.nop(promise()).onResult(firstResult::set);
+            final var second = limitedProactor.nop(promise()).onResult(secondResult::set);
+
+            waitForResult(limitedProactor, first);
+            waitForResult(limitedProactor, second);
+
+            firstResult.get().onFailure($ -> fail());
+            secondResult.get().onFailure($ -> fail());
+            assertEquals(1, limitedProactor.overflowCounters().deferred());
+        } finally {
+            limitedProactor.close();
+        }
+    }
+
+    @Test
+    void operationIsRejectedWhenDeferredLimitIsReached() {
+        final var limitedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                           .and(props -> props.inFlightLimit = 1)
+                                                                           .and(props -> props.deferredLimit = 1)
+                                                                           .and(props -> props.overflowPolicy = OverflowPolicy.DEFER));
+        try {
+            final var thirdResult = new AtomicReference<Result<?>>();
+            final var first = limitedProactor.nop(promise());
+            final var second = limitedProactor.nop(promise());
+            final var third = limitedProactor.nop(promise()).onResult(thirdResult::set);
+
+            waitForResult(limitedProactor, third);
+            waitForResult(limitedProactor, first);
+            waitForResult(limitedProactor, second);
+
+            assertEquals(NativeFailureType.EAGAIN.asResult(), thirdResult.get());
+            assertEquals(1, limitedProactor.overflowCounters().deferred());
+            assertEquals(1, limitedProactor.overflowCounters().rejected());
+        } finally {
+            limitedProactor.close();
+        }
+    }
+
+    @Test
+    void blockedProactorCanBeWokenUpFromOtherThread() throws InterruptedException {
+        final var waker = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                return;
+            }
+            proactor.wakeup();
+        });
+
+        final var start = System.nanoTime();
+        waker.start();
+        proactor.waitForCompletions(timeout(10).seconds());
+        waker.join();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
     @Test
     void delayCanBeSubmitted() {
         final var finalResult = new AtomicReference<Result<Duration>>();
@@ -77,6 +306,26 @@ class ProactorTest {
                    .onSuccess(duration -> assertTrue(duration.compareTo(Duration.ofMillis(100)) > 0));
     }
 
+    @Test
+    void pendingOperationCanBeCancelled() {
+        final var delayResult = new AtomicReference<Result<Duration>>();
+        final var delay = proactor.delay(promise(), timeout(10).seconds())
+                                  .onResult(delayResult::set);
+        proactor.processIO();
+
+        final var cancelResult = new AtomicReference<Result<Unit>>();
+        final var cancel = proactor.cancel(promise(), delay)
+                                   .onResult(cancelResult::set);
+
+        waitForResult(cancel);
+        waitForResult(delay);
+
+        cancelResult.get().onFailure($ -> fail());
+        delayResult.get()
+                   .onSuccess($ -> fail())
+                   .onFailure(failure -> assertEquals(NativeFailureType.ECANCELED.asFailure(), failure));
+    }
+
     @Test
     void fileCanBeOpenedAndClosed() {
         final var finalResult = new AtomicReference<Result<?>>();
@@ -118,6 +367,441 @@ class ProactorTest {
         }
     }
 
+    @Test
+    void fileCanBeReadAndClosedByLinkedChain() {
+        final var finalResult = new AtomicReference<Result<ChainResult>>();
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fixedSize(1024)) {
+            final var promise = proactor.open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                              EnumSet.of(OpenFlags.READ_ONLY),
+                                              EnumSet.noneOf(FilePermission.class),
+                                              empty())
+                                        .onResult(v -> v.onFailure(f -> fail()))
+                                        .flatMap(fd -> proactor.submitChain(OperationChain.chain()
+                                                                                          .read(fd, buffer)
+                                                                                          .close(fd)))
+                                        .onResult(System.out::println)
+                                        .onResult(finalResult::set);
+
+            waitForResult(promise);
+            finalResult.get()
+                       .onFailure($ -> fail())
+                       .onSuccess(chainResult -> assertEquals(2, chainResult.size()))
+                       .onSuccess(chainResult -> assertTrue(chainResult.isSuccess()));
+            assertEquals(1024, buffer.used());
+        }
+    }
+
+    @Test
+    void fileCanBeOpenedReadAndClosedByLinkedChain() {
+        final var fixedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                         .and(props -> props.fixedFileCount = 4));
+        final var finalResult = new AtomicReference<Result<ChainResult>>();
+
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fixedSize(1024)) {
+            final var promise = fixedProactor.submitChain(OperationChain.chain()
+                                                                        .open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                                                              EnumSet.of(OpenFlags.READ_ONLY),
+                                                                              EnumSet.noneOf(FilePermission.class))
+                                                                        .read(OperationChain.OPENED, buffer)
+                                                                        .close(OperationChain.OPENED))
+                                             .onResult(finalResult::set);
+
+            waitForResult(fixedProactor, promise);
+            finalResult.get()
+                       .onFailure($ -> fail())
+                       .onSuccess(chainResult -> assertEquals(3, chainResult.size()))
+                       .onSuccess(chainResult -> assertTrue(chainResult.isSuccess()));
+        } finally {
+            fixedProactor.close();
+        }
+    }
+
+    @Test
+    void closeStepIsExecutedWhenPreviousStepFails() {
+        final var finalResult = new AtomicReference<Result<ChainResult>>();
+
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fromBytes("data".getBytes(StandardCharsets.US_ASCII))) {
+            final var promise = proactor.open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                              EnumSet.of(OpenFlags.READ_ONLY),
+                                              EnumSet.noneOf(FilePermission.class),
+                                              empty())
+                                        .onResult(v -> v.onFailure(f -> fail()))
+                                        .flatMap(fd -> proactor.submitChain(OperationChain.chain()
+                                                                                          .write(fd, buffer)
+                                                                                          .nop()
+                                                                                          .close(fd)))
+                                        .onResult(finalResult::set);
+
+            waitForResult(promise);
+
+            final var chainResult = finalResult.get().fold($ -> fail(), v -> v);
+
+            assertEquals(NativeFailureType.EBADF.asResult(), chainResult.step(0));
+            assertEquals(NativeFailureType.ECANCELED.asResult(), chainResult.step(1));
+            assertEquals(Result.ok(Unit.unit()), chainResult.step(2));
+        }
+    }
+
+    @Test
+    void writtenDataCanBeSynchronizedToStorage() {
+        final var finalResult = new AtomicReference<Result<ChainResult>>();
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fromBytes("durable record\n".getBytes(StandardCharsets.US_ASCII))) {
+            final var promise = proactor.open(Path.of("target/durability-test.log"),
+                                              EnumSet.of(OpenFlags.WRITE_ONLY, OpenFlags.CREATE, OpenFlags.TRUNCATE),
+                                              EnumSet.of(FilePermission.USER_R, FilePermission.USER_W),
+                                              empty())
+                                        .onResult(v -> v.onFailure(f -> fail()))
+                                        .flatMap(fd -> proactor.write(fd, buffer, OffsetT.ZERO, empty())
+                                                               .flatMap($ -> proactor.syncFileRange(fd, OffsetT.ZERO, SizeT.ZERO,
+                                                                                                    SyncRangeFlags.writeAndWait(), empty()))
+                                                               .flatMap($ -> proactor.fdatasync(fd, empty()))
+                                                               .flatMap($ -> proactor.submitChain(OperationChain.chain()
+                                                                                                                .write(fd, buffer, OffsetT.offsetT(buffer.used()))
+                                                                                                                .fsync(fd)
+                                                                                                                .close(fd))))
+                                        .onResult(System.out::println)
+                                        .onResult(finalResult::set);
+
+            waitForResult(promise);
+            finalResult.get()
+                       .onFailure($ -> fail())
+                       .onSuccess(chainResult -> assertTrue(chainResult.isSuccess()));
+        }
+    }
+
+    @Test
+    void fileSpaceCanBePreallocatedAndDroppedFromCache() throws IOException {
+        final var finalResult = new AtomicReference<Result<Unit>>();
+        final var path = Path.of("target/fallocate-test.dat");
+        final var size = SizeT.sizeT(1024 * 1024);
+        final var promise = proactor.open(path,
+                                          EnumSet.of(OpenFlags.WRITE_ONLY, OpenFlags.CREATE, OpenFlags.TRUNCATE),
+                                          EnumSet.of(FilePermission.USER_R, FilePermission.USER_W),
+                                          empty())
+                                    .onResult(v -> v.onFailure(f -> fail()))
+                                    .flatMap(fd -> proactor.fallocate(fd, FallocateMode.allocate(), OffsetT.ZERO, size, empty())
+                                                           .flatMap($ -> proactor.fadvise(fd, OffsetT.ZERO, SizeT.ZERO, FileAdvice.DONTNEED, empty()))
+                                                           .flatMap($ -> proactor.closeFileDescriptor(fd, empty())))
+                                    .onResult(System.out::println)
+                                    .onResult(finalResult::set);
+
+        waitForResult(promise);
+        finalResult.get().onFailure($ -> fail());
+        assertEquals(size.value(), Files.size(path));
+    }
+
+    @Test
+    void fixedFileCanBeReadAndClosed() {
+        final var finalResult = new AtomicReference<Result<?>>();
+        try (final OffHeapBuffer buffer = OffHeapBuffer.fixedSize(1024)) {
+            final var promise = proactor.open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                              EnumSet.of(OpenFlags.READ_ONLY),
+                                              EnumSet.noneOf(FilePermission.class),
+                                              empty())
+                                        .flatMap(fd -> proactor.registerFile(fd)
+                                                               .fold(Promise::readyFail, Promise::readyOk))
+                                        .onResult(v -> v.onSuccess(fd -> assertTrue(fd.isFixed()))
+                                                        .onFailure(f -> fail()))
+                                        .flatMap(fd -> proactor.read(fd, buffer, OffsetT.ZERO, empty()).map(sz -> tuple(fd, sz)))
+                                        .onResult(System.out::println)
+                                        .flatMap(fdSz -> fdSz.map((fd, sz) -> proactor.closeFileDescriptor(fd, empty())))
+                                        .onResult(finalResult::set);
+
+            waitForResult(promise);
+            finalResult.get().onFailure($ -> fail());
+        }
+    }
+
+    @Test
+    void fileCanBeReadIntoFixedBuffer() {
+        final var finalResult = new AtomicReference<Result<?>>();
+
+        final var fixedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                         .and(props -> {
+                                                                             props.fixedBufferCount = 2;
+                                                                             props.fixedBufferSize = 4096;
+                                                                         }));
+        try {
+            final var buffer = fixedProactor.fixedBuffer().otherwise(null);
+            assertNotNull(buffer);
+
+            final var promise = fixedProactor.open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                                   EnumSet.of(OpenFlags.READ_ONLY),
+                                                   EnumSet.noneOf(FilePermission.class),
+                                                   empty())
+                                             .flatMap(fd -> fixedProactor.readFixed(fd, buffer, OffsetT.ZERO, empty()).map(sz -> tuple(fd, sz)))
+                                             .onResult(System.out::println)
+                                             .onResult(v -> v.onSuccess(fdSz -> fdSz.map((fd, sz) -> {
+                                                 assertEquals(sz.value(), buffer.used());
+                                                 return fd;
+                                             })))
+                                             .flatMap(fdSz -> fdSz.map((fd, sz) -> fixedProactor.closeFileDescriptor(fd, empty())))
+                                             .onResult(finalResult::set);
+
+            waitForResult(fixedProactor, promise);
+            finalResult.get().onFailure($ -> fail());
+            buffer.dispose();
+        } finally {
+            fixedProactor.close();
+        }
+    }
+
+    @Test
+    void fileCanBeReadIntoProvidedBuffer() {
+        final var finalResult = new AtomicReference<Result<?>>();
+        final var providedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                            .and(props -> {
+                                                                                props.providedBufferCount = 4;
+                                                                                props.providedBufferSize = 1024;
+                                                                            }));
+        try {
+            final var promise = providedProactor.open(Path.of("target/classes/org/reactivetoolbox/io/Proactor.class"),
+                                                      EnumSet.of(OpenFlags.READ_ONLY),
+                                                      EnumSet.noneOf(FilePermission.class),
+                                                      empty())
+                                                .flatMap(fd -> providedProactor.readProvided(fd, OffsetT.ZERO, empty()).map(buffer -> tuple(fd, buffer)))
+                                                .onResult(System.out::println)
+                                                .onResult(v -> v.onSuccess(fdBuf -> fdBuf.map((fd, buffer) -> {
+                                                    assertEquals(1024, buffer.used());
+                                                    buffer.dispose();
+                                                    return fd;
+                                                })))
+                                                .flatMap(fdBuf -> fdBuf.map((fd, buffer) -> providedProactor.closeFileDescriptor(fd, empty())))
+                                                .onResult(finalResult::set);
+
+            waitForResult(providedProactor, promise);
+            finalResult.get().onFailure($ -> fail());
+        } finally {
+            providedProactor.close();
+        }
+    }
+
+    @Test
+    void datagramsCanBeSentAndReceivedInBatch() {
+        final var loopback = inet4Address(new byte[]{127, 0, 0, 1}).fold($ -> fail(), v -> v);
+        final var senderAddress = SocketAddressIn.create(InetPort.inetPort(13001), loopback);
+        final var receiverAddress = SocketAddressIn.create(InetPort.inetPort(13002), loopback);
+        final var sender = new AtomicReference<Result<ServerContext<?>>>();
+        final var receiver = new AtomicReference<Result<ServerContext<?>>>();
+
+        waitForResult(proactor.server(senderAddress, SocketType.DGRAM, SocketFlag.none(), SizeT.ZERO, SocketOption.reuseAll())
+                              .onResult(sender::set));
+        waitForResult(proactor.server(receiverAddress, SocketType.DGRAM, SocketFlag.none(), SizeT.ZERO, SocketOption.reuseAll())
+                              .onResult(receiver::set));
+
+        final var senderSocket = sender.get().fold($ -> fail(), ServerContext::socket);
+        final var receiverSocket = receiver.get().fold($ -> fail(), ServerContext::socket);
+
+        try (final var outgoing = DatagramBatch.datagramBatch(3, 64);
+             final var incoming = DatagramBatch.datagramBatch(4, 64)) {
+
+            for (int i = 0; i < outgoing.count(); i++) {
+                outgoing.add(("datagram " + i).getBytes(StandardCharsets.US_ASCII), receiverAddress)
+                        .onFailure($ -> fail());
+            }
+
+            final var sent = new AtomicReference<Result<SizeT>>();
+            waitForResult(proactor.sendBatch(senderSocket, outgoing, MessageFlags.none()).onResult(sent::set));
+            assertEquals(Result.ok(sizeT(3)), sent.get());
+
+            final var received = new AtomicReference<Result<SizeT>>();
+            waitForResult(proactor.receiveBatch(receiverSocket, incoming, MessageFlags.none(), option(timeout(1).seconds()))
+                                  .onResult(received::set));
+            assertEquals(Result.ok(sizeT(3)), received.get());
+            assertEquals(3, incoming.used());
+
+            for (int i = 0; i < incoming.used(); i++) {
+                assertEquals("datagram " + i, new String(incoming.data(i), StandardCharsets.US_ASCII));
+                assertEquals(senderAddress.toString(), incoming.peer(i).fold($ -> fail(), Object::toString));
+            }
+        } finally {
+            waitForResult(proactor.closeFileDescriptor(senderSocket, empty()));
+            waitForResult(proactor.closeFileDescriptor(receiverSocket, empty()));
+        }
+    }
+
+    @Test
+    void severalConnectionsCanBeAcceptedBySingleMultishotAccept() throws IOException {
+        final var serverSocket = listen(13003);
+        final var accepted = new ArrayList<Result<ClientConnection<?>>>();
+        final var clients = new ArrayList<java.net.Socket>();
+
+        try {
+            final var stop = proactor.acceptMultishot((result, submitter) -> accepted.add(result), serverSocket, SocketFlag.closeOnExec());
+
+            for (int i = 0; i < 3; i++) {
+                clients.add(new java.net.Socket("127.0.0.1", 13003));
+            }
+
+            for (int i = 0; i < 1000 && accepted.size() < 3; i++) {
+                proactor.processIO();
+            }
+
+            assertEquals(3, accepted.size());
+
+            for (final var result : accepted) {
+                final var connection = result.fold($ -> fail(), v -> v);
+
+                assertNotNull(connection.address());
+                waitForResult(proactor.closeFileDescriptor(connection.socket(), empty()));
+            }
+
+            final var cancelResult = new AtomicReference<Result<Unit>>();
+            stop.cancel();
+            waitForResult(proactor.cancel(promise(), stop).onResult(cancelResult::set));
+            cancelResult.get().onFailure($ -> fail());
+
+            for (int i = 0; i < 1000 && accepted.size() < 4; i++) {
+                proactor.processIO();
+            }
+
+            assertEquals(4, accepted.size());
+            assertEquals(NativeFailureType.ECANCELED.asResult(), accepted.get(3));
+        } finally {
+            for (final var client : clients) {
+                client.close();
+            }
+            waitForResult(proactor.closeFileDescriptor(serverSocket, empty()));
+        }
+    }
+
+    @Test
+    void dataAndEofCanBeReceivedBySingleMultishotReceive() throws IOException {
+        final var providedProactor = Proactor.proactor(ProactorConfiguration.configuration()
+                                                                            .and(props -> {
+                                                                                props.providedBufferCount = 4;
+                                                                                props.providedBufferSize = 1024;
+                                                                            }));
+        final var loopback = inet4Address(new byte[]{127, 0, 0, 1}).fold($ -> fail(), v -> v);
+        final var serverAddress = SocketAddressIn.create(InetPort.inetPort(13004), loopback);
+        final var server = new AtomicReference<Result<ServerContext<?>>>();
+
+        try {
+            waitForResult(providedProactor, providedProactor.server(serverAddress, SocketType.STREAM, SocketFlag.none(), sizeT(16),
+                                                                    SocketOption.reuseAll())
+                                                            .onResult(server::set));
+
+            final var serverSocket = server.get().fold($ -> fail(), ServerContext::socket);
+
+            try (final var client = new java.net.Socket("127.0.0.1", 13004)) {
+                final var connection = new AtomicReference<Result<ClientConnection<?>>>();
+                waitForResult(providedProactor, providedProactor.accept(serverSocket, SocketFlag.closeOnExec()).onResult(connection::set));
+
+                final var socket = connection.get().fold($ -> fail(), ClientConnection::socket);
+                final var received = new StringBuilder();
+                final var termination = new AtomicReference<Result<ProvidedBuffer>>();
+                final var stopResult = new AtomicReference<Result<Unit>>();
+
+                final var stop = providedProactor.receiveMultishot((result, submitter) -> result.onFailure($ -> termination.set(result))
+                                                                                               .onSuccess(buffer -> {
+                                                                                                   received.append(new String(buffer.export(),
+                                                                                                                              StandardCharsets.US_ASCII));
+                                                                                                   buffer.dispose();
+                                                                                               }),
+                                                                   socket)
+                                                 .onResult(stopResult::set);
+
+                client.getOutputStream().write("first".getBytes(StandardCharsets.US_ASCII));
+                client.getOutputStream().flush();
+
+                for (int i = 0; i < 1000 && received.length() < 5; i++) {
+                    providedProactor.processIO();
+                }
+
+                assertEquals("first", received.toString());
+
+                client.getOutputStream().write("second".getBytes(StandardCharsets.US_ASCII));
+                client.shutdownOutput();
+
+                waitForResult(providedProactor, stop);
+
+                assertEquals("firstsecond", received.toString());
+                assertEquals(NativeFailureType.ENODATA.asResult(), termination.get());
+                assertEquals(NativeFailureType.ENODATA.asResult(), stopResult.get());
+
+                waitForResult(providedProactor, providedProactor.closeFileDescriptor(socket, empty()));
+            } finally {
+                waitForResult(providedProactor, providedProactor.closeFileDescriptor(serverSocket, empty()));
+            }
+        } finally {
+            providedProactor.close();
+        }
+    }
+
+    @Test
+    void dataCanBeSentWithMoreAndReceived() throws IOException {
+        final var serverSocket = listen(13005);
+
+        try (final var client = new java.net.Socket("127.0.0.1", 13005);
+             final var hello = OffHeapBuffer.fromBytes("hello ".getBytes(StandardCharsets.US_ASCII));
+             final var world = OffHeapBuffer.fromBytes("world".getBytes(StandardCharsets.US_ASCII));
+             final var incoming = OffHeapBuffer.fixedSize(64)) {
+
+            final var socket = acceptOne(serverSocket);
+
+            try {
+                final var first = new AtomicReference<Result<SizeT>>();
+                final var second = new AtomicReference<Result<SizeT>>();
+
+                proactor.send(socket, hello, EnumSet.of(MessageFlags.MORE, MessageFlags.NOSIGNAL), empty()).onResult(first::set);
+                waitForResult(proactor.send(socket, world, EnumSet.of(MessageFlags.NOSIGNAL), empty()).onResult(second::set));
+
+                assertEquals(Result.ok(sizeT(6)), first.get());
+                assertEquals(Result.ok(sizeT(5)), second.get());
+
+                final var sent = new byte[11];
+                new java.io.DataInputStream(client.getInputStream()).readFully(sent);
+                assertEquals("hello world", new String(sent, StandardCharsets.US_ASCII));
+
+                client.getOutputStream().write("ping".getBytes(StandardCharsets.US_ASCII));
+                client.getOutputStream().flush();
+
+                final var received = new AtomicReference<Result<SizeT>>();
+                incoming.clear().used(incoming.size());
+                waitForResult(proactor.recv(socket, incoming, MessageFlags.none(), option(timeout(1).seconds())).onResult(received::set));
+
+                assertEquals(Result.ok(sizeT(4)), received.get());
+                assertEquals("ping", new String(incoming.export(), StandardCharsets.US_ASCII));
+            } finally {
+                waitForResult(proactor.closeFileDescriptor(socket, empty()));
+            }
+        } finally {
+            waitForResult(proactor.closeFileDescriptor(serverSocket, empty()));
+        }
+    }
+
+    @Test
+    void sendToClosedConnectionFailsWithEpipeWithoutSignal() throws IOException {
+        final var serverSocket = listen(13006);
+
+        try (final var data = OffHeapBuffer.fromBytes("data".getBytes(StandardCharsets.US_ASCII))) {
+            final var client = new java.net.Socket("127.0.0.1", 13006);
+            final var socket = acceptOne(serverSocket);
+
+            //Abortive close resets connection, so following sends fail
+            client.setSoLinger(true, 0);
+            client.close();
+
+            try {
+                final var result = new AtomicReference<Result<SizeT>>();
+
+                for (int i = 0; i < 10; i++) {
+                    waitForResult(proactor.send(socket, data, EnumSet.of(MessageFlags.NOSIGNAL), empty()).onResult(result::set));
+
+                    if (result.get().equals(NativeFailureType.EPIPE.asResult())) {
+                        break;
+                    }
+                }
+
+                assertEquals(NativeFailureType.EPIPE.asResult(), result.get());
+            } finally {
+                waitForResult(proactor.closeFileDescriptor(socket, empty()));
+            }
+        } finally {
+            waitForResult(proactor.closeFileDescriptor(serverSocket, empty()));
+        }
+    }
+
     @Test
     void externalHostCanBeConnectedAndRead() throws UnknownHostException {
         final var finalResult = new AtomicReference<Result<?>>();
@@ -156,7 +840,30 @@ class ProactorTest {
         }
     }
 
+    private FileDescriptor listen(final int port) {
+        final var loopback = inet4Address(new byte[]{127, 0, 0, 1}).fold($ -> fail(), v -> v);
+        final var server = new AtomicReference<Result<ServerContext<?>>>();
+
+        waitForResult(proactor.server(SocketAddressIn.create(InetPort.inetPort(port), loopback), SocketType.STREAM, SocketFlag.none(),
+                                      sizeT(16), SocketOption.reuseAll())
+                              .onResult(server::set));
+
+        return server.get().fold($ -> fail(), ServerContext::socket);
+    }
+
+    private FileDescriptor acceptOne(final FileDescriptor serverSocket) {
+        final var connection = new AtomicReference<Result<ClientConnection<?>>>();
+
+        waitForResult(proactor.accept(serverSocket, SocketFlag.closeOnExec()).onResult(connection::set));
+
+        return connection.get().fold($ -> fail(), ClientConnection::socket);
+    }
+
     private void waitForResult(final Promise<?> promise) {
+        waitForResult(proactor, promise);
+    }
+
+    private void waitForResult(final Proactor proactor, final Promise<?> promise) {
         final AtomicBoolean ready = new AtomicBoolean(false);
 
         promise.onResult(v -> ready.lazySet(true));
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.async.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.reactivetoolbox.io.async.util.MpscArrayQueue.mpscArrayQueue;
+
+class MpscArrayQueueTest {
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(2, mpscArrayQueue(1).capacity());
+        assertEquals(8, mpscArrayQueue(5).capacity());
+        assertEquals(1024, mpscArrayQueue(1024).capacity());
+    }
+
+    @Test
+    void elementsAreDrainedInOrderOfInsertion() {
+        final var queue = MpscArrayQueue.<Integer>mpscArrayQueue(4);
+        final var result = new ArrayList<Integer>();
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(queue.offer(round * 3 + i));
+            }
+            assertEquals(3, queue.size());
+            assertEquals(3, queue.drain(result::add));
+            assertTrue(queue.isEmpty());
+        }
+
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(i, result.get(i));
+        }
+    }
+
+    @Test
+    void offerFailsWhenQueueIsFullAndSucceedsOnceSpaceIsFreed() {
+        final var queue = MpscArrayQueue.<Integer>mpscArrayQueue(4);
+        final var result = new ArrayList<Integer>();
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+
+        assertEquals(2, queue.drain(result::add, 2));
+        assertEquals(List.of(0, 1), result);
+
+        assertTrue(queue.offer(4));
+        assertTrue(queue.offer(5));
+        assertFalse(queue.offer(6));
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void elementsFromConcurrentProducersAreNotLostOrDuplicated() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = 100_000;
+        final var queue = MpscArrayQueue.<Integer>mpscArrayQueue(256);
+        final var start = new CountDownLatch(1);
+        final var seen = new int[producers * perProducer];
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            final var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        start.countDown();
+
+        int received = 0;
+        final var lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+
+        while (received < seen.length) {
+            received += queue.drain(value -> {
+                seen[value]++;
+                //Elements of the single producer must preserve order
+                final int producer = value / perProducer;
+                assertTrue(value > lastSeen[producer]);
+                lastSeen[producer] = value;
+            });
+        }
+
+        for (final int count : seen) {
+            assertEquals(1, count);
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.async.util;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Control;
+
+import static org.reactivetoolbox.io.async.util.MpscArrayQueue.mpscArrayQueue;
+import static org.reactivetoolbox.io.async.util.StackingCollector.stackingCollector;
+
+/**
+ * Comparison of the worker pipeline implementations: three producers push tasks while single consumer drains them, as worker does.
+ * Run with {@code -prof gc} to compare allocation rate.
+ */
+@Disabled
+public class TaskPipelinePerformanceTest {
+    private static final Runnable TASK = () -> {};
+
+    @Test
+    void testPerformance() throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{TaskPipelinePerformanceTest.class.getSimpleName()});
+    }
+
+    @State(Scope.Group)
+    public static class StackingPlan {
+        public final StackingCollector<Runnable> collector = stackingCollector();
+    }
+
+    @State(Scope.Group)
+    public static class RingPlan {
+        public final MpscArrayQueue<Runnable> queue = mpscArrayQueue(64 * 1024);
+    }
+
+    @Fork(1)
+    @Benchmark
+    @Group("stacking")
+    @GroupThreads(3)
+    @BenchmarkMode(Mode.Throughput)
+    public void stackingPush(final StackingPlan plan) {
+        plan.collector.push(TASK);
+    }
+
+    @Fork(1)
+    @Benchmark
+    @Group("stacking")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    public int stackingDrain(final StackingPlan plan) {
+        var head = plan.collector.swapHead();
+        int count = 0;
+
+        while (head != null) {
+            head.element.run();
+            head = head.nextNode;
+            count++;
+        }
+        return count;
+    }
+
+    @Fork(1)
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(3)
+    @BenchmarkMode(Mode.Throughput)
+    public void ringPush(final RingPlan plan, final Control control) {
+        //Offer is retried until it succeeds, so only added tasks are counted. Retrying stops with the measurement, otherwise producers
+        //may hang once consumer is stopped at the end of iteration
+        while (!plan.queue.offer(TASK)) {
+            if (control.stopMeasurement) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Fork(1)
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    public int ringDrain(final RingPlan plan) {
+        return plan.queue.drain(Runnable::run);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.reactivetoolbox.io.metrics.LatencyHistogram.latencyHistogram;
+
+class LatencyHistogramTest {
+    @Test
+    void bucketsCoverWholeRangeWithoutGaps() {
+        for (int i = 0; i < 487; i++) {
+            assertEquals(LatencyHistogram.upperBound(i) + 1, LatencyHistogram.lowerBound(i + 1));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.lowerBound(i)));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.upperBound(i)));
+        }
+        assertEquals(487, LatencyHistogram.index(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentilesAreReportedWithBoundedError() {
+        final var histogram = latencyHistogram();
+
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertEquals(10_000_000, histogram.max());
+        assertEquals(5_000_500, histogram.mean());
+
+        final long p50 = histogram.percentile(50.0);
+        final long p99 = histogram.percentile(99.0);
+
+        assertTrue(p50 >= 5_000_000 && p50 <= 5_000_000 * 1.125, "p50: " + p50);
+        assertTrue(p99 >= 9_900_000 && p99 <= 10_000_000, "p99: " + p99);
+        assertEquals(10_000_000, histogram.percentile(100.0));
+    }
+
+    @Test
+    void histogramsCanBeMerged() {
+        final var first = latencyHistogram();
+        final var second = latencyHistogram();
+
+        first.record(100);
+        second.record(200);
+        second.record(-1);
+
+        final var merged = first.copy().add(second);
+
+        assertEquals(1, first.count());
+        assertEquals(3, merged.count());
+        assertEquals(200, merged.max());
+        assertEquals(0, merged.percentile(0.0));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.reactivetoolbox.io.scheduler.Timeout.timeout;
+
+class IdleStrategyTest {
+    @Test
+    void spinThenYieldYieldsAfterSpinning() {
+        final var strategy = IdleStrategy.spinThenYield(4);
+
+        for (int i = 0; i < 8; i++) {
+            strategy.idle(0, null);
+        }
+        strategy.idle(1, null);
+
+        final var metrics = strategy.metrics();
+        assertEquals(1, metrics.busyCycles());
+        assertEquals(8, metrics.idleCycles());
+        assertEquals(6, metrics.spins());
+        assertEquals(2, metrics.yields());
+    }
+
+    @Test
+    void backoffParkParksAfterSpinningAndYielding() {
+        final var strategy = IdleStrategy.backoffPark(2, 2, timeout(1).micros(), timeout(100).micros());
+
+        for (int i = 0; i < 10; i++) {
+            strategy.idle(0, null);
+        }
+
+        final var metrics = strategy.metrics();
+        assertEquals(2, metrics.spins());
+        assertEquals(2, metrics.yields());
+        assertEquals(6, metrics.parks());
+        assertTrue(metrics.idleNanos() > 0);
+    }
+
+    @Test
+    void workResetsBackoff() {
+        final var strategy = IdleStrategy.backoffPark(1, 0, timeout(1).micros(), timeout(10).micros());
+
+        strategy.idle(0, null);
+        strategy.idle(0, null);
+        strategy.idle(3, null);
+        strategy.idle(0, null);
+
+        final var metrics = strategy.metrics();
+        assertEquals(2, metrics.spins());
+        assertEquals(1, metrics.parks());
+        assertEquals(1, metrics.busyCycles());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.reactivetoolbox.io.async.Promise;
+import org.reactivetoolbox.io.scheduler.impl.PipelinedTaskScheduler;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.reactivetoolbox.core.lang.functional.Result.ok;
+
+class KeyAffinityTest {
+    @Test
+    void tasksWithSameKeyAreExecutedBySameWorker() throws InterruptedException {
+        final var scheduler = PipelinedTaskScheduler.with(4);
+        final var threads = ConcurrentHashMap.<Thread>newKeySet();
+        final var workers = ConcurrentHashMap.<Integer>newKeySet();
+        final var done = new CountDownLatch(100);
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                scheduler.submit("connection-42", () -> {
+                    threads.add(Thread.currentThread());
+                    workers.add(scheduler.currentWorker());
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1, threads.size());
+            assertEquals(Set.of(scheduler.workerFor("connection-42")), workers);
+            assertEquals(-1, scheduler.currentWorker());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void pinnedPromiseRunsContinuationsAtResolvingWorker() throws InterruptedException {
+        final var resolvingThread = new Thread[1];
+        final var continuationThreads = ConcurrentHashMap.<Thread>newKeySet();
+        final var done = new CountDownLatch(10);
+        final var promise = Promise.<Integer>pinnedPromise();
+
+        promise.async(p -> {
+            resolvingThread[0] = Thread.currentThread();
+            p.resolve(ok(1));
+        });
+
+        for (int i = 0; i < 10; i++) {
+            promise.onResult(result -> {
+                continuationThreads.add(Thread.currentThread());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Set.of(resolvingThread[0]), continuationThreads);
+    }
+
+    @Test
+    void pinnedPromiseResolvedSynchronouslyOutsideOfWorkerRunsContinuationsAtWorker() throws InterruptedException {
+        final var continuationThread = new AtomicReference<Thread>();
+        final var done = new CountDownLatch(1);
+        final var promise = Promise.<Integer>pinnedPromise();
+
+        promise.onResult(result -> {
+            continuationThread.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        promise.syncResolve(ok(1), null);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread(), continuationThread.get());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.reactivetoolbox.io.ProactorConfiguration;
+import org.reactivetoolbox.io.async.Submitter;
+import org.reactivetoolbox.io.scheduler.impl.PipelinedTaskScheduler;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSubmissionTest {
+    @Test
+    void tasksSubmittedByWorkerAreExecutedBySameWorker() throws InterruptedException {
+        final var scheduler = PipelinedTaskScheduler.with(4);
+        final var workers = ConcurrentHashMap.<Integer>newKeySet();
+        final var submitter = new int[1];
+        final var done = new CountDownLatch(100);
+
+        try {
+            scheduler.submit(() -> {
+                submitter[0] = scheduler.currentWorker();
+
+                for (int i = 0; i < 100; i++) {
+                    scheduler.submit(() -> {
+                        workers.add(scheduler.currentWorker());
+                        done.countDown();
+                    });
+                }
+            });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(Set.of(submitter[0]), workers);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void ioTasksResubmittedByWorkerDoNotRecurse() throws InterruptedException {
+        final var scheduler = PipelinedTaskScheduler.with(4);
+        final var done = new CountDownLatch(1);
+
+        try {
+            scheduler.submit(new Consumer<Submitter>() {
+                private int remaining = 100_000;
+
+                @Override
+                public void accept(final Submitter submitter) {
+                    if (--remaining == 0) {
+                        done.countDown();
+                    } else {
+                        scheduler.submit(this);
+                    }
+                }
+            });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void tasksAreDistributedWhenLocalQueueIsDisabled() throws InterruptedException {
+        final var configuration = ProactorConfiguration.configuration()
+                                                      .and(properties -> properties.localQueueLimit = 0);
+        final var scheduler = PipelinedTaskScheduler.with(4, configuration);
+        final var workers = ConcurrentHashMap.<Integer>newKeySet();
+        final var done = new CountDownLatch(100);
+
+        try {
+            scheduler.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    scheduler.submit(() -> {
+                        workers.add(scheduler.currentWorker());
+                        done.countDown();
+                    });
+                }
+            });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertTrue(workers.size() > 1, "Workers: " + workers);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.reactivetoolbox.io.scheduler.Timeout.timeout;
+
+class TimerWheelTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void timerExpiresNotEarlierThanRequested() {
+        final var wheel = TimerWheel.timerWheel();
+        final var counter = new AtomicInteger();
+
+        wheel.schedule(timeout(10).millis(), $ -> counter.incrementAndGet());
+
+        //Reference point is taken after scheduling, so slow first invocation does not shift deadline past checked points
+        final var start = System.nanoTime();
+
+        assertEquals(0, wheel.advance(start + 5 * MILLIS, null));
+        assertEquals(0, counter.get());
+        assertEquals(1, wheel.advance(start + 12 * MILLIS, null));
+        assertEquals(1, counter.get());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timersFromUpperLevelsAreExpiredInOrder() {
+        final var wheel = TimerWheel.timerWheel();
+        final var order = new ArrayList<Integer>();
+        final var start = System.nanoTime();
+        final List<Integer> delays = List.of(70_000, 300, 5, 256, 1_000, 65_536);
+
+        delays.forEach(delay -> wheel.schedule(timeout(delay).millis(), $ -> order.add(delay)));
+
+        for (long now = start; now <= start + 80_000 * MILLIS; now += 3 * MILLIS) {
+            wheel.advance(now, null);
+        }
+
+        assertEquals(List.of(5, 256, 300, 1_000, 65_536, 70_000), order);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledTimerIsNotExpired() {
+        final var wheel = TimerWheel.timerWheel();
+        final var counter = new AtomicInteger();
+        final var start = System.nanoTime();
+
+        final var timer = wheel.schedule(timeout(10).millis(), $ -> counter.incrementAndGet());
+        wheel.schedule(timeout(20).millis(), $ -> counter.incrementAndGet());
+
+        timer.cancel();
+
+        assertTrue(timer.isCancelled());
+        assertEquals(1, wheel.size());
+        assertEquals(1, wheel.advance(start + 30 * MILLIS, null));
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    void timerCancelledByOtherThreadIsRemovedByOwner() throws InterruptedException {
+        final var wheel = TimerWheel.timerWheel();
+        final var counter = new AtomicInteger();
+
+        final var timer = wheel.schedule(timeout(1).seconds(), $ -> counter.incrementAndGet());
+        final var canceller = new Thread(timer::cancel);
+
+        canceller.start();
+        canceller.join();
+
+        assertTrue(timer.isCancelled());
+        assertEquals(1, wheel.size());
+
+        wheel.advance(null);
+
+        assertEquals(0, wheel.size());
+        assertEquals(0, counter.get());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.reactivetoolbox.io.scheduler.impl.PipelinedTaskScheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkStealingTest {
+    @Test
+    void tasksQueuedBehindSlowTaskAreStolenByIdleWorker() throws InterruptedException {
+        final var scheduler = PipelinedTaskScheduler.with(2);
+        final int taskCount = 100;
+        final var remaining = new CountDownLatch(taskCount);
+        final var slowTaskStarted = new CountDownLatch(1);
+        final var slowTaskDone = new CountDownLatch(1);
+
+        try {
+            //Slow task occupies one worker until all other tasks are done, so half of them can be completed only by stealing
+            scheduler.submit(() -> {
+                slowTaskStarted.countDown();
+                try {
+                    remaining.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                slowTaskDone.countDown();
+            });
+
+            assertTrue(slowTaskStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 0; i < taskCount; i++) {
+                scheduler.submit(remaining::countDown);
+            }
+
+            assertTrue(remaining.await(5, TimeUnit.SECONDS));
+            assertTrue(slowTaskDone.await(5, TimeUnit.SECONDS));
+            assertTrue(scheduler.stealMetrics().stream().mapToLong(StealMetrics::steals).sum() > 0);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
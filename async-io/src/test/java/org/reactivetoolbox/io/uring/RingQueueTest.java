@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.uring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivetoolbox.io.raw.RawMemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RingQueueTest {
+    private static final int SIZE = 4;
+
+    private long counters;
+    private long layout;
+
+    // Counters emulate kernel-side ring indices: SQ head, SQ local tail, CQ head, CQ tail
+    @BeforeEach
+    void setUp() {
+        counters = RawMemory.allocate(16);
+        RawMemory.clear(counters, 16);
+        layout = RawMemory.allocate(Uring.RING_LAYOUT_SIZE);
+        RawMemory.putLong(layout, counters);
+        RawMemory.putLong(layout + 8, counters + 4);
+        RawMemory.putLong(layout + 16, 0x1000L);
+        RawMemory.putLong(layout + 24, SIZE - 1);
+        RawMemory.putLong(layout + 32, SIZE);
+        RawMemory.putLong(layout + 40, counters + 8);
+        RawMemory.putLong(layout + 48, counters + 12);
+        RawMemory.putLong(layout + 56, 0x2000L);
+        RawMemory.putLong(layout + 64, SIZE * 2 - 1);
+        RawMemory.putLong(layout + 72, SIZE * 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RawMemory.dispose(layout);
+        RawMemory.dispose(counters);
+    }
+
+    @Test
+    void submissionEntriesAreTakenUntilRingIsFull() {
+        final var queue = SubmissionQueue.submissionQueue(layout);
+
+        assertEquals(SIZE, queue.spaceLeft());
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(0x1000L + i * 64L, queue.nextEntry());
+        }
+
+        assertEquals(0, queue.spaceLeft());
+        assertEquals(0L, queue.nextEntry());
+
+        //Kernel consumes two entries, so ring wraps around
+        RawMemory.putInt(counters, 2);
+
+        assertEquals(2, queue.spaceLeft());
+        assertEquals(0x1000L, queue.nextEntry());
+        assertEquals(0x1040L, queue.nextEntry());
+        assertEquals(SIZE + 2, RawMemory.getInt(counters + 4));
+    }
+
+    @Test
+    void completionsAreReadInPlaceAndReturnedToKernel() {
+        final var queue = CompletionQueue.completionQueue(layout);
+
+        assertEquals(0, queue.ready(queue.head()));
+
+        //Kernel posts three completions
+        RawMemory.putInt(counters + 12, 3);
+
+        final int head = queue.head();
+        assertEquals(3, queue.ready(head));
+        assertEquals(0x2000L, queue.entryAt(head));
+        assertEquals(0x2020L, queue.entryAt(head + 2));
+        assertEquals(0x2000L, queue.entryAt(head + SIZE * 2));
+
+        queue.advance(head + 3);
+
+        assertEquals(3, RawMemory.getInt(counters + 8));
+        assertEquals(0, queue.ready(queue.head()));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Sergiy Yevtushenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.reactivetoolbox.io.uring.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectHeapTest {
+    @Test
+    void storedObjectsCanBeRetrievedAndReleased() {
+        final ObjectHeap<String> heap = ObjectHeap.objectHeap(2);
+        final var keys = new ArrayList<Long>();
+
+        for (int i = 0; i < 5; i++) {
+            keys.add(heap.allocKey("value" + i));
+        }
+
+        assertEquals(5, heap.count());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("value" + i, heap.get(keys.get(i)));
+            assertEquals("value" + i, heap.releaseUnsafe(keys.get(i)));
+        }
+
+        assertEquals(0, heap.count());
+    }
+
+    @Test
+    void staleKeyIsNotResolvedToObjectWhichReusesSlot() {
+        final ObjectHeap<String> heap = ObjectHeap.objectHeap();
+        final long staleKey = heap.allocKey("first");
+
+        assertEquals("first", heap.releaseUnsafe(staleKey));
+
+        final long freshKey = heap.allocKey("second");
+
+        assertEquals((int) staleKey, (int) freshKey);
+        assertNotEquals(staleKey, freshKey);
+
+        assertNull(heap.get(staleKey));
+        assertNull(heap.releaseUnsafe(staleKey));
+        assertEquals(1, heap.count());
+        assertEquals("second", heap.releaseUnsafe(freshKey));
+        assertNull(heap.releaseUnsafe(freshKey));
+    }
+
+    @Test
+    void unknownKeysAreRejected() {
+        final ObjectHeap<String> heap = ObjectHeap.objectHeap();
+        heap.allocKey("value");
+
+        assertNull(heap.get(-1L));
+        assertNull(heap.get(1L));
+        assertNull(heap.releaseUnsafe(1L << 32));
+        assertEquals(1, heap.count());
+    }
+
+    @Test
+    void anyMatchSkipsReleasedObjects() {
+        final ObjectHeap<String> heap = ObjectHeap.objectHeap();
+        final long key = heap.allocKey("first");
+        heap.allocKey("second");
+
+        assertTrue(heap.anyMatch("first"::equals));
+
+        heap.releaseUnsafe(key);
+
+        assertFalse(heap.anyMatch("first"::equals));
+        assertTrue(heap.anyMatch("second"::equals));
+    }
+}